@@ -0,0 +1,76 @@
+package com.prgrms.ijuju.global.auth;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 검증 처리량 비교 (매번 파서 생성 / 공유 파서 / 캐시 적중).
+ * ./gradlew jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenVerifierBenchmark {
+
+    private static final SecretKey KEY =
+            Keys.hmacShaKeyFor("benchmark-secret-key-for-token-verifier-0123456789".getBytes(StandardCharsets.UTF_8));
+    private static final int TOKENS = 1_000;
+
+    private String[] tokens;
+    private TokenVerifier verifier;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = Jwts.builder()
+                    .claim("data", Map.of("id", String.valueOf(i), "loginId", "user" + i, "authorities", List.of("ROLE_USER")))
+                    .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                    .signWith(KEY)
+                    .compact();
+        }
+
+        JwtParser parser = Jwts.parser().verifyWith(KEY).build();
+        verifier = new TokenVerifier(parser, TOKENS * 2L);
+        // 캐시 적중 측정을 위해 미리 한 번씩 검증해 둔다
+        for (String token : tokens) {
+            verifier.verify(token);
+        }
+    }
+
+    private String nextToken() {
+        next = (next + 1) % TOKENS;
+        return tokens[next];
+    }
+
+    @Benchmark
+    public VerifiedToken parserPerCall() {
+        return VerifiedToken.from(Jwts.parser().verifyWith(KEY).build().parseSignedClaims(nextToken()).getPayload());
+    }
+
+    @Benchmark
+    public VerifiedToken sharedParser() {
+        return VerifiedToken.from(verifier.decode(nextToken()));
+    }
+
+    @Benchmark
+    public VerifiedToken cached() {
+        return verifier.verify(nextToken());
+    }
+}
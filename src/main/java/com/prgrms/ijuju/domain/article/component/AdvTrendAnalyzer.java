@@ -2,7 +2,7 @@ package com.prgrms.ijuju.domain.article.component;
 
 import com.prgrms.ijuju.domain.article.data.DailyTrend;
 import com.prgrms.ijuju.domain.article.data.Trend;
-import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
@@ -21,8 +21,8 @@ import java.util.Map;
 public class AdvTrendAnalyzer {
 
 
-    public List<Trend> analyzeTrends(AdvStock advStock) {
-        Map<LocalDate, List<Double>> groupedData = groupByDate(advStock.getTimestamps(), advStock.getClosePrices());
+    public List<Trend> analyzeTrends(CandleSeries advStock) {
+        Map<LocalDate, List<Double>> groupedData = groupByDate(advStock);
 
         List<DailyTrend> dailyTrends = calculateDailyTrends(groupedData);
 
@@ -31,12 +31,12 @@ public class AdvTrendAnalyzer {
 
     // 한 시간 단위 데이터를 일 단위로 묶음
     // AdvStock 은 timeStamps 로 구분되어 있기에, LocalData 로 변환할 과정이 필요하기에 생성된 메소드 입니다
-    private Map<LocalDate, List<Double>> groupByDate(List<Long> timestamps, List<Double> closePrices) {
+    private Map<LocalDate, List<Double>> groupByDate(CandleSeries series) {
         Map<LocalDate, List<Double>> groupedData = new HashMap<>();
 
-        for (int i = 0; i < timestamps.size(); i++) {
-            LocalDate date = Instant.ofEpochMilli(timestamps.get(i)).atZone(ZoneId.systemDefault()).toLocalDate();
-            groupedData.computeIfAbsent(date, k -> new ArrayList<>()).add(closePrices.get(i));
+        for (int i = 0; i < series.size(); i++) {
+            LocalDate date = Instant.ofEpochMilli(series.timestampAt(i)).atZone(ZoneId.systemDefault()).toLocalDate();
+            groupedData.computeIfAbsent(date, k -> new ArrayList<>()).add(series.closeAt(i));
         }
 
         return groupedData;
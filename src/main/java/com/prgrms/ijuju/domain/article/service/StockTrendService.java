@@ -6,8 +6,8 @@ import com.prgrms.ijuju.domain.article.data.Trend;
 import com.prgrms.ijuju.domain.article.exception.ArticleErrorCode;
 import com.prgrms.ijuju.domain.article.exception.ArticleNotFoundException;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
-import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
-import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockResponse;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
@@ -28,7 +28,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class StockTrendService {
 
-    private final AdvStockRepository advStockRepository;
+    private final AdvStockService advStockService;
     private final AdvTrendAnalyzer advTrendAnalyzer;
 
     private final MidStockRepository midStockRepository;
@@ -38,7 +38,7 @@ public class StockTrendService {
 
     @Transactional(readOnly = true)
     public List<Trend> analyzeTrendsForAdvStock() {
-        List<AdvStock> forecastStocks = advStockRepository.findByDataType(DataType.FORECAST);
+        List<CandleSeries> forecastStocks = advStockService.findSeriesByDataType(DataType.FORECAST);
 
         return forecastStocks.stream()
                 .flatMap(stock -> advTrendAnalyzer.analyzeTrends(stock).stream())
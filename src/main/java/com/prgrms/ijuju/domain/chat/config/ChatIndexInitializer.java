@@ -0,0 +1,39 @@
+package com.prgrms.ijuju.domain.chat.config;
+
+import com.prgrms.ijuju.domain.chat.entity.Chat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 커서 조회용 인덱스 생성.
+ * 자동 인덱스 생성이 꺼져 있으므로 기동 시 (room_id, _id desc) 복합 인덱스를 직접 만든다. 이미 있으면 아무 것도 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatIndexInitializer {
+
+    static final String ROOM_CURSOR_INDEX = "room_id_1__id_-1";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            mongoTemplate.indexOps(Chat.class).ensureIndex(new Index()
+                    .on("room_id", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.DESC)
+                    .named(ROOM_CURSOR_INDEX));
+            log.info("채팅 메시지 인덱스 확인 완료: {}", ROOM_CURSOR_INDEX);
+        } catch (DataAccessException e) {
+            log.error("채팅 메시지 인덱스 생성 실패: {}", ROOM_CURSOR_INDEX, e);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.prgrms.ijuju.domain.chat.config;
+
+import com.mongodb.DBRef;
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 채팅방 문서에 남아 있는 메시지 목록(chat 필드)을 chat 컬렉션으로 옮긴다.
+ * 서비스 중에도 실행할 수 있도록 방 하나씩, 방 안에서도 $slice 로 batch-size 개씩 나눠 읽고
+ * 모두 옮긴 뒤에 마지막 메시지 정보를 채우고 chat 필드를 지운다. 옮긴 메시지는 _id 기준 upsert 라 다시 실행해도 안전하다.
+ * DBRef 로 저장된 항목은 이미 chat 컬렉션에 있으므로 room_id 만 보정한다.
+ * 옮기는 동안 메시지의 읽음 표시(is_read)로 참여자별 읽지 않은 수를 세어, chat 필드를 지우는 같은 업데이트에서
+ * unread_counts 에 더한다. 이전 이후에 온 메시지는 전송 시 증가분으로 이미 세어져 있으므로 덮어쓰지 않고 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmbeddedChatMigration {
+
+    private static final String ROOM_COLLECTION = "chatroom";
+    private static final String CHAT_COLLECTION = "chat";
+    private static final String EMBEDDED_FIELD = "chat";
+    private static final String UNREAD_COUNTS = "unread_counts.";
+    private static final int ROOMS_PER_QUERY = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final MemberRepository memberRepository;
+
+    @Value("${chat.migration.embedded-messages:true}")
+    private boolean enabled;
+
+    @Value("${chat.migration.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<Object> failed = new HashSet<>();
+        int rooms = 0;
+        long messages = 0;
+        while (true) {
+            List<Object> roomIds = findPendingRoomIds(failed);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+            for (Object roomId : roomIds) {
+                try {
+                    messages += migrateRoom(roomId);
+                    rooms++;
+                } catch (DataAccessException e) {
+                    failed.add(roomId);
+                    log.error("채팅방 메시지 이전 실패 - roomId: {}", roomId, e);
+                }
+            }
+        }
+        if (rooms > 0 || !failed.isEmpty()) {
+            log.info("채팅방 메시지 이전 완료 - 방: {}, 메시지: {}, 실패: {}", rooms, messages, failed.size());
+        }
+    }
+
+    private List<Object> findPendingRoomIds(Set<Object> failed) {
+        Query query = Query.query(Criteria.where(EMBEDDED_FIELD).exists(true).and("_id").nin(failed))
+                .limit(ROOMS_PER_QUERY);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, ROOM_COLLECTION).stream()
+                .map(room -> room.get("_id"))
+                .toList();
+    }
+
+    private long migrateRoom(Object roomId) {
+        String roomIdValue = roomId.toString();
+        Participants participants = findParticipants(roomId);
+        Map<Long, Integer> unreadCounts = new HashMap<>();
+        long moved = 0;
+        for (int offset = 0; ; offset += batchSize) {
+            List<?> chunk = readChunk(roomId, offset);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            moved += moveChunk(roomIdValue, chunk, participants, unreadCounts);
+            if (chunk.size() < batchSize) {
+                break;
+            }
+        }
+        finishRoom(roomId, roomIdValue, unreadCounts);
+        return moved;
+    }
+
+    private Participants findParticipants(Object roomId) {
+        Query query = Query.query(Criteria.where("_id").is(roomId));
+        query.fields().include("member_id", "friend_id");
+        Document room = mongoTemplate.findOne(query, Document.class, ROOM_COLLECTION);
+        Long memberId = room != null ? toLong(room.get("member_id")) : null;
+        Long friendId = room != null ? toLong(room.get("friend_id")) : null;
+
+        Map<Long, String> loginIds = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        if (memberId != null) {
+            ids.add(memberId);
+        }
+        if (friendId != null) {
+            ids.add(friendId);
+        }
+        for (Member member : memberRepository.findAllById(ids)) {
+            loginIds.put(member.getId(), member.getLoginId());
+        }
+        return new Participants(memberId, loginIds.get(memberId), friendId, loginIds.get(friendId));
+    }
+
+    // 기존 ChatRoom.getUnreadCount 와 같은 기준: 삭제되지 않았고 읽지 않은, 상대방이 보낸 메시지
+    private static void countUnread(Document message, Participants participants, Map<Long, Integer> unreadCounts) {
+        if (Boolean.TRUE.equals(message.get("is_read")) || Boolean.TRUE.equals(message.get("is_deleted"))) {
+            return;
+        }
+        Long receiverId = participants.receiverOf(toLong(message.get("sender_id")), message.getString("sender_login_id"));
+        if (receiverId != null) {
+            unreadCounts.merge(receiverId, 1, Integer::sum);
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    // 방 문서 전체가 아니라 메시지 목록의 일부만 읽는다
+    private List<?> readChunk(Object roomId, int offset) {
+        Query query = Query.query(Criteria.where("_id").is(roomId));
+        query.fields().include("_id").slice(EMBEDDED_FIELD, offset, batchSize);
+        Document room = mongoTemplate.findOne(query, Document.class, ROOM_COLLECTION);
+        if (room == null || !(room.get(EMBEDDED_FIELD) instanceof List<?> chunk)) {
+            return List.of();
+        }
+        return chunk;
+    }
+
+    private int moveChunk(String roomId, List<?> chunk, Participants participants, Map<Long, Integer> unreadCounts) {
+        List<Object> referencedIds = new ArrayList<>();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CHAT_COLLECTION);
+        int embedded = 0;
+
+        for (Object entry : chunk) {
+            if (entry instanceof DBRef ref) {
+                referencedIds.add(ref.getId());
+            } else if (entry instanceof Document message) {
+                countUnread(message, participants, unreadCounts);
+                Object id = message.containsKey("_id") ? message.get("_id") : new ObjectId();
+                Update update = new Update().setOnInsert("room_id", roomId);
+                message.forEach((field, value) -> {
+                    if (!"_id".equals(field) && !"room_id".equals(field)) {
+                        update.setOnInsert(field, value);
+                    }
+                });
+                // 이미 chat 컬렉션에 있는 메시지는 그쪽 상태를 유지한다
+                bulk.upsert(Query.query(Criteria.where("_id").is(id)), update);
+                embedded++;
+            }
+        }
+
+        if (embedded > 0) {
+            bulk.execute();
+        }
+        if (!referencedIds.isEmpty()) {
+            mongoTemplate.updateMulti(
+                    Query.query(Criteria.where("_id").in(referencedIds).and("room_id").exists(false)),
+                    new Update().set("room_id", roomId), CHAT_COLLECTION);
+
+            // 참조된 메시지의 읽음 표시는 chat 컬렉션에 있다
+            Query unreadQuery = Query.query(Criteria.where("_id").in(referencedIds));
+            unreadQuery.fields().include("is_read", "is_deleted", "sender_id", "sender_login_id");
+            mongoTemplate.find(unreadQuery, Document.class, CHAT_COLLECTION)
+                    .forEach(message -> countUnread(message, participants, unreadCounts));
+        }
+        return embedded + referencedIds.size();
+    }
+
+    // 마지막 메시지 정보가 없던 방은 chat 컬렉션의 최신 메시지로 채우고 메시지 목록을 지운다
+    // 읽지 않은 수는 메시지 목록을 지우는 업데이트에서 함께 더하므로 다시 실행해도 두 번 더해지지 않는다
+    private void finishRoom(Object roomId, String roomIdValue, Map<Long, Integer> unreadCounts) {
+        Query latestQuery = Query.query(Criteria.where("room_id").is(roomIdValue))
+                .with(Sort.by(Sort.Direction.DESC, "_id"))
+                .limit(1);
+        latestQuery.fields().include("content", "created_at");
+        Document latest = mongoTemplate.findOne(latestQuery, Document.class, CHAT_COLLECTION);
+
+        if (latest != null) {
+            // 이전 중 새 메시지로 이미 채워졌다면 건드리지 않는다
+            String content = latest.getString("content");
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(roomId).and("lastMessageTime").exists(false)),
+                    new Update()
+                            .set("lastMessageContent", content != null ? content : "사진을 보냈습니다.")
+                            .set("lastMessageTime", latest.get("created_at")),
+                    ROOM_COLLECTION);
+        }
+        Update finish = new Update().unset(EMBEDDED_FIELD);
+        unreadCounts.forEach((memberId, count) -> finish.inc(UNREAD_COUNTS + memberId, count));
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(roomId).and(EMBEDDED_FIELD).exists(true)),
+                finish, ROOM_COLLECTION);
+    }
+
+    private record Participants(Long memberId, String memberLoginId, Long friendId, String friendLoginId) {
+
+        // 보낸 사람이 아닌 참여자. 예전 메시지는 sender_id 없이 sender_login_id 만 있을 수 있다. 알 수 없으면 null
+        private Long receiverOf(Long senderId, String senderLoginId) {
+            if (isSender(memberId, memberLoginId, senderId, senderLoginId)) {
+                return friendId;
+            }
+            if (isSender(friendId, friendLoginId, senderId, senderLoginId)) {
+                return memberId;
+            }
+            return null;
+        }
+
+        private static boolean isSender(Long id, String loginId, Long senderId, String senderLoginId) {
+            return (id != null && id.equals(senderId))
+                    || (loginId != null && Objects.equals(loginId, senderLoginId));
+        }
+    }
+}
@@ -3,13 +3,13 @@ package com.prgrms.ijuju.domain.chat.controller;
 import com.prgrms.ijuju.domain.chat.dto.request.ChatMessageRequestDTO;
 import com.prgrms.ijuju.domain.chat.dto.request.ChatReadRequestDTO;
 import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageResponseDTO;
+import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageSliceResponseDTO;
 import com.prgrms.ijuju.domain.chat.dto.response.ChatReadResponseDTO;
 import com.prgrms.ijuju.domain.chat.service.ChatService;
 import com.prgrms.ijuju.domain.chat.service.ChatSessionService;
 import com.prgrms.ijuju.global.auth.SecurityUser;
 import lombok.RequiredArgsConstructor;
 
-import org.springframework.data.domain.Page;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -57,7 +57,7 @@ public class ChatMessageController {
         int size = request.get("size") != null ? 
                   (int) request.get("size") : 20;
             
-        Page<ChatMessageResponseDTO> messages = 
+        ChatMessageSliceResponseDTO messages =
             chatService.showMessagesByScroll(roomId, lastMessageId, size, user.getId());
         
         messagingTemplate.convertAndSendToUser(
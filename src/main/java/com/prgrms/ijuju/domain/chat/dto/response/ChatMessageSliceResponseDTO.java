@@ -0,0 +1,24 @@
+package com.prgrms.ijuju.domain.chat.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Builder
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSliceResponseDTO {
+
+    private List<ChatMessageResponseDTO> messages;
+    private String nextCursor;    // 이전 메시지 요청 시 lastMessageId 로 전달 (더 없으면 null)
+    private boolean hasNext;
+
+    public static ChatMessageSliceResponseDTO of(List<ChatMessageResponseDTO> messages, boolean hasNext) {
+        String nextCursor = hasNext && !messages.isEmpty() ? messages.get(messages.size() - 1).getId() : null;
+        return new ChatMessageSliceResponseDTO(messages, nextCursor, hasNext && nextCursor != null);
+    }
+}
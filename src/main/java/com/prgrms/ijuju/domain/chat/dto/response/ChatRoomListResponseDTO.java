@@ -3,9 +3,8 @@ package com.prgrms.ijuju.domain.chat.dto.response;
 import java.time.LocalDateTime;
 import java.time.Duration;
 
-import com.prgrms.ijuju.domain.chat.entity.ChatRoom;
-import com.prgrms.ijuju.domain.chat.entity.Chat;
-import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.chat.repository.ChatRoomSummary;
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
 
 import lombok.Getter;
 import lombok.Builder;
@@ -25,21 +24,21 @@ public class ChatRoomListResponseDTO {
     private final int unreadCount;
     private final Long elapsedMinutes;
     
-    public static ChatRoomListResponseDTO from(ChatRoom chatRoom, Member friend, Long userId) {
-        Chat lastChat = chatRoom.getLastMessage();
-        
+    public static ChatRoomListResponseDTO from(ChatRoomSummary chatRoom, MemberProfile friend, Long userId) {
+        LocalDateTime lastMessageTime = chatRoom.lastMessageTime();
+
         return ChatRoomListResponseDTO.builder()
-            .roomId(chatRoom.getId())
-            .friendId(friend.getId())
-            .friendUsername(friend.getUsername())
-            .friendLoginId(friend.getLoginId())
-            .friendProfileImage(friend.getProfileImage())
-            .friendIsActive(friend.isActive())
-            .lastMessage(lastChat != null ? lastChat.getContent() : "메시지가 없습니다.")
-            .lastMessageTime(lastChat != null ? lastChat.getCreatedAt() : null)
-            .unreadCount(chatRoom.getUnreadCount(userId))
-            .elapsedMinutes(lastChat != null ? 
-                Duration.between(lastChat.getCreatedAt(), LocalDateTime.now()).toMinutes() : null)
+            .roomId(chatRoom.id())
+            .friendId(friend.id())
+            .friendUsername(friend.username())
+            .friendLoginId(friend.loginId())
+            .friendProfileImage(friend.profileImage())
+            .friendIsActive(friend.active())
+            .lastMessage(chatRoom.lastMessageContent() != null ? chatRoom.lastMessageContent() : "메시지가 없습니다.")
+            .lastMessageTime(lastMessageTime)
+            .unreadCount(chatRoom.unreadCountOf(userId))
+            .elapsedMinutes(lastMessageTime != null ?
+                Duration.between(lastMessageTime, LocalDateTime.now()).toMinutes() : null)
             .build();
     }
 } 
@@ -7,15 +7,18 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 
+/**
+ * 채팅방 메타데이터. 메시지는 chat 컬렉션에만 저장하고, 방 문서는 마지막 메시지와 카운터, 삭제 정보만 가진다.
+ */
 @Document(collection = "chatroom")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,22 +44,13 @@ public class ChatRoom {
 
     private LocalDateTime lastMessageTime;
 
-    private int unreadCount;
-
-    @DBRef
-    private List<Chat> chat = new ArrayList<>();
+    // 회원 id 별 읽지 않은 메시지 수. 전송/읽음 시 원자적 업데이트로만 변경한다
+    @Field("unread_counts")
+    private Map<String, Integer> unreadCounts = new HashMap<>();
 
     @Field("deleted_by_users")
     private List<Long> deletedByUsers = new ArrayList<>();
 
-    // 채팅 목록 조회
-    public List<Chat> getChat() {
-        if (chat == null) {
-            chat = new ArrayList<>();
-        }
-        return chat;
-    }
-
     // 마지막 메시지 시간 조회
     public LocalDateTime getLastMessageTime() {
         return lastMessageTime != null ? lastMessageTime : LocalDateTime.now();
@@ -67,52 +61,6 @@ public class ChatRoom {
     public ChatRoom(Long memberId, Long friendId) {
         this.memberId = memberId;
         this.friendId = friendId;
-        this.chat = new ArrayList<>();
-    }
-
-    // 채팅 메시지 추가
-    public void addChat(Chat newChat) {
-        this.chat.add(newChat);
-        updateLastMessage(newChat);
-    }
-
-    // 채팅방 마지막 메시지 조회
-    public Chat getLastMessage() {
-        if (chat == null || chat.isEmpty()) {
-            return null;
-        }
-        
-        return chat.stream()
-                .max(Comparator.comparing(Chat::getCreatedAt))
-                .orElse(null);
-    }
-
-    // 읽지 않은 메시지 수 계산
-    public int getUnreadCount(Long userId) {
-        return (int) chat.stream()
-            .filter(chat -> !chat.isDeleted())
-            .filter(chat -> !chat.getSenderId().equals(userId))
-            .filter(chat -> !chat.isRead())
-            .count();
-    }
-
-    // 마지막 메시지 정보 업데이트
-    private void updateLastMessage(Chat chat) {
-        if (!chat.isDeleted()) {
-            this.lastMessageContent = chat.getContent();
-            this.lastMessageTime = chat.getCreatedAt();
-        }
-    }
-
-    // 메시지 읽음 처리
-    public void markMessagesAsRead(Long userId) {
-        chat.stream()
-            .filter(message -> !message.isDeleted())
-            .filter(message -> !message.getSenderId().equals(userId))
-            .filter(message -> !message.isRead())
-            .forEach(message -> message.markAsReadBy(userId));
-        
-        this.unreadCount = getUnreadCount(userId);
     }
 
     // 채팅방 삭제
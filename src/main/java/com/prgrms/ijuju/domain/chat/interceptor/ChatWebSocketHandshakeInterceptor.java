@@ -11,7 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
-import com.prgrms.ijuju.global.util.JwtUtil;
+import com.prgrms.ijuju.global.auth.TokenVerifier;
 import io.jsonwebtoken.Claims;
 
 import java.util.Map;
@@ -21,6 +21,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ChatWebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
+    private final TokenVerifier tokenVerifier;
+
     @Override
     public boolean beforeHandshake(@NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response,
                                  @NonNull WebSocketHandler wsHandler, @NonNull Map<String, Object> attributes) {
@@ -30,7 +32,7 @@ public class ChatWebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
             if (jwtToken != null && jwtToken.startsWith("Bearer ")) {
                 jwtToken = jwtToken.substring(7);
-                Claims claims = JwtUtil.decode(jwtToken);
+                Claims claims = tokenVerifier.verify(jwtToken).claims();
                 attributes.put("userClaims", claims);
                 log.info("Chat WebSocket 연결 성공: {}", claims);
                 return true;
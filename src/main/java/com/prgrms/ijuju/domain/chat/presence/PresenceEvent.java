@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.chat.presence;
+
+import java.time.LocalDateTime;
+
+// 친구의 접속 상태 변경. /topic/presence/{회원 id} 로 전달된다
+public record PresenceEvent(Long memberId, boolean online, LocalDateTime changedAt) {
+}
@@ -0,0 +1,143 @@
+package com.prgrms.ijuju.domain.chat.presence;
+
+import com.prgrms.ijuju.domain.friend.component.FriendIdCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 채팅 접속 상태 관리.
+ * 접속 중인 회원은 정렬 집합 하나(회원 id → 마지막 하트비트 시각)에, 세션 id 는 해시 하나에 보관한다.
+ * 하트비트가 끊긴 회원은 점수 범위로 batch 단위로 꺼내 정리하므로 KEYS 로 전체 키를 훑지 않는다.
+ * 온라인/오프라인으로 바뀐 경우에만 친구들의 /topic/presence/{친구 id} 로 알린다.
+ */
+@Slf4j
+@Service
+public class PresenceService {
+
+    private static final String ONLINE_KEY = "presence:online";
+    private static final String SESSION_KEY = "presence:session";
+    private static final String TOPIC = "/topic/presence/";
+
+    // KEYS: 접속 집합, 세션 해시 / ARGV: 기준 시각, 최대 개수. 꺼낸 회원은 같은 스크립트에서 지워 한 노드만 처리한다
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REAP_SCRIPT = new DefaultRedisScript<>(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "if #expired > 0 then " +
+            "  redis.call('ZREM', KEYS[1], unpack(expired)) " +
+            "  redis.call('HDEL', KEYS[2], unpack(expired)) " +
+            "end " +
+            "return expired", List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final FriendIdCache friendIdCache;
+    private final long heartbeatTimeoutMillis;
+    private final int reapBatchSize;
+
+    public PresenceService(StringRedisTemplate redisTemplate, SimpMessagingTemplate messagingTemplate,
+                           FriendIdCache friendIdCache,
+                           @Value("${chat.presence.heartbeat-timeout-seconds:90}") long heartbeatTimeoutSeconds,
+                           @Value("${chat.presence.reap-batch-size:500}") int reapBatchSize) {
+        this.redisTemplate = redisTemplate;
+        this.messagingTemplate = messagingTemplate;
+        this.friendIdCache = friendIdCache;
+        this.heartbeatTimeoutMillis = Duration.ofSeconds(heartbeatTimeoutSeconds).toMillis();
+        this.reapBatchSize = reapBatchSize;
+    }
+
+    public void connect(Long memberId, String sessionId) {
+        String member = String.valueOf(memberId);
+        long now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().add(ONLINE_KEY, member, now);
+                ops.opsForHash().put(SESSION_KEY, member, sessionId);
+                return null;
+            }
+        });
+        if (Boolean.TRUE.equals(results.get(0))) {
+            publish(memberId, true);
+        }
+    }
+
+    // 정리된 뒤 다시 들어온 하트비트는 재접속으로 본다
+    public void heartbeat(Long memberId) {
+        Boolean added = redisTemplate.opsForZSet().add(ONLINE_KEY, String.valueOf(memberId), System.currentTimeMillis());
+        if (Boolean.TRUE.equals(added)) {
+            publish(memberId, true);
+        }
+    }
+
+    public void disconnect(Long memberId) {
+        String member = String.valueOf(memberId);
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().remove(ONLINE_KEY, member);
+                ops.opsForHash().delete(SESSION_KEY, member);
+                return null;
+            }
+        });
+        if (results.get(0) instanceof Long removed && removed > 0) {
+            publish(memberId, false);
+        }
+    }
+
+    public boolean isOnline(Long memberId) {
+        Double lastHeartbeat = redisTemplate.opsForZSet().score(ONLINE_KEY, String.valueOf(memberId));
+        return lastHeartbeat != null && lastHeartbeat >= System.currentTimeMillis() - heartbeatTimeoutMillis;
+    }
+
+    public String getSession(Long memberId) {
+        Object sessionId = redisTemplate.opsForHash().get(SESSION_KEY, String.valueOf(memberId));
+        return sessionId != null ? sessionId.toString() : null;
+    }
+
+    // 하트비트가 끊긴 회원을 batch 단위로 정리하고 오프라인을 알린다
+    public int reapExpired() {
+        String cutoff = String.valueOf(System.currentTimeMillis() - heartbeatTimeoutMillis);
+        int reaped = 0;
+        while (true) {
+            List<?> expired = redisTemplate.execute(REAP_SCRIPT, List.of(ONLINE_KEY, SESSION_KEY),
+                    cutoff, String.valueOf(reapBatchSize));
+            if (expired == null || expired.isEmpty()) {
+                break;
+            }
+            for (Object member : expired) {
+                publish(Long.valueOf(member.toString()), false);
+            }
+            reaped += expired.size();
+            if (expired.size() < reapBatchSize) {
+                break;
+            }
+        }
+        return reaped;
+    }
+
+    private void publish(Long memberId, boolean online) {
+        PresenceEvent event = new PresenceEvent(memberId, online, LocalDateTime.now());
+        for (long friendId : friendIdCache.get(memberId).toArray()) {
+            try {
+                messagingTemplate.convertAndSend(TOPIC + friendId, event);
+            } catch (Exception e) {
+                log.warn("접속 상태 전송 실패 - 회원: {}, 친구: {}", memberId, friendId, e);
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.prgrms.ijuju.domain.chat.entity.Chat;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
@@ -37,6 +38,9 @@ public interface ChatMessageRepository extends MongoRepository<Chat, String> {
 
     Page<Chat> findByRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(String roomId, LocalDateTime createdAt, Pageable pageable);
 
-    Page<Chat> findByRoomIdAndIdLessThanOrderByCreatedAtDesc(String roomId, String lastMessageId, Pageable pageable);
+    // ObjectId 는 생성 시각 순이므로 (room_id, _id) 인덱스로 커서 조회. Slice 라 count 쿼리가 없다
+    Slice<Chat> findByRoomIdOrderByIdDesc(String roomId, Pageable pageable);
+
+    Slice<Chat> findByRoomIdAndIdLessThanOrderByIdDesc(String roomId, String lastMessageId, Pageable pageable);
 
 }
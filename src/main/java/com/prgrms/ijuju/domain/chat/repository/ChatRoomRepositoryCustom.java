@@ -0,0 +1,11 @@
+package com.prgrms.ijuju.domain.chat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ChatRoomRepositoryCustom {
+    List<ChatRoomSummary> findSummariesByMemberId(Long memberId);
+    void recordMessage(String roomId, Long receiverId, String lastMessageContent, LocalDateTime sentAt);
+    // 초기화 직전 값을 반환. 방이 없으면 0
+    int resetUnreadCount(String roomId, Long memberId);
+}
@@ -0,0 +1,60 @@
+package com.prgrms.ijuju.domain.chat.repository;
+
+import com.prgrms.ijuju.domain.chat.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom {
+
+    private static final String UNREAD_COUNTS = "unreadCounts.";
+
+    private final MongoTemplate mongoTemplate;
+
+    // 회원이 속한 방의 메타데이터만 한 번에 조회. 프로젝션 필드만 읽으므로 메시지 목록은 가져오지 않는다
+    @Override
+    public List<ChatRoomSummary> findSummariesByMemberId(Long memberId) {
+        Query query = Query.query(new Criteria().orOperator(
+                Criteria.where("memberId").is(memberId),
+                Criteria.where("friendId").is(memberId)));
+
+        return mongoTemplate.query(ChatRoom.class)
+                .as(ChatRoomSummary.class)
+                .matching(query)
+                .all();
+    }
+
+    // 마지막 메시지 갱신과 상대방 읽지 않은 수 증가를 한 번의 원자적 업데이트로 처리
+    @Override
+    public void recordMessage(String roomId, Long receiverId, String lastMessageContent, LocalDateTime sentAt) {
+        Update update = new Update()
+                .set("lastMessageContent", lastMessageContent)
+                .set("lastMessageTime", sentAt)
+                .inc(UNREAD_COUNTS + receiverId, 1);
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(roomId)), update, ChatRoom.class);
+    }
+
+    // 읽음 처리한 만큼 배지 합계를 줄일 수 있도록 초기화 전 값을 함께 읽는다
+    @Override
+    public int resetUnreadCount(String roomId, Long memberId) {
+        Query query = Query.query(Criteria.where("id").is(roomId));
+        query.fields().include("unreadCounts");
+        Update update = new Update().set(UNREAD_COUNTS + memberId, 0);
+
+        ChatRoom previous = mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(false), ChatRoom.class);
+        if (previous == null || previous.getUnreadCounts() == null) {
+            return 0;
+        }
+        return previous.getUnreadCounts().getOrDefault(String.valueOf(memberId), 0);
+    }
+}
@@ -0,0 +1,29 @@
+package com.prgrms.ijuju.domain.chat.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 목록용 프로젝션. 메시지 목록 없이 방 메타데이터만 담는다.
+ * unreadCounts 는 회원 id(문자열) 별 읽지 않은 메시지 수.
+ */
+public record ChatRoomSummary(String id, Long memberId, Long friendId, boolean isDeleted, List<Long> deletedByUsers,
+                              String lastMessageContent, LocalDateTime lastMessageTime,
+                              Map<String, Integer> unreadCounts) {
+
+    public Long counterpartOf(Long userId) {
+        return memberId.equals(userId) ? friendId : memberId;
+    }
+
+    public boolean isVisibleTo(Long userId) {
+        return !isDeleted && (deletedByUsers == null || !deletedByUsers.contains(userId));
+    }
+
+    public int unreadCountOf(Long userId) {
+        if (unreadCounts == null) {
+            return 0;
+        }
+        return unreadCounts.getOrDefault(String.valueOf(userId), 0);
+    }
+}
@@ -2,40 +2,23 @@ package com.prgrms.ijuju.domain.chat.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import com.prgrms.ijuju.domain.chat.service.ChatSessionService;
-
-import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import com.prgrms.ijuju.domain.chat.presence.PresenceService;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class HeartbeatCheckScheduler {
-    
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChatSessionService chatSessionService;
-    
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+
+    private final PresenceService presenceService;
+
+    // 하트비트가 끊긴 회원 정리. 접속 집합의 점수 범위만 읽으므로 키 전체를 훑지 않는다
+    @Scheduled(fixedRateString = "${chat.presence.reap-interval-ms:30000}")
     public void checkHeartbeats() {
-        String pattern = "user:heartbeat:*";
-        Set<String> keys = redisTemplate.keys(pattern);
-        
-        if (keys != null) {
-            for (String key : keys) {
-                Long lastHeartbeat = (Long) redisTemplate.opsForValue().get(key);
-                if (lastHeartbeat != null) {
-                    long timeSinceLastHeartbeat = System.currentTimeMillis() - lastHeartbeat;
-                    
-                    if (timeSinceLastHeartbeat > TimeUnit.SECONDS.toMillis(90)) { // 90초 초과
-                        String userId = key.replace("user:heartbeat:", "");
-                        chatSessionService.disconnectUser(Long.valueOf(userId));
-                        log.info("사용자 {} 하트비트 타임아웃으로 연결 종료", userId);
-                    }
-                }
-            }
+        int reaped = presenceService.reapExpired();
+        if (reaped > 0) {
+            log.info("하트비트 타임아웃으로 연결 종료된 사용자 수: {}", reaped);
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,44 +1,261 @@
 package com.prgrms.ijuju.domain.chat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageResponseDTO;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import com.prgrms.ijuju.domain.chat.exception.ChatErrorCode;
+import com.prgrms.ijuju.domain.chat.exception.ChatException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.function.IntFunction;
 
+/**
+ * 채팅방 최근 메시지 링 캐시.
+ * 방마다 Redis 리스트에 최신순으로 최대 ringSize 개를 유지하고(LPUSH + LTRIM), 메시지 전송 시 바로 추가한다.
+ * 리스트와 함께 방별 시퀀스를 두어, Mongo 에서 다시 채우는 도중 들어온 메시지가 덮어써지지 않게 한다.
+ * 자주 읽히는 방은 로컬 near-cache 에 보관하고, Redis 시퀀스가 같으면 목록을 다시 받지 않는다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatCacheService {
-    private final RedisTemplate<String, Object> redisTemplate;
+
     private static final String RECENT_MESSAGES_KEY = "chat:recent:";
+    private static final String SEQUENCE_SUFFIX = ":seq";
+    private static final String NOT_MODIFIED = "=";
 
-    // 최근 메시지 캐싱
-    public void cacheRecentMessages(String roomId, List<ChatMessageResponseDTO> messages, int ttlMinutes) {
-        String key = RECENT_MESSAGES_KEY + roomId;
-        redisTemplate.opsForList().rightPushAll(key, messages.toArray());
-        redisTemplate.expire(key, ttlMinutes, TimeUnit.MINUTES);
+    // KEYS: 링, 시퀀스 / ARGV: 메시지, 링 크기, TTL(초). 링이 있을 때만 추가해 일부만 담긴 링이 생기지 않게 한다
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('LPUSH', KEYS[1], ARGV[1]) " +
+            "  redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "end " +
+            "local seq = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3]) " +
+            "return seq", Long.class);
+
+    // KEYS: 링, 시퀀스 / ARGV: 조회 시작 시 시퀀스, 링 크기, TTL(초), 메시지(최신순)...
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('RPUSH', KEYS[1], unpack(ARGV, 4)) " +
+            "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1", Long.class);
+
+    // KEYS: 링, 시퀀스 / ARGV: 로컬에 있는 시퀀스. 같으면 {시퀀스, '='}, 다르면 {시퀀스, 메시지...}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local seq = redis.call('GET', KEYS[2]) or '0' " +
+            "if seq == ARGV[1] and redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return {seq, '" + NOT_MODIFIED + "'} " +
+            "end " +
+            "local result = redis.call('LRANGE', KEYS[1], 0, -1) " +
+            "table.insert(result, 1, seq) " +
+            "return result", List.class);
+
+    // KEYS: 링, 시퀀스 / ARGV: TTL(초)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "local seq = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return seq", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int ringSize;
+    private final long ttlSeconds;
+    private final Cache<String, RecentMessages> nearCache;
+
+    public ChatCacheService(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                            @Value("${chat.cache.ring-size:100}") int ringSize,
+                            @Value("${chat.cache.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${chat.cache.near-cache-rooms:1000}") long nearCacheRooms) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ringSize = ringSize;
+        this.ttlSeconds = Duration.ofMinutes(ttlMinutes).toSeconds();
+        // Redis 시퀀스가 TTL 로 사라졌다가 다시 0 부터 시작해도 겹치지 않도록 링 TTL 보다 짧게 유지
+        this.nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheRooms)
+                .expireAfterWrite(Duration.ofSeconds(Math.min(ttlSeconds, Duration.ofMinutes(10).toSeconds())))
+                .build();
     }
 
-    // 캐시된 최근 메시지 조회
-    public List<ChatMessageResponseDTO> getRecentMessages(String roomId) {
-        String key = RECENT_MESSAGES_KEY + roomId;
-        List<Object> cachedMessages = redisTemplate.opsForList().range(key, 0, -1);
-        
-        if (cachedMessages != null && !cachedMessages.isEmpty()) {
-            return cachedMessages.stream()
-                .map(msg -> (ChatMessageResponseDTO) msg)
-                .collect(Collectors.toList());
+    // 방의 최근 메시지. 링이 비어 있으면 loader 로 최신 ringSize 개를 읽어 채운다
+    public RecentMessages getRecentMessages(String roomId, IntFunction<List<ChatMessageResponseDTO>> loader) {
+        RecentMessages local = nearCache.getIfPresent(roomId);
+        List<?> result = redisTemplate.execute(READ_SCRIPT, keys(roomId),
+                local == null ? "" : local.sequence());
+
+        String sequence = (String) result.get(0);
+        if (local != null && result.size() == 2 && NOT_MODIFIED.equals(result.get(1))) {
+            return local;
         }
-        return null;
+        if (result.size() > 1) {
+            List<CachedMessage> messages = new ArrayList<>(result.size() - 1);
+            for (int i = 1; i < result.size(); i++) {
+                messages.add(fromJson((String) result.get(i)));
+            }
+            return remember(roomId, new RecentMessages(sequence, messages, ringSize));
+        }
+        return warm(roomId, sequence, loader.apply(ringSize));
     }
 
-    // 캐시 무효화
+    // 전송된 메시지를 링 앞에 추가
+    public void append(String roomId, ChatMessageResponseDTO message) {
+        CachedMessage cached = CachedMessage.from(message);
+        Long sequence = redisTemplate.execute(APPEND_SCRIPT, keys(roomId),
+                toJson(cached), String.valueOf(ringSize), String.valueOf(ttlSeconds));
+
+        // 이 노드가 직전 상태를 들고 있었다면 그대로 이어 붙이고, 아니면 다음 조회에서 다시 받는다
+        RecentMessages local = nearCache.getIfPresent(roomId);
+        if (local != null && String.valueOf(sequence - 1).equals(local.sequence())) {
+            nearCache.put(roomId, local.prepend(String.valueOf(sequence), cached));
+        } else {
+            nearCache.invalidate(roomId);
+        }
+    }
+
+    // 메시지 삭제나 채팅방 삭제처럼 링 내용이 달라질 때 호출
     public void invalidateCache(String roomId) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys(roomId), String.valueOf(ttlSeconds));
+        nearCache.invalidate(roomId);
+    }
+
+    private RecentMessages warm(String roomId, String sequence, List<ChatMessageResponseDTO> latest) {
+        List<CachedMessage> messages = latest.stream()
+                .limit(ringSize)
+                .map(CachedMessage::from)
+                .toList();
+        RecentMessages recent = new RecentMessages(sequence, messages, ringSize);
+        if (messages.isEmpty()) {
+            return recent;
+        }
+
+        List<String> args = new ArrayList<>(messages.size() + 3);
+        args.add(sequence);
+        args.add(String.valueOf(ringSize));
+        args.add(String.valueOf(ttlSeconds));
+        messages.forEach(message -> args.add(toJson(message)));
+
+        Long warmed = redisTemplate.execute(WARM_SCRIPT, keys(roomId), args.toArray());
+        if (warmed != null && warmed == 1L) {
+            return remember(roomId, recent);
+        }
+        log.debug("채팅방 {} 링 채우기 생략 - 조회 중 새 메시지 도착", roomId);
+        return recent;
+    }
+
+    private RecentMessages remember(String roomId, RecentMessages recent) {
+        nearCache.put(roomId, recent);
+        return recent;
+    }
+
+    private static List<String> keys(String roomId) {
         String key = RECENT_MESSAGES_KEY + roomId;
-        redisTemplate.delete(key);
+        return List.of(key, key + SEQUENCE_SUFFIX);
+    }
+
+    private String toJson(CachedMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_FORMAT);
+        }
+    }
+
+    private CachedMessage fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, CachedMessage.class);
+        } catch (JsonProcessingException e) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_FORMAT);
+        }
+    }
+
+    /**
+     * 한 시점의 링 내용(최신순).
+     * 링이 가득 차지 않았다면 방의 전체 메시지이므로, 링 끝을 넘는 구간도 Mongo 없이 답할 수 있다.
+     */
+    public record RecentMessages(String sequence, List<CachedMessage> messages, int capacity) {
+
+        public boolean isComplete() {
+            return messages.size() < capacity;
+        }
+
+        public MessageWindow window(int offset, int size) {
+            int end = offset + size;
+            if (end > messages.size() && !isComplete()) {
+                return null;
+            }
+            int from = Math.min(offset, messages.size());
+            int to = Math.min(end, messages.size());
+            List<ChatMessageResponseDTO> content = messages.subList(from, to).stream()
+                    .map(CachedMessage::toResponse)
+                    .toList();
+            return new MessageWindow(content, to < messages.size() || !isComplete());
+        }
+
+        // lastMessageId 다음(더 오래된) 메시지부터 size 개. 링에 없으면 null
+        public MessageWindow windowBefore(String lastMessageId, int size) {
+            if (lastMessageId == null) {
+                return window(0, size);
+            }
+            for (int i = 0; i < messages.size(); i++) {
+                if (messages.get(i).id().equals(lastMessageId)) {
+                    return window(i + 1, size);
+                }
+            }
+            return null;
+        }
+
+        private RecentMessages prepend(String sequence, CachedMessage message) {
+            List<CachedMessage> next = new ArrayList<>(Math.min(messages.size() + 1, capacity));
+            next.add(message);
+            next.addAll(messages.subList(0, Math.min(messages.size(), capacity - 1)));
+            return new RecentMessages(sequence, next, capacity);
+        }
+    }
+
+    public record MessageWindow(List<ChatMessageResponseDTO> messages, boolean hasNext) {
+    }
+
+    // 링에 저장하는 형태. 경과 시간은 조회 시점에 다시 계산한다
+    public record CachedMessage(String id, String senderLoginId, String senderUsername, String senderProfileImage,
+                                String content, String imageUrl, LocalDateTime createdAt,
+                                boolean read, boolean deleted) {
+
+        static CachedMessage from(ChatMessageResponseDTO message) {
+            return new CachedMessage(message.getId(), message.getSenderLoginId(), message.getSenderUsername(),
+                    message.getSenderProfileImage(), message.getContent(), message.getImageUrl(),
+                    message.getCreatedAt(), message.isRead(), message.isDeleted());
+        }
+
+        ChatMessageResponseDTO toResponse() {
+            return ChatMessageResponseDTO.builder()
+                    .id(id)
+                    .senderLoginId(senderLoginId)
+                    .senderUsername(senderUsername)
+                    .senderProfileImage(senderProfileImage)
+                    .content(content)
+                    .imageUrl(imageUrl)
+                    .createdAt(createdAt)
+                    .isRead(read)
+                    .isDeleted(deleted)
+                    .elapsedMinutes(Duration.between(createdAt, LocalDateTime.now()).toMinutes())
+                    .build();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -9,25 +9,33 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageResponseDTO;
+import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageSliceResponseDTO;
 import com.prgrms.ijuju.domain.chat.dto.response.ChatRoomListResponseDTO;
 import com.prgrms.ijuju.domain.chat.dto.response.ChatReadResponseDTO;
 import com.prgrms.ijuju.domain.chat.repository.ChatRepository;
 import com.prgrms.ijuju.domain.chat.entity.Chat;
 import com.prgrms.ijuju.domain.chat.entity.ChatRoom;
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
+import com.prgrms.ijuju.domain.member.component.MemberProfileCache;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.chat.exception.ChatException;
 import com.prgrms.ijuju.domain.chat.exception.ChatErrorCode;
 import com.prgrms.ijuju.domain.chat.repository.ChatRoomRepository;
+import com.prgrms.ijuju.domain.chat.repository.ChatRoomSummary;
 import com.prgrms.ijuju.domain.chat.repository.ChatMessageRepository;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
 import com.prgrms.ijuju.domain.friend.repository.FriendListRepository;
 import com.prgrms.ijuju.domain.avatar.service.FileStorageService;
 
+import org.bson.types.ObjectId;
+
 import java.util.stream.Collectors;
 import java.util.List;
+import java.util.Map;
 import java.time.LocalDateTime;
 import java.io.IOException;
 import java.util.Optional;
@@ -45,10 +53,13 @@ public class ChatService {
     private final MemberRepository memberRepository;
     private final ChatRepository chatRepository;
     private final ChatCacheService chatCacheService;
+    private final ChatUnreadCounter chatUnreadCounter;
     private final FileStorageService fileStorageService;
     private final FriendListRepository friendListRepository;
+    private final MemberProfileCache memberProfileCache;
 
     private static final int PAGE_SIZE = 20;
+    private static final int MAX_SCROLL_SIZE = 100;
 
     // 채팅 저장
     public Chat saveChat(Chat chat) {
@@ -110,27 +121,32 @@ public class ChatService {
             chatRoomRepository.delete(chatRoom);
             // 캐시 삭제
             chatCacheService.invalidateCache(roomId);
+            chatUnreadCounter.invalidate(chatRoom.getMemberId());
+            chatUnreadCounter.invalidate(chatRoom.getFriendId());
         } else {
             log.info("채팅방 {}는 완전히 삭제되지 않았습니다.", roomId);
         }
     }
 
-    // 채팅방 목록 조회
+    // 채팅방 목록 조회. 방 메타데이터 프로젝션 한 번과 상대 회원 프로필 일괄 조회로 구성
     @Transactional(readOnly = true)
     public List<ChatRoomListResponseDTO> showChatRooms(Long userId) {
         log.info("사용자 {}의 채팅방 목록 조회 시작", userId);
-        
-        List<ChatRoom> rooms = chatRoomRepository.findByMemberIdOrFriendId(userId, userId);
-        
+
+        List<ChatRoomSummary> rooms = chatRoomRepository.findSummariesByMemberId(userId).stream()
+            .filter(room -> room.isVisibleTo(userId))
+            .collect(Collectors.toList());
+
+        Map<Long, MemberProfile> friends = memberProfileCache.getAll(rooms.stream()
+            .map(room -> room.counterpartOf(userId))
+            .collect(Collectors.toSet()));
+
         return rooms.stream()
-            .filter(room -> {
-                return !room.isDeleted() || 
-                       (room.isDeleted() && !room.getDeletedByUsers().contains(userId));
-            })
             .map(room -> {
-                Member friend = memberRepository.findById(
-                    room.getMemberId().equals(userId) ? room.getFriendId() : room.getMemberId()
-                ).orElseThrow(() -> new ChatException(ChatErrorCode.MEMBER_NOT_FOUND));
+                MemberProfile friend = friends.get(room.counterpartOf(userId));
+                if (friend == null) {
+                    throw new ChatException(ChatErrorCode.MEMBER_NOT_FOUND);
+                }
                 return ChatRoomListResponseDTO.from(room, friend, userId);
             })
             .collect(Collectors.toList());
@@ -138,24 +154,15 @@ public class ChatService {
 
     // 채팅 메시지 조회
     public Page<ChatMessageResponseDTO> showChatMessages(String roomId, Long userId, int page) {
-        // 캐시된 메시지 확인
-        List<ChatMessageResponseDTO> cachedMessages = chatCacheService.getRecentMessages(roomId);
-        if (cachedMessages != null && page == 0) {
-            return new PageImpl<>(cachedMessages);
-        }
-
-        // DB에서 페이징 조회
         Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("createdAt").descending());
-        Page<Chat> messages = chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
-        
-        // 첫 페이지인 경우 캐시 업데이트
-        if (page == 0) {
-            List<ChatMessageResponseDTO> messageDTOs = messages.getContent().stream()
-                .map(ChatMessageResponseDTO::from)
-                .collect(Collectors.toList());
-            chatCacheService.cacheRecentMessages(roomId, messageDTOs, 24 * 60); // 24시간 캐시
+
+        // 링 캐시 범위 안이면 Mongo 를 거치지 않는다
+        ChatCacheService.MessageWindow window = recentMessages(roomId).window(page * PAGE_SIZE, PAGE_SIZE);
+        if (window != null) {
+            return toPage(window, pageable);
         }
 
+        Page<Chat> messages = chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
         return messages.map(ChatMessageResponseDTO::from);
     }
 
@@ -196,10 +203,16 @@ public class ChatService {
             .build();
         
         chatMessageRepository.save(chat);
-        
-        chatCacheService.invalidateCache(roomId);
-        
-        return ChatMessageResponseDTO.from(chat);
+
+        Long receiverId = counterpartOf(chatRoom, senderId);
+        chatRoomRepository.recordMessage(roomId, receiverId,
+            imageUrl != null && (content == null || content.isBlank()) ? "사진을 보냈습니다." : content, chat.getCreatedAt());
+        chatUnreadCounter.add(receiverId, 1);
+
+        ChatMessageResponseDTO response = ChatMessageResponseDTO.from(chat);
+        chatCacheService.append(roomId, response);
+
+        return response;
     }
 
     // 메시지 유효성 검사
@@ -223,25 +236,28 @@ public class ChatService {
 
         chat.delete();
         chatMessageRepository.save(chat);
+        chatCacheService.invalidateCache(chat.getRoomId());
     }
 
-    // 읽지 않은 메시지 수 조회
+    // 읽지 않은 메시지 수 조회. 회원별 합계 카운터에서 읽고, 없을 때만 방 카운터를 합산한다
     public int showUnreadCount(Long userId) {
-        List<ChatRoom> rooms = chatRoomRepository.findByMemberIdOrFriendId(userId, userId);
-        
-        return rooms.stream()
+        return (int) chatUnreadCounter.get(userId, () -> chatRoomRepository.findSummariesByMemberId(userId).stream()
             .filter(room -> !room.isDeleted())
-            .mapToInt(room -> room.getUnreadCount(userId))
-            .sum();
+            .mapToLong(room -> room.unreadCountOf(userId))
+            .sum());
     }
 
     // 메시지 읽음 처리
     public ChatReadResponseDTO markMessagesAsRead(String roomId, Long userId) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-            .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND);
+        }
 
-        chatRoom.markMessagesAsRead(userId);
-        chatRoomRepository.save(chatRoom);
+        // 방 문서 전체를 저장하면 동시에 들어온 메시지의 카운터 증가를 덮어쓰므로 카운터만 갱신
+        int read = chatRoomRepository.resetUnreadCount(roomId, userId);
+        if (read > 0) {
+            chatUnreadCounter.add(userId, -read);
+        }
 
         return ChatReadResponseDTO.builder()
             .userId(userId)
@@ -250,63 +266,62 @@ public class ChatService {
             .build();
     }
 
-    // 스크롤 메시지 조회
-    public Page<ChatMessageResponseDTO> showMessagesByScroll(String roomId, String lastMessageId, int size, Long userId) {
+    // 스크롤 메시지 조회. lastMessageId 보다 오래된 메시지를 최신순으로 size 개
+    public ChatMessageSliceResponseDTO showMessagesByScroll(String roomId, String lastMessageId, int size, Long userId) {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
             .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
         validateChatRoomAccess(chatRoom, userId);
-        
-        Pageable pageable = PageRequest.of(0, size, Sort.by("createdAt").descending());
-        
-        // 캐시 우선 조회
-        List<ChatMessageResponseDTO> cachedMessages = chatCacheService.getRecentMessages(roomId);
-        if (cachedMessages != null) {
-            return new PageImpl<>(cachedMessages, pageable, cachedMessages.size());
+
+        ChatCacheService.MessageWindow window = findMessagesBefore(roomId, lastMessageId, Math.min(size, MAX_SCROLL_SIZE));
+        return ChatMessageSliceResponseDTO.of(window.messages(), window.hasNext());
+    }
+
+    // 초기 로딩 및 스크롤 조회
+    public List<ChatMessageResponseDTO> showMessages(String roomId, String lastMessageId, int size) {
+        return findMessagesBefore(roomId, lastMessageId, Math.min(size, MAX_SCROLL_SIZE)).messages();
+    }
+
+    // 최신 구간은 링 캐시에서, 그보다 오래된 구간은 (room_id, _id) 커서로 조회
+    private ChatCacheService.MessageWindow findMessagesBefore(String roomId, String lastMessageId, int size) {
+        if (size < 1) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_FORMAT);
+        }
+        if (lastMessageId != null && !ObjectId.isValid(lastMessageId)) {
+            throw new ChatException(ChatErrorCode.MESSAGE_INVALID_FORMAT);
         }
 
-        // DB 조회
-        Page<Chat> messages;
-        if (lastMessageId != null) {
-            Chat lastMessage = chatMessageRepository.findById(lastMessageId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.MESSAGE_NOT_FOUND));
-            messages = chatMessageRepository
-                .findByRoomIdAndCreatedAtBeforeOrderByCreatedAtDesc(roomId, lastMessage.getCreatedAt(), pageable);
-        } else {
-            messages = chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        ChatCacheService.MessageWindow window = recentMessages(roomId).windowBefore(lastMessageId, size);
+        if (window != null) {
+            return window;
         }
 
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<Chat> messages = lastMessageId == null ?
+                chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, pageable) :
+                chatMessageRepository.findByRoomIdAndIdLessThanOrderByIdDesc(roomId, lastMessageId, pageable);
+
         List<ChatMessageResponseDTO> messageDTOs = messages.getContent().stream()
             .map(ChatMessageResponseDTO::from)
             .collect(Collectors.toList());
-
-        return new PageImpl<>(messageDTOs, pageable, messages.getTotalElements());
+        return new ChatCacheService.MessageWindow(messageDTOs, messages.hasNext());
     }
 
-    // 초기 로딩시 캐시 저장
-    public List<ChatMessageResponseDTO> showMessages(String roomId, String lastMessageId, int size) {
-        // 캐시 확에 페이지 정보 포함
-        String cacheKey = String.format("%s:%s:%d", roomId, lastMessageId, size);
-        
-        // 캐시 확인
-        List<ChatMessageResponseDTO> cachedMessages = chatCacheService.getRecentMessages(cacheKey);
-        if (cachedMessages != null) {
-            return cachedMessages;
-        }
-
-        // 커서 기반 페이징으로 변경
-        Pageable pageable = PageRequest.of(0, size);
-        Page<Chat> messages = lastMessageId == null ?
-                chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(roomId, pageable) :
-                chatMessageRepository.findByRoomIdAndIdLessThanOrderByCreatedAtDesc(roomId, lastMessageId, pageable);
-
-        List<ChatMessageResponseDTO> messageDTOs = messages.stream()
+    // 링 캐시가 비어 있으면 최신 메시지로 채운다
+    private ChatCacheService.RecentMessages recentMessages(String roomId) {
+        return chatCacheService.getRecentMessages(roomId, limit ->
+            chatMessageRepository.findByRoomIdOrderByIdDesc(roomId, PageRequest.of(0, limit)).getContent().stream()
                 .map(ChatMessageResponseDTO::from)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+    }
 
-        // 캐시 저장 (짧은 TTL 설정)
-        chatCacheService.cacheRecentMessages(cacheKey, messageDTOs, 5); // 5분 캐시
+    // 캐시 구간은 전체 개수를 모르므로 다음 페이지 존재 여부만 total 에 반영
+    private Page<ChatMessageResponseDTO> toPage(ChatCacheService.MessageWindow window, Pageable pageable) {
+        long total = pageable.getOffset() + window.messages().size() + (window.hasNext() ? 1 : 0);
+        return new PageImpl<>(window.messages(), pageable, total);
+    }
 
-        return messageDTOs;
+    private Long counterpartOf(ChatRoom chatRoom, Long userId) {
+        return chatRoom.getMemberId().equals(userId) ? chatRoom.getFriendId() : chatRoom.getMemberId();
     }
 
     // 채팅방 접근 검증
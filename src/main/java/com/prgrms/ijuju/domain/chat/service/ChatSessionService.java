@@ -4,12 +4,11 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.TimeUnit;
-
 import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 
 import com.prgrms.ijuju.domain.chat.exception.ChatException;
+import com.prgrms.ijuju.domain.chat.presence.PresenceService;
 
 import jakarta.annotation.PostConstruct;
 
@@ -22,11 +21,7 @@ public class ChatSessionService { // Redis를 이용한 세션 관리 서비스
     
     private final RedisTemplate<String, Object> redisTemplate;
     private final RedisConnectionFactory redisConnectionFactory;
-    
-    private static final String USER_SESSION_KEY = "chat:session:";
-    private static final String USER_STATUS_KEY = "chat:status:";
-    private static final int SESSION_TIMEOUT = 30;
-    private static final int HEARTBEAT_TIMEOUT = 90; 
+    private final PresenceService presenceService;
 
     @PostConstruct
     public void init() {
@@ -44,47 +39,26 @@ public class ChatSessionService { // Redis를 이용한 세션 관리 서비스
     }
     
     public void connectUser(Long userId, String sessionId) {
-        saveSession(userId, sessionId);
-        updateUserStatus(userId, true);
+        presenceService.connect(userId, sessionId);
         log.info("User {} connected with session {}", userId, sessionId);
     }
 
     public void disconnectUser(Long userId) {
-        removeSession(userId);
-        updateUserStatus(userId, false);
+        presenceService.disconnect(userId);
         log.info("User {} disconnected", userId);
     }
 
     public boolean isUserOnline(Long userId) {
-        Boolean status = (Boolean) redisTemplate.opsForValue().get(USER_STATUS_KEY + userId);
-        return Boolean.TRUE.equals(status);
-    }
-
-    private void saveSession(Long userId, String sessionId) {
-        String key = USER_SESSION_KEY + userId;
-        redisTemplate.opsForValue().set(key, sessionId);
-        redisTemplate.expire(key, SESSION_TIMEOUT, TimeUnit.MINUTES);
-    }
-
-    private void updateUserStatus(Long userId, boolean isOnline) {
-        String key = USER_STATUS_KEY + userId;
-        redisTemplate.opsForValue().set(key, isOnline);
-        redisTemplate.expire(key, SESSION_TIMEOUT, TimeUnit.MINUTES);
-    }
-
-    public void removeSession(Long userId) {
-        redisTemplate.delete(USER_SESSION_KEY + userId);
+        return presenceService.isOnline(userId);
     }
 
     public String getSession(Long userId) {
-        return (String) redisTemplate.opsForValue().get(USER_SESSION_KEY + userId);
+        return presenceService.getSession(userId);
     }
 
     public void heartbeat(Long userId) {
         try {
-            String key = "user:heartbeat:" + userId;
-            redisTemplate.opsForValue().set(key, System.currentTimeMillis());
-            redisTemplate.expire(key, HEARTBEAT_TIMEOUT, TimeUnit.SECONDS);
+            presenceService.heartbeat(userId);
         } catch (Exception e) {
             log.error("하트비트 업데이트 실패: {}", e.getMessage());
             throw new ChatException(ChatErrorCode.REDIS_CONNECTION_ERROR);
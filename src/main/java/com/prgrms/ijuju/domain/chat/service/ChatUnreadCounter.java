@@ -0,0 +1,97 @@
+package com.prgrms.ijuju.domain.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원별 전체 읽지 않은 채팅 수(배지) 카운터.
+ * 방별 카운터가 바뀔 때 Redis 합계를 같은 양만큼 증감하고, 합계가 없으면 방 카운터 합으로 다시 채운다.
+ * 세대 값으로 재계산 도중 들어온 증감이 덮어써지지 않게 하고, TTL 이 지나면 방 카운터 기준으로 다시 맞춘다.
+ */
+@Slf4j
+@Component
+public class ChatUnreadCounter {
+
+    private static final String TOTAL_KEY = "chat:unread:";
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    // KEYS: 합계, 세대 / ARGV: 증감, TTL(초). 합계가 없으면 다음 조회에서 재계산하므로 세대만 올린다
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if redis.call('INCRBY', KEYS[1], ARGV[1]) < 0 then redis.call('DEL', KEYS[1]) end " +
+            "end " +
+            "local gen = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return gen", Long.class);
+
+    // KEYS: 합계, 세대 / 결과: {세대, 합계} 또는 합계가 없으면 {세대}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "local gen = redis.call('GET', KEYS[2]) or '0' " +
+            "local total = redis.call('GET', KEYS[1]) " +
+            "if total then return {gen, total} end " +
+            "return {gen}", List.class);
+
+    // KEYS: 합계, 세대 / ARGV: 조회 시작 시 세대, 합계, TTL(초)
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] or redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1", Long.class);
+
+    // KEYS: 합계, 세대 / ARGV: TTL(초)
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "local gen = redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "return gen", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long ttlSeconds;
+
+    public ChatUnreadCounter(StringRedisTemplate redisTemplate,
+                             @Value("${chat.unread.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = Duration.ofMinutes(ttlMinutes).toSeconds();
+    }
+
+    // 합계가 없으면 loader 로 방 카운터 합을 구해 채운다
+    public long get(Long memberId, LongSupplier loader) {
+        List<?> result = redisTemplate.execute(READ_SCRIPT, keys(memberId));
+        if (result.size() > 1) {
+            return Long.parseLong((String) result.get(1));
+        }
+
+        String generation = (String) result.get(0);
+        long total = loader.getAsLong();
+        Long filled = redisTemplate.execute(FILL_SCRIPT, keys(memberId),
+                generation, String.valueOf(total), String.valueOf(ttlSeconds));
+        if (filled == null || filled == 0L) {
+            log.debug("회원 {} 배지 합계 채우기 생략 - 조회 중 카운터 변경", memberId);
+        }
+        return total;
+    }
+
+    public void add(Long memberId, long delta) {
+        redisTemplate.execute(ADD_SCRIPT, keys(memberId), String.valueOf(delta), String.valueOf(ttlSeconds));
+    }
+
+    // 방 삭제처럼 증감량을 알 수 없을 때 다음 조회에서 재계산
+    public void invalidate(Long memberId) {
+        redisTemplate.execute(INVALIDATE_SCRIPT, keys(memberId), String.valueOf(ttlSeconds));
+    }
+
+    private static List<String> keys(Long memberId) {
+        String key = TOTAL_KEY + memberId;
+        return List.of(key, key + GENERATION_SUFFIX);
+    }
+}
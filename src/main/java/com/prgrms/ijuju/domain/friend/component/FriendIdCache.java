@@ -0,0 +1,49 @@
+package com.prgrms.ijuju.domain.friend.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.ijuju.domain.friend.event.FriendshipChangedEvent;
+import com.prgrms.ijuju.domain.friend.repository.FriendListRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 회원별 친구 id 집합 캐시.
+ * 친구 수락/삭제가 커밋되면 양쪽 회원의 항목을 무효화한다.
+ */
+@Slf4j
+@Component
+public class FriendIdCache {
+
+    private final FriendListRepository friendListRepository;
+    private final Cache<Long, FriendIdSet> cache;
+
+    public FriendIdCache(FriendListRepository friendListRepository,
+                         @Value("${friend.id-cache.maximum-size:50000}") long maximumSize) {
+        this.friendListRepository = friendListRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+    }
+
+    public FriendIdSet get(Long memberId) {
+        return cache.get(memberId, id -> FriendIdSet.of(friendListRepository.findFriendIdsByMemberId(id)));
+    }
+
+    public void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        invalidate(event.memberId());
+        invalidate(event.friendId());
+        log.debug("친구 id 캐시 무효화 - 회원: {}, 친구: {}", event.memberId(), event.friendId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.prgrms.ijuju.domain.friend.component;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 회원의 친구 id 를 정렬된 long[] 로 보관하는 불변 집합.
+ * 박싱 없이 contains 는 이진 탐색으로 처리한다.
+ */
+public final class FriendIdSet {
+
+    private static final FriendIdSet EMPTY = new FriendIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private FriendIdSet(long[] sortedIds) {
+        this.ids = sortedIds;
+    }
+
+    public static FriendIdSet empty() {
+        return EMPTY;
+    }
+
+    public static FriendIdSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new FriendIdSet(sorted);
+    }
+
+    public boolean contains(long id) {
+        return Arrays.binarySearch(ids, id) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long[] toArray() {
+        return ids.clone();
+    }
+
+    // 자기 자신을 포함한 id 배열 (친구 랭킹 조회용)
+    public long[] toArrayWith(long id) {
+        if (contains(id)) {
+            return ids.clone();
+        }
+        long[] result = Arrays.copyOf(ids, ids.length + 1);
+        result[ids.length] = id;
+        return result;
+    }
+}
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.friend.event;
+
+// 친구 관계가 생성/삭제되어 커밋된 뒤 친구 id 캐시 무효화 등에 사용되는 이벤트
+public record FriendshipChangedEvent(Long memberId, Long friendId) {
+}
@@ -5,8 +5,11 @@ import com.prgrms.ijuju.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -21,4 +24,12 @@ public interface FriendListRepository extends JpaRepository<FriendList, Long> {
     List<FriendList> findAllByMemberId(Long memberId);
 
     boolean existsByMemberIdAndFriendId(Long memberId, Long friendId);
+
+    // 친구 엔티티를 로딩하지 않고 id 만 조회
+    @Query("SELECT f.friend.id FROM FriendList f WHERE f.member.id = :memberId")
+    List<Long> findFriendIdsByMemberId(@Param("memberId") Long memberId);
+
+    // 대상 회원들 중 친구인 회원 id
+    @Query("SELECT f.friend.id FROM FriendList f WHERE f.member.id = :memberId AND f.friend.id IN :targetIds")
+    List<Long> findFriendIdsAmong(@Param("memberId") Long memberId, @Param("targetIds") Collection<Long> targetIds);
 } 
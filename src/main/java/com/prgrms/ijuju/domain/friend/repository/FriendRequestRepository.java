@@ -5,8 +5,11 @@ import com.prgrms.ijuju.domain.friend.entity.RequestStatus;
 import com.prgrms.ijuju.domain.member.entity.Member;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,4 +39,13 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, Lo
     List<FriendRequest> findBySenderIdAndRequestStatus(Long senderId, RequestStatus requestStatus);
 
     List<FriendRequest> findByReceiverIdAndRequestStatus(Long receiverId, RequestStatus requestStatus);
+
+    // 대상 회원들 중 주고받은 요청이 해당 상태인 상대 회원 id (보낸 요청, 받은 요청 모두)
+    @Query("SELECT CASE WHEN r.sender.id = :memberId THEN r.receiver.id ELSE r.sender.id END " +
+           "FROM FriendRequest r WHERE r.requestStatus = :status " +
+           "AND ((r.sender.id = :memberId AND r.receiver.id IN :targetIds) " +
+           "OR (r.receiver.id = :memberId AND r.sender.id IN :targetIds))")
+    List<Long> findCounterpartIdsAmong(@Param("memberId") Long memberId,
+                                       @Param("targetIds") Collection<Long> targetIds,
+                                       @Param("status") RequestStatus status);
 }
@@ -12,7 +12,9 @@ import com.prgrms.ijuju.domain.member.repository.MemberRepository;
 import com.prgrms.ijuju.domain.friend.repository.FriendRequestRepository;
 import com.prgrms.ijuju.domain.friend.repository.FriendListRepository;
 import com.prgrms.ijuju.domain.friend.entity.FriendshipStatus;
+import com.prgrms.ijuju.domain.friend.event.FriendshipChangedEvent;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
@@ -23,7 +25,10 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,6 +41,7 @@ public class FriendService {
     private final FriendListRepository friendListRepository;
     private final MemberRepository memberRepository;    
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 친구 요청 보내기
     @Transactional
@@ -124,6 +130,7 @@ public class FriendService {
             
             request.accept();
             createMutualFriendship(request.getSender(), request.getReceiver());
+            eventPublisher.publishEvent(new FriendshipChangedEvent(request.getSender().getId(), request.getReceiver().getId()));
             
             // 친구 요청 수락 알림 추가
             simpMessagingTemplate.convertAndSend(
@@ -184,6 +191,7 @@ public class FriendService {
         
         friendListRepository.deleteByMemberAndFriend(member, friend);
         friendListRepository.deleteByMemberAndFriend(friend, member);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(memberId, friendId));
     }
 
     // 친구 요청 유효성 검사
@@ -245,4 +253,26 @@ public class FriendService {
         
         return FriendshipStatus.NOT_FRIEND;
     }
+
+    // 여러 회원과의 친구 상태를 한 번에 조회. 친구 목록과 대기 중인 요청을 각각 한 번씩만 읽는다
+    public Map<Long, FriendshipStatus> showFriendshipStatuses(Long memberId, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, FriendshipStatus> statuses = new HashMap<>();
+        friendListRepository.findFriendIdsAmong(memberId, targetIds)
+                .forEach(friendId -> statuses.put(friendId, FriendshipStatus.FRIEND));
+
+        List<Long> others = targetIds.stream()
+                .filter(targetId -> !statuses.containsKey(targetId))
+                .toList();
+        if (!others.isEmpty()) {
+            friendRequestRepository.findCounterpartIdsAmong(memberId, others, RequestStatus.PENDING)
+                    .forEach(targetId -> statuses.put(targetId, FriendshipStatus.PENDING));
+        }
+
+        targetIds.forEach(targetId -> statuses.putIfAbsent(targetId, FriendshipStatus.NOT_FRIEND));
+        return statuses;
+    }
 }
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.member.component;
+
+// 다른 도메인 목록 화면에서 보여주는 회원 정보
+public record MemberProfile(Long id, String loginId, String username, String profileImage, boolean active) {
+}
@@ -0,0 +1,57 @@
+package com.prgrms.ijuju.domain.member.component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.ijuju.domain.member.event.MemberProfileChangedEvent;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 id 별 프로필 캐시.
+ * 캐시에 없는 id 들은 IN 쿼리 한 번으로 필요한 컬럼만 읽어 채운다.
+ * 프로필이 바뀐 트랜잭션이 커밋되면 해당 회원 항목을 무효화하고, 다른 노드의 변경은 expire-seconds 안에 반영된다.
+ */
+@Slf4j
+@Component
+public class MemberProfileCache {
+
+    private final MemberRepository memberRepository;
+    private final Cache<Long, MemberProfile> cache;
+
+    public MemberProfileCache(MemberRepository memberRepository,
+                              @Value("${member.profile-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${member.profile-cache.expire-seconds:300}") long expireSeconds) {
+        this.memberRepository = memberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireSeconds))
+                .build();
+    }
+
+    // 존재하지 않는 회원 id 는 결과에서 빠진다
+    public Map<Long, MemberProfile> getAll(Collection<Long> memberIds) {
+        return cache.getAll(memberIds, missing -> memberRepository.findProfilesByIdIn(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(MemberProfile::id, Function.identity())));
+    }
+
+    public void invalidate(Long memberId) {
+        cache.invalidate(memberId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileChanged(MemberProfileChangedEvent event) {
+        invalidate(event.memberId());
+        log.debug("회원 프로필 캐시 무효화 - 회원: {}", event.memberId());
+    }
+}
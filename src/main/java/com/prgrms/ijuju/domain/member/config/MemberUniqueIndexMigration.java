@@ -0,0 +1,104 @@
+package com.prgrms.ijuju.domain.member.config;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * member 의 login_id/email/username 유니크 인덱스를 이름 붙인 인덱스(Member.UK_*) 하나로 정리한다.
+ * 예전 @Column(unique = true) 로 만들어진 인덱스는 Hibernate 가 임의 이름을 붙였고, ddl-auto update 는 이를 지우지 않는다.
+ * 그대로 두면 중복 가입 시 예전 인덱스 이름으로 위반이 보고되어 MemberService.toSignupError 가 이름으로 구분하지 못한다.
+ * 이름 붙인 인덱스가 없으면 먼저 만들고, 같은 컬럼 하나만 가진 나머지 유니크 인덱스를 지운다. 정리된 DB 에서는 아무 것도 하지 않는다.
+ * 인덱스 삭제 문법이 MySQL 전용이므로 다른 DB 에서는 로그만 남긴다(toSignupError 의 컬럼 기준 판단으로 동작한다).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberUniqueIndexMigration {
+
+    private static final String TABLE = "member";
+
+    private static final String[][] UNIQUE_COLUMNS = {
+            {"login_id", Member.UK_LOGIN_ID},
+            {"email", Member.UK_EMAIL},
+            {"username", Member.UK_USERNAME}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            boolean mysql = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql")));
+            Map<String, List<String>> uniqueIndexes = findUniqueIndexes();
+
+            for (String[] unique : UNIQUE_COLUMNS) {
+                String column = unique[0];
+                String name = unique[1];
+                List<String> legacy = new ArrayList<>();
+                boolean named = false;
+                for (Map.Entry<String, List<String>> index : uniqueIndexes.entrySet()) {
+                    if (!index.getValue().equals(List.of(column))) {
+                        continue;
+                    }
+                    // H2 는 제약 조건 이름 뒤에 _INDEX_n 을 붙인 인덱스를 만든다
+                    if (index.getKey().toLowerCase().startsWith(name)) {
+                        named = true;
+                    } else {
+                        legacy.add(index.getKey());
+                    }
+                }
+                if (legacy.isEmpty()) {
+                    continue;
+                }
+                if (!mysql) {
+                    log.warn("member.{} 의 예전 유니크 인덱스를 정리하지 못했습니다(MySQL 아님): {}", column, legacy);
+                    continue;
+                }
+                if (!named) {
+                    jdbcTemplate.execute("CREATE UNIQUE INDEX " + name + " ON " + TABLE + " (" + column + ")");
+                }
+                for (String index : legacy) {
+                    jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX `" + index + "`");
+                }
+                log.info("member.{} 유니크 인덱스 정리 완료 - {} 삭제, {} 사용", column, legacy, name);
+            }
+        } catch (DataAccessException e) {
+            log.error("member 유니크 인덱스 정리 실패", e);
+        }
+    }
+
+    // 유니크 인덱스 이름 -> 컬럼(소문자, 순서대로). 기본키는 제외한다
+    private Map<String, List<String>> findUniqueIndexes() {
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, List<String>>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+            Map<String, List<String>> indexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index == null || column == null || "PRIMARY".equalsIgnoreCase(index)) {
+                        continue;
+                    }
+                    indexes.computeIfAbsent(index, key -> new ArrayList<>()).add(column.toLowerCase());
+                }
+            }
+            return indexes;
+        });
+    }
+}
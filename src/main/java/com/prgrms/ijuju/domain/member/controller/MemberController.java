@@ -9,6 +9,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -64,10 +66,11 @@ public class MemberController {
     @PostMapping("/login")
     public ResponseEntity<MemberResponseDTO.LoginResponseDTO> login(
             @Validated @RequestBody MemberRequestDTO.LoginRequestDTO dto,
+            @RequestHeader(value = HttpHeaders.USER_AGENT, required = false) String userAgent,
             HttpServletResponse response) {
 
         // 인증 성공
-        MemberResponseDTO.LoginResponseDTO responseDTO = memberService.loginIdAndPw(dto.getLoginId(), dto.getPw(), response);
+        MemberResponseDTO.LoginResponseDTO responseDTO = memberService.loginIdAndPw(dto.getLoginId(), dto.getPw(), userAgent, response);
 
         log.info("인증 성공, 사용자 ID: {}, 로그인 ID: {}", responseDTO.getId(), responseDTO.getLoginId());
         log.info("Access Token: {}", responseDTO.getAccessToken());
@@ -77,8 +80,9 @@ public class MemberController {
 
     // refresh Access Token 재발급
     @PostMapping("/refresh")
-    public ResponseEntity<MemberResponseDTO.RefreshAccessTokenResponseDTO> loginAccessToken(@CookieValue("refreshToken") String refreshToken) {
-        String accessToken = memberService.refreshAccessToken(refreshToken);
+    public ResponseEntity<MemberResponseDTO.RefreshAccessTokenResponseDTO> loginAccessToken(@CookieValue("refreshToken") String refreshToken,
+                                                                                           HttpServletResponse response) {
+        String accessToken = memberService.refreshAccessToken(refreshToken, response);
         LocalDateTime expiryAt = LocalDateTime.now().plusMinutes(15);
         MemberResponseDTO.RefreshAccessTokenResponseDTO responseDTO =
                 new MemberResponseDTO.RefreshAccessTokenResponseDTO(accessToken, "새로운 Access Token 발급", expiryAt);
@@ -120,11 +124,11 @@ public class MemberController {
     
     // username으로 회원 검색
     @GetMapping("/search")
-    public ResponseEntity<Page<MemberResponseDTO.ReadAllResponseDTO>> searchMembers(
+    public ResponseEntity<Slice<MemberResponseDTO.ReadAllResponseDTO>> searchMembers(
             @RequestParam String username,
             MemberRequestDTO.PageRequestDTO dto,
             @AuthenticationPrincipal SecurityUser user) {
-        Page<MemberResponseDTO.ReadAllResponseDTO> searchResults = 
+        Slice<MemberResponseDTO.ReadAllResponseDTO> searchResults =
             memberService.searchMembers(user.getId(), username, dto);
         return ResponseEntity.ok(searchResults);
     }
@@ -2,6 +2,7 @@ package com.prgrms.ijuju.domain.member.dto.response;
 
 import com.prgrms.ijuju.domain.wallet.entity.Wallet;
 import com.prgrms.ijuju.domain.friend.entity.FriendshipStatus;
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -139,6 +140,13 @@ public class MemberResponseDTO {
             this.username = member.getUsername();
             this.friendshipStatus = friendshipStatus;
         }
+
+        public ReadAllResponseDTO(MemberProfile profile, FriendshipStatus friendshipStatus) {
+            this.id = profile.id();
+            this.loginId = profile.loginId();
+            this.username = profile.username();
+            this.friendshipStatus = friendshipStatus;
+        }
     }
 
     // OAuth2 (수정중입니다)
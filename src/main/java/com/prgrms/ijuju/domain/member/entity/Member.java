@@ -18,22 +18,28 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "member")
+// 제약 조건 이름으로 가입 중 중복 위반을 MemberErrorCode 로 변환한다 (MemberService.toSignupError)
+@Table(name = "member", uniqueConstraints = {
+        @UniqueConstraint(name = Member.UK_LOGIN_ID, columnNames = "login_id"),
+        @UniqueConstraint(name = Member.UK_EMAIL, columnNames = "email"),
+        @UniqueConstraint(name = Member.UK_USERNAME, columnNames = "username")
+})
 public class Member extends BaseTimeEntity {
 
+    public static final String UK_LOGIN_ID = "uk_member_login_id";
+    public static final String UK_EMAIL = "uk_member_email";
+    public static final String UK_USERNAME = "uk_member_username";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(unique = true)
     private String loginId;
 
     private String pw;
 
-    @Column(unique = true)
     private String username;
 
-    @Column(unique = true)
     private String email;
 
     @Column(nullable = false)
@@ -55,9 +61,6 @@ public class Member extends BaseTimeEntity {
 
     private LocalDateTime resetPwTokenExpiryAt;
 
-    @Column(columnDefinition = "TEXT")
-    private String refreshToken;
-
     @Column(nullable = false)
     private int BeginStockPlayCount = 0;
 
@@ -92,15 +95,16 @@ public class Member extends BaseTimeEntity {
         this.pw=pw;
     }
 
-    public void updateRefreshToken(String refreshToken, LocalDateTime expiryAt){
-        this.refreshToken=refreshToken;
-        this.resetPwTokenExpiryAt=expiryAt;
-    }
-
     public void increaseBeginStockPlayCount() {
         this.BeginStockPlayCount++;
     }
 
+    // 회원가입 시 지갑과 아바타를 연결해 회원 저장과 함께 cascade 로 저장한다
+    public void initializeAssets(Wallet wallet, Avatar avatar) {
+        this.wallet = wallet;
+        this.avatar = avatar;
+    }
+
     public void changeAvatar(Avatar avatar) {
         this.avatar = avatar;
     }
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.member.event;
+
+// 별명, 프로필 이미지, 활성 상태가 바뀌어 커밋된 뒤 회원 프로필 캐시 무효화에 사용되는 이벤트
+public record MemberProfileChangedEvent(Long memberId) {
+}
@@ -28,6 +28,7 @@ public enum MemberErrorCode implements ErrorCode {
     // 토큰
     MEMBER_ACCESSTOKEN_EXPIRED("CH011", "Access 토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED),
     MEMBER_REFRESHTOKEN_EXPIRED("CH012", "Refresh 토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED),
+    MEMBER_REFRESHTOKEN_REUSED("CH018", "이미 사용된 Refresh 토큰입니다. 다시 로그인해주세요.", HttpStatus.UNAUTHORIZED),
 
     // 회원 검색
     SEARCH_KEYWORD_EMPTY("CH013", "검색어를 입력해주세요.", HttpStatus.BAD_REQUEST),
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.member.repository;
+
+// 가입 중복 확인용 프로젝션
+public record MemberIdentifiers(String loginId, String email, String username) {
+}
@@ -1,12 +1,18 @@
 package com.prgrms.ijuju.domain.member.repository;
 
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,11 +20,33 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByLoginId(String loginId);
     Optional<Member> findByEmail(String email);
     Optional<Member> findLoginIdByEmailAndBirth(String email, LocalDate birth);
-    Optional<Member> findByRefreshToken(String refreshToken);
     Optional<Member> findByLoginIdAndEmail(String loginId, String email);
     Page<Member> findAll(Pageable pageable);
     Optional<Member> findByUsername(String username);
+    List<Member> findAllByLoginIdIn(Collection<String> loginIds);
+    List<Member> findAllByUsernameIn(Collection<String> usernames);
+
+    // 아바타 등 연관 엔티티를 읽지 않도록 필요한 컬럼만 조회
+    @Query("SELECT new com.prgrms.ijuju.domain.member.component.MemberProfile(m.id, m.loginId, m.username, m.profileImage, m.isActive) " +
+           "FROM Member m WHERE m.id IN :ids")
+    List<MemberProfile> findProfilesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구성용. id 기준으로 이어 읽어 OFFSET 없이 전체를 훑는다
+    @Query("SELECT new com.prgrms.ijuju.domain.member.component.MemberProfile(m.id, m.loginId, m.username, m.profileImage, m.isActive) " +
+           "FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<MemberProfile> findProfilesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 가입 시 아이디/이메일/별명 중복을 한 번에 확인. 엔티티 대신 세 컬럼만 읽는다
+    @Query("SELECT new com.prgrms.ijuju.domain.member.repository.MemberIdentifiers(m.loginId, m.email, m.username) " +
+           "FROM Member m WHERE m.loginId = :loginId OR m.email = :email OR m.username = :username")
+    List<MemberIdentifiers> findIdentifiers(@Param("loginId") String loginId, @Param("email") String email,
+                                            @Param("username") String username);
+
     Page<Member> findByUsernameContainingIgnoreCase(String username, Pageable pageable);
     Page<Member> findAllByIdNot(Long id, Pageable pageable);
     Page<Member> findByUsernameContainingIgnoreCaseAndIdNot(String username, Long id, Pageable pageable);
+
+    // Slice 조회는 COUNT 쿼리를 하지 않는다
+    Slice<Member> findSliceByIdNot(Long id, Pageable pageable);
+    Slice<Member> findSliceByUsernameContainingIgnoreCaseAndIdNot(String username, Long id, Pageable pageable);
 }
@@ -0,0 +1,43 @@
+package com.prgrms.ijuju.domain.member.scheduler;
+
+import com.prgrms.ijuju.domain.member.token.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@Slf4j
+public class RefreshTokenPurgeScheduler {
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public RefreshTokenPurgeScheduler(RefreshTokenStore refreshTokenStore,
+                                      @Value("${member.refresh-token.purge-batch-size:1000}") int batchSize,
+                                      @Value("${member.refresh-token.purge-max-batches:100}") int maxBatches) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    // 만료된 리프레시 토큰 삭제. 배치마다 트랜잭션을 나눠 긴 잠금 없이 지우고, 남은 것은 다음 주기에 이어서 지운다
+    @Scheduled(fixedRateString = "${member.refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = refreshTokenStore.purgeExpired(now, batchSize);
+            purged += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        if (purged > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {}", purged);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.prgrms.ijuju.domain.member.search;
+
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
+import com.prgrms.ijuju.domain.member.event.MemberProfileChangedEvent;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 별명 검색 색인.
+ * 시작 시 id 순으로 나눠 읽어 색인을 만들고, 이 노드에서 커밋된 회원 변경은 바로 반영한다.
+ * 다른 노드의 변경과 쌓인 삭제 표시는 주기적인 전체 재구성으로 정리한다. 재구성 중 들어온 변경은 교체 후 다시 적용한다.
+ */
+@Slf4j
+@Component
+public class MemberSearchIndex {
+
+    private static final int LOAD_BATCH_SIZE = 5000;
+
+    private final MemberRepository memberRepository;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile UsernameIndex index = new UsernameIndex();
+    private volatile boolean ready;
+    private volatile boolean rebuilding;
+
+    public MemberSearchIndex(MemberRepository memberRepository) {
+        this.memberRepository = memberRepository;
+    }
+
+    // 첫 색인이 끝나기 전에는 false. 호출 측은 DB 검색으로 대신한다
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<Long> search(String keyword, Long excludeMemberId, int offset, int limit) {
+        return index.search(keyword, excludeMemberId, offset, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedRateString = "${member.search.rebuild-interval-ms:600000}",
+            initialDelayString = "${member.search.rebuild-interval-ms:600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        rebuilding = true;
+        try {
+            long startedAt = System.currentTimeMillis();
+            UsernameIndex rebuilt = new UsernameIndex();
+            long lastId = 0;
+            while (true) {
+                List<MemberProfile> batch = memberRepository.findProfilesAfter(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                batch.forEach(profile -> rebuilt.put(profile.id(), profile.username()));
+                if (batch.size() < LOAD_BATCH_SIZE) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).id();
+            }
+            index = rebuilt;
+            ready = true;
+
+            for (Long memberId : List.copyOf(changedDuringRebuild)) {
+                changedDuringRebuild.remove(memberId);
+                refresh(memberId);
+            }
+            log.info("회원 검색 색인 구성 - 회원: {}, {} ms", rebuilt.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("회원 검색 색인 구성 실패", e);
+        } finally {
+            rebuilding = false;
+        }
+    }
+
+    // 가입, 별명 변경, 탈퇴 등 회원 정보가 바뀐 트랜잭션이 커밋되면 해당 회원만 다시 읽는다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onProfileChanged(MemberProfileChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.memberId());
+        }
+        refresh(event.memberId());
+    }
+
+    private void refresh(Long memberId) {
+        List<MemberProfile> profiles = memberRepository.findProfilesByIdIn(List.of(memberId));
+        if (profiles.isEmpty()) {
+            index.remove(memberId);
+        } else {
+            index.put(memberId, profiles.get(0).username());
+        }
+    }
+}
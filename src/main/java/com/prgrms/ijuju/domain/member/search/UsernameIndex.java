@@ -0,0 +1,208 @@
+package com.prgrms.ijuju.domain.member.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 별명 검색용 바이그램(연속한 두 글자) 역색인.
+ * 바이그램마다 그 글자쌍을 포함한 문서 번호 목록을 두고, 검색어 바이그램 목록들의 교집합 후보만 실제 포함 여부를 확인한다.
+ * 별명 첫 바이그램 목록을 따로 두어 접두 일치를 먼저, 나머지 부분 일치를 그 뒤에 돌려준다.
+ * 문서 번호는 추가 순서대로 늘어나므로 목록은 항상 정렬되어 있다. 바뀌거나 지워진 문서는 표시만 하고 전체 재구성 때 정리한다.
+ */
+public class UsernameIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Postings> grams = new HashMap<>();
+    private final Map<Integer, Postings> prefixGrams = new HashMap<>();
+    private final Map<Long, Integer> docByMember = new HashMap<>();
+    private final BitSet removed = new BitSet();
+    private long[] memberIds = new long[1024];
+    private String[] usernames = new String[1024];
+    private int docCount;
+
+    public void put(Long memberId, String username) {
+        if (username == null || username.isBlank()) {
+            remove(memberId);
+            return;
+        }
+        String normalized = normalize(username);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docByMember.get(memberId);
+            if (existing != null) {
+                if (usernames[existing].equals(normalized)) {
+                    return;
+                }
+                removed.set(existing);
+            }
+            int doc = append(memberId, normalized);
+            docByMember.put(memberId, doc);
+
+            if (normalized.length() >= MIN_QUERY_LENGTH) {
+                prefixGrams.computeIfAbsent(gram(normalized, 0), key -> new Postings()).add(doc);
+                for (int i = 0; i + 1 < normalized.length(); i++) {
+                    grams.computeIfAbsent(gram(normalized, i), key -> new Postings()).add(doc);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long memberId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByMember.remove(memberId);
+            if (doc != null) {
+                removed.set(doc);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 검색어를 포함한 회원 id. 접두 일치가 먼저 오고, 같은 묶음 안에서는 색인에 들어온 순서
+    public List<Long> search(String query, Long excludeMemberId, int offset, int limit) {
+        String keyword = normalize(query);
+        if (keyword.length() < MIN_QUERY_LENGTH || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(keyword.length());
+            for (int i = 0; i + 1 < keyword.length(); i++) {
+                Postings postings = grams.get(gram(keyword, i));
+                if (postings == null) {
+                    return List.of();
+                }
+                if (!lists.contains(postings)) {
+                    lists.add(postings);
+                }
+            }
+
+            Collector collector = new Collector(excludeMemberId == null ? Long.MIN_VALUE : excludeMemberId, offset, limit);
+            Postings prefix = prefixGrams.get(gram(keyword, 0));
+            if (prefix != null) {
+                List<Postings> prefixLists = new ArrayList<>(lists);
+                prefixLists.add(prefix);
+                collector.collect(prefixLists, doc -> usernames[doc].startsWith(keyword));
+            }
+            collector.collect(lists, doc -> !usernames[doc].startsWith(keyword) && usernames[doc].contains(keyword));
+            return collector.result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByMember.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int append(Long memberId, String username) {
+        if (docCount == memberIds.length) {
+            memberIds = Arrays.copyOf(memberIds, docCount * 2);
+            usernames = Arrays.copyOf(usernames, docCount * 2);
+        }
+        memberIds[docCount] = memberId;
+        usernames[docCount] = username;
+        return docCount++;
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static int gram(String value, int index) {
+        return (value.charAt(index) << 16) | value.charAt(index + 1);
+    }
+
+    private final class Collector {
+
+        private final long excludeMemberId;
+        private final int limit;
+        private final List<Long> result;
+        private int skip;
+
+        private Collector(long excludeMemberId, int offset, int limit) {
+            this.excludeMemberId = excludeMemberId;
+            this.skip = Math.max(0, offset);
+            this.limit = limit;
+            this.result = new ArrayList<>(limit);
+        }
+
+        // 가장 짧은 목록을 따라가며 나머지 목록에도 있는 문서만 확인한다. 목록이 정렬되어 있어 커서는 앞으로만 움직인다
+        private void collect(List<Postings> lists, IntPredicate matches) {
+            Postings[] sorted = lists.toArray(Postings[]::new);
+            Arrays.sort(sorted, (a, b) -> Integer.compare(a.size, b.size));
+            int[] cursors = new int[sorted.length];
+
+            Postings driver = sorted[0];
+            for (int i = 0; i < driver.size && result.size() < limit; i++) {
+                int doc = driver.docs[i];
+                if (!containedInOthers(sorted, cursors, doc)
+                        || removed.get(doc) || memberIds[doc] == excludeMemberId || !matches.test(doc)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(memberIds[doc]);
+                }
+            }
+        }
+
+        private boolean containedInOthers(Postings[] sorted, int[] cursors, int doc) {
+            for (int j = 1; j < sorted.length; j++) {
+                cursors[j] = sorted[j].seek(cursors[j], doc);
+                if (cursors[j] == sorted[j].size || sorted[j].docs[cursors[j]] != doc) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    // 정렬된 문서 번호 목록. 한 별명에 같은 바이그램이 여러 번 나와도 한 번만 넣는다
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        private void add(int doc) {
+            if (size > 0 && docs[size - 1] == doc) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        // from 이후에서 doc 이상인 첫 위치. 가까운 곳부터 간격을 늘려 찾은 뒤 이분 탐색한다
+        private int seek(int from, int doc) {
+            int bound = 1;
+            while (from + bound < size && docs[from + bound] < doc) {
+                bound <<= 1;
+            }
+            int index = Arrays.binarySearch(docs, from + (bound >> 1), Math.min(size, from + bound + 1), doc);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
@@ -1,39 +1,50 @@
 package com.prgrms.ijuju.domain.member.service;
 
 import com.prgrms.ijuju.domain.avatar.entity.Avatar;
-import com.prgrms.ijuju.domain.avatar.repository.AvatarRepository;
 import com.prgrms.ijuju.domain.avatar.service.FileStorageService;
+import com.prgrms.ijuju.domain.friend.entity.FriendshipStatus;
 import com.prgrms.ijuju.domain.friend.service.FriendService;
+import com.prgrms.ijuju.domain.member.component.MemberProfile;
+import com.prgrms.ijuju.domain.member.component.MemberProfileCache;
 import com.prgrms.ijuju.domain.member.dto.request.MemberRequestDTO;
 import com.prgrms.ijuju.domain.member.dto.response.MemberResponseDTO;
 import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.event.MemberProfileChangedEvent;
 import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
 import com.prgrms.ijuju.domain.member.exception.MemberException;
+import com.prgrms.ijuju.domain.member.repository.MemberIdentifiers;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.member.search.MemberSearchIndex;
+import com.prgrms.ijuju.domain.member.search.UsernameIndex;
+import com.prgrms.ijuju.domain.member.token.RefreshTokenService;
 import com.prgrms.ijuju.domain.wallet.entity.Wallet;
 import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
 import com.prgrms.ijuju.domain.wallet.exception.WalletException;
 import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
 import com.prgrms.ijuju.global.util.JwtUtil;
 import com.prgrms.ijuju.global.util.PasswordUtil;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -44,65 +55,104 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
     private final WalletRepository walletRepository;
-    private final AvatarRepository avatarRepository;
     private final FriendService friendService;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
+    private final MemberProfileCache memberProfileCache;
+    private final MemberSearchIndex memberSearchIndex;
 
     // 회원가입
     @Transactional
     public MemberResponseDTO.CreateResponseDTO create(MemberRequestDTO.CreateRequestDTO dto) {
         log.info("회원가입 요청 시작 : {} ", dto.getLoginId());
 
-        // 입력한 loginId로 가입한 회원이 있는지 확인
-        log.info("아이디 중복 확인 : {}", dto.getLoginId());
-        if (checkLoginId(dto.getLoginId())) {
-            log.error("이미 존재하는 아이디 : {}", dto.getLoginId());
-            throw new MemberException(MemberErrorCode.LOGINID_IS_DUPLICATED);
-        }
-
-        // 입력한 이메일로 가입한 회원이 있는지 확인
-        if (checkEmail(dto.getEmail())) {
-            log.error("해당 이메일로 가입한 회원이 존재합니다 : {}", dto.getEmail());
-            throw new MemberException(MemberErrorCode.EMAIL_IS_DUPLICATED);
-        }
-
-        // 별명 중복 확인 로직
-        if (checkUsername(dto.getUsername())) {
-            log.error("이미 존재하는 닉네임 : {}", dto.getUsername());
-            throw new MemberException(MemberErrorCode.USERNAME_IS_DUPLICATED);
-        }
+        // 아이디/이메일/별명 중복을 한 번의 조회로 확인
+        validateIdentifiers(dto);
 
         // 비밀번호 암호화 처리
         String encodePw = dto.getPw();
         dto.setPw(passwordEncoder.encode(encodePw));
 
-        // 회원 저장
-        Member savedMember = memberRepository.save(dto.toEntity());
+        Member member = dto.toEntity();
 
         // Wallet 생성 및 초기화
         Wallet wallet = Wallet.builder()
-                .member(savedMember)
+                .member(member)
                 .currentCoins(0L)
                 .currentPoints(0L)
                 .build();
-        walletRepository.save(wallet);
 
         // 아바타 생성
         Avatar newAvatar = Avatar.builder()
-                .member(savedMember)
+                .member(member)
                 .background(null)
                 .pet(null)
                 .hat(null)
                 .build();
 
-        savedMember.changeAvatar(newAvatar);
+        // 회원 저장 시 지갑과 아바타도 함께 저장된다
+        member.initializeAssets(wallet, newAvatar);
 
-        avatarRepository.save(newAvatar);
-        memberRepository.save(savedMember);
+        // 확인 이후 동시에 가입한 회원과 겹치면 유니크 제약 위반으로 드러난다
+        try {
+            memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            log.error("회원가입 중 중복 발생 : {}", dto.getLoginId());
+            throw new MemberException(toSignupError(e, dto));
+        }
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
 
         return new MemberResponseDTO.CreateResponseDTO("회원가입이 완료되었습니다.");
     }
 
+    private void validateIdentifiers(MemberRequestDTO.CreateRequestDTO dto) {
+        List<MemberIdentifiers> duplicates = memberRepository.findIdentifiers(dto.getLoginId(), dto.getEmail(), dto.getUsername());
+
+        if (duplicates.stream().anyMatch(m -> dto.getLoginId().equals(m.loginId()))) {
+            log.error("이미 존재하는 아이디 : {}", dto.getLoginId());
+            throw new MemberException(MemberErrorCode.LOGINID_IS_DUPLICATED);
+        }
+        if (duplicates.stream().anyMatch(m -> dto.getEmail().equals(m.email()))) {
+            log.error("해당 이메일로 가입한 회원이 존재합니다 : {}", dto.getEmail());
+            throw new MemberException(MemberErrorCode.EMAIL_IS_DUPLICATED);
+        }
+        if (duplicates.stream().anyMatch(m -> dto.getUsername().equals(m.username()))) {
+            log.error("이미 존재하는 닉네임 : {}", dto.getUsername());
+            throw new MemberException(MemberErrorCode.USERNAME_IS_DUPLICATED);
+        }
+    }
+
+    // 위반한 제약 조건 이름으로 에러 코드 결정 (DB 마다 메시지 형식이 달라 이름 포함 여부로 판단)
+    // 이름이 없으면(이름 붙이기 전의 인덱스) 메시지의 컬럼명이나 중복된 값으로 판단한다
+    static MemberErrorCode toSignupError(DataIntegrityViolationException e, MemberRequestDTO.CreateRequestDTO dto) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage()).toLowerCase();
+        if (message.contains(Member.UK_LOGIN_ID) || message.contains("(login_id")) {
+            return MemberErrorCode.LOGINID_IS_DUPLICATED;
+        }
+        if (message.contains(Member.UK_EMAIL) || message.contains("(email")) {
+            return MemberErrorCode.EMAIL_IS_DUPLICATED;
+        }
+        if (message.contains(Member.UK_USERNAME) || message.contains("(username")) {
+            return MemberErrorCode.USERNAME_IS_DUPLICATED;
+        }
+        // MySQL: Duplicate entry '<값>' for key '<인덱스>'
+        if (containsValue(message, dto.getLoginId())) {
+            return MemberErrorCode.LOGINID_IS_DUPLICATED;
+        }
+        if (containsValue(message, dto.getEmail())) {
+            return MemberErrorCode.EMAIL_IS_DUPLICATED;
+        }
+        if (containsValue(message, dto.getUsername())) {
+            return MemberErrorCode.USERNAME_IS_DUPLICATED;
+        }
+        return MemberErrorCode.MEMBER_NOT_REGISTERED;
+    }
+
+    private static boolean containsValue(String message, String value) {
+        return value != null && message.contains("'" + value.toLowerCase() + "'");
+    }
+
     // 회원가입 시 같은 아이디 검증 메서드
     public boolean checkLoginId(String loginId) {
         log.info("아이디 중복 체크 : {}", loginId);
@@ -122,7 +172,7 @@ public class MemberService {
     }
 
     // 로그인
-    public MemberResponseDTO.LoginResponseDTO loginIdAndPw(String loginId, String pw, HttpServletResponse response) {
+    public MemberResponseDTO.LoginResponseDTO loginIdAndPw(String loginId, String pw, String device, HttpServletResponse response) {
         // 아이디 입력 검증
         if (loginId == null || loginId.trim().isEmpty()) {
             throw new MemberException(MemberErrorCode.LOGIN_ID_REQUIRED);
@@ -146,15 +196,13 @@ public class MemberService {
         // 로그인 시 활성 상태로 변경
         member.updateActiveStatus(true);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(member.getId()));
 
         String accessToken = generateAccessToken(member.getId(), loginId);
-        String refreshToken = generateRefreshToken(member.getId(), loginId);
+        String refreshToken = refreshTokenService.issue(member.getId(), loginId, device);
 
         addRefreshTokenToCookie(refreshToken, response);
 
-        LocalDateTime expiryAt = LocalDateTime.now().plusDays(3);
-        setRefreshToken(member.getId(), refreshToken, expiryAt);
-
         MemberResponseDTO.LoginResponseDTO responseDTO = new MemberResponseDTO.LoginResponseDTO(member);
         responseDTO.setAccessToken(accessToken);
 
@@ -177,33 +225,15 @@ public class MemberService {
         );
     }
 
-    // Refresh Token 생성
-    public String generateRefreshToken(Long id, String loginId) {
-        return JwtUtil.encodeRefreshToken(60 * 24 * 3,
-                Map.of("id", id.toString(),
-                        "loginId", loginId)
-        );
-    }
-
     // refresh Access Token
-    public String refreshAccessToken(String refreshToken) {
-        // 화이트리스트 처리
-        Member member = memberRepository.findByRefreshToken(refreshToken)
-                .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_LOGIN_DENIED));
-
-        // 리프레시 토큰이 만료되었다면 로그아웃
-//        try {
-//            Claims claims = JwtUtil.decode(refreshToken);
-//        } catch (ExpiredJwtException e) {
-//            throw new MemberException(MemberErrorCode.MEMBER_REFRESHTOKEN_EXPIRED);
-//        }
-        Claims claims = JwtUtil.decode(refreshToken); // decode가 만약 만료된 토큰이라면 null을 반환한다고 가정
-        if (claims == null || claims.getExpiration().before(new Date())) {
-            // 리프레시 토큰이 만료된 경우
-            throw new MemberException(MemberErrorCode.MEMBER_REFRESHTOKEN_EXPIRED);
-        }
-
-        return generateAccessToken(member.getId(), member.getLoginId());
+    // 리프레시 토큰은 재발급마다 교체되며 새 토큰은 쿠키로 내려준다
+    // 재사용 감지 시 토큰 폐기가 롤백되지 않도록 트랜잭션 없이 실행한다 (RefreshTokenService.rotate)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String refreshAccessToken(String refreshToken, HttpServletResponse response) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        addRefreshTokenToCookie(rotation.refreshToken(), response);
+
+        return generateAccessToken(rotation.memberId(), rotation.loginId());
     }
 
     // 리프레시 토큰 쿠키에 담기
@@ -217,13 +247,6 @@ public class MemberService {
         response.addCookie(refreshTokenCookie);
     }
 
-    // 리프레시 토큰 저장
-    @Transactional
-    public void setRefreshToken(Long id, String refreshToken, LocalDateTime expiryAt) {
-        Member member = memberRepository.findById(id).get();
-        member.updateRefreshToken(refreshToken, expiryAt);
-    }
-
     // 나의 회원 정보 조회
     public MemberResponseDTO.ReadMyInfoResponseDTO readMyInfo(Long id) {
         Optional<Member> opMember = memberRepository.findById(id);
@@ -256,10 +279,8 @@ public class MemberService {
 
         Page<Member> memberPage = memberRepository.findAllByIdNot(memberId, pageable); // 본인 제외
 
-        return memberPage.map(member -> new MemberResponseDTO.ReadAllResponseDTO(
-                member,
-                friendService.showFriendshipStatus(memberId, member.getId())
-        ));
+        Map<Long, FriendshipStatus> statuses = friendshipStatuses(memberId, memberPage);
+        return memberPage.map(member -> new MemberResponseDTO.ReadAllResponseDTO(member, statuses.get(member.getId())));
     }
 
     // 회원 조회
@@ -274,37 +295,65 @@ public class MemberService {
     }
 
     // 회원 검색
+    // 다음 페이지 여부만 확인하는 Slice 로 돌려주어 COUNT 쿼리를 하지 않는다
     @Transactional(readOnly = true)
-    public Page<MemberResponseDTO.ReadAllResponseDTO> searchMembers(Long memberId, String username, MemberRequestDTO.PageRequestDTO dto) {
+    public Slice<MemberResponseDTO.ReadAllResponseDTO> searchMembers(Long memberId, String username, MemberRequestDTO.PageRequestDTO dto) {
+        Pageable pageable = dto.getPageable();
+        Slice<MemberResponseDTO.ReadAllResponseDTO> result;
+
         // 검색어가 있는 경우 유효성 검사
         if (username != null && !username.trim().isEmpty()) {
             String trimmedUsername = username.trim();
-            if (trimmedUsername.length() < 2) {
+            if (trimmedUsername.length() < UsernameIndex.MIN_QUERY_LENGTH) {
                 throw new MemberException(MemberErrorCode.SEARCH_KEYWORD_TOO_SHORT);
             }
-            // 검색 시 본인 제외하고 username으로 검색
-            Page<Member> memberPage = memberRepository.findByUsernameContainingIgnoreCaseAndIdNot(trimmedUsername, memberId, dto.getPageable());
-            if (memberPage.isEmpty()) {
-                throw new MemberException(MemberErrorCode.SEARCH_RESULT_NOT_FOUND);
-            }
-            return memberPage.map(member -> new MemberResponseDTO.ReadAllResponseDTO(
-                    member,
-                    friendService.showFriendshipStatus(memberId, member.getId())
-            ));
+            result = searchByUsername(memberId, trimmedUsername, pageable);
+        } else {
+            // 검색어가 없는 경우 전체 회원 목록 조회 (본인 제외)
+            result = toReadAllResponses(memberId, memberRepository.findSliceByIdNot(memberId, pageable));
         }
-        
-        // 검색어가 없는 경우 전체 회원 목록 조회 (본인 제외)
-        Page<Member> memberPage = memberRepository.findAllByIdNot(memberId, dto.getPageable());
-        if (memberPage.isEmpty()) {
+
+        if (result.isEmpty()) {
             throw new MemberException(MemberErrorCode.SEARCH_RESULT_NOT_FOUND);
         }
-        
-        return memberPage.map(member -> new MemberResponseDTO.ReadAllResponseDTO(
-                member,
-                friendService.showFriendshipStatus(memberId, member.getId())
-        ));
+        return result;
+    }
+
+    // 별명 색인에서 접두 일치 우선으로 찾는다. 결과 순서는 색인 순서를 따르므로 정렬 조건은 쓰지 않는다
+    private Slice<MemberResponseDTO.ReadAllResponseDTO> searchByUsername(Long memberId, String keyword, Pageable pageable) {
+        if (!memberSearchIndex.isReady()) {
+            return toReadAllResponses(memberId,
+                    memberRepository.findSliceByUsernameContainingIgnoreCaseAndIdNot(keyword, memberId, pageable));
+        }
+
+        int size = pageable.getPageSize();
+        List<Long> ids = memberSearchIndex.search(keyword, memberId, (int) pageable.getOffset(), size + 1);
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        Map<Long, MemberProfile> profiles = memberProfileCache.getAll(pageIds);
+        Map<Long, FriendshipStatus> statuses = friendService.showFriendshipStatuses(memberId, pageIds);
+        List<MemberResponseDTO.ReadAllResponseDTO> content = pageIds.stream()
+                .map(profiles::get)
+                .filter(Objects::nonNull)
+                .map(profile -> new MemberResponseDTO.ReadAllResponseDTO(profile, statuses.get(profile.id())))
+                .toList();
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    private Slice<MemberResponseDTO.ReadAllResponseDTO> toReadAllResponses(Long memberId, Slice<Member> members) {
+        Map<Long, FriendshipStatus> statuses = friendshipStatuses(memberId, members);
+        return members.map(member -> new MemberResponseDTO.ReadAllResponseDTO(member, statuses.get(member.getId())));
     }
-    
+
+    // 목록 한 페이지의 친구 상태를 회원마다 묻지 않고 한 번에 조회
+    private Map<Long, FriendshipStatus> friendshipStatuses(Long memberId, Slice<Member> members) {
+        List<Long> targetIds = members.getContent().stream()
+                .map(Member::getId)
+                .toList();
+        return friendService.showFriendshipStatuses(memberId, targetIds);
+    }
+
     // 회원 탈퇴
     @Transactional
     public void delete(Long id, String pw) {
@@ -317,6 +366,7 @@ public class MemberService {
             }
 
             memberRepository.delete(member);
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(id));
         } else {
             throw new MemberException(MemberErrorCode.MEMBER_NOT_REMOVED);
         }
@@ -334,6 +384,7 @@ public class MemberService {
                 member.changeUsername(dto.getUsername());
             }
             memberRepository.save(member);
+            eventPublisher.publishEvent(new MemberProfileChangedEvent(memberId));
 
             return new MemberResponseDTO.UpdateMyInfoResponseDTO("회원 정보 수정이 완료되었습니다.");
         } else {
@@ -430,6 +481,7 @@ public class MemberService {
 
         member.updateActiveStatus(isActive);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(id));
         log.info("회원 ID: {}의 활성 상태가 {}로 변경되었습니다.", id, isActive);
     }
 
@@ -445,19 +497,20 @@ public class MemberService {
         }
 
         // 쿠키에 있는 refreshToken 제거
-        removeRefreshTokenToCookie(member.getRefreshToken(), response);
+        removeRefreshTokenToCookie(response);
 
         // 로그아웃 시 비활성 상태로 변경
         member.updateActiveStatus(false);
 
-        // refresh token 제거
-        member.updateRefreshToken(null, null); // null로 변경
+        // 모든 기기의 refresh token 폐기
+        refreshTokenService.revokeAll(id);
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(id));
         log.info("회원 ID: {}가 로그아웃 되었습니다.", id);
     }
 
     // 리프레시 토큰 쿠키 제거
-    public void removeRefreshTokenToCookie(String refreshToken, HttpServletResponse response) {
+    public void removeRefreshTokenToCookie(HttpServletResponse response) {
         Cookie cookie = new Cookie("refreshToken", null);
         cookie.setHttpOnly(true);
         cookie.setSecure(false);
@@ -490,6 +543,7 @@ public class MemberService {
 
         // member 저장
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberProfileChangedEvent(id));
 
         return profileImageUrl;
     }
@@ -0,0 +1,65 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@ConditionalOnProperty(name = "member.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(String tokenHash, RefreshTokenRecord record) {
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(tokenHash)
+                .memberId(record.memberId())
+                .familyId(record.familyId())
+                .device(record.device())
+                .expiresAt(record.expiresAt())
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public Consumed consume(String tokenHash, LocalDateTime now) {
+        Optional<RefreshToken> token = refreshTokenRepository.findByTokenHash(tokenHash);
+        if (token.isEmpty()) {
+            return Consumed.NOT_FOUND;
+        }
+        // 조건부 UPDATE 로 동시에 들어온 두 요청 중 하나만 교체에 성공한다
+        Status status = refreshTokenRepository.markRotated(token.get().getId(), now) == 1 ? Status.ROTATED : Status.REUSED;
+        return new Consumed(status, token.get().toRecord());
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(String familyId) {
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    @Transactional
+    public void revokeAllByMemberId(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired(LocalDateTime now, int batchSize) {
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return refreshTokenRepository.deleteByIdIn(ids);
+    }
+}
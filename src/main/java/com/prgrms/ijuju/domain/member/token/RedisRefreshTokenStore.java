@@ -0,0 +1,114 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Redis 리프레시 토큰 저장소.
+ * 토큰마다 해시 키에 회원/묶음/기기/만료 정보를 두고 만료 시각에 맞춰 TTL 을 걸어 따로 정리할 필요가 없다.
+ * 교체된 토큰도 만료 전까지 남겨 두어 재사용을 감지하고, 묶음과 회원별 집합으로 한 번에 폐기한다.
+ */
+@Component
+@ConditionalOnProperty(name = "member.refresh-token.store", havingValue = "redis")
+@RequiredArgsConstructor
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String TOKEN_KEY = "refresh:token:";
+    private static final String FAMILY_KEY = "refresh:family:";
+    private static final String MEMBER_KEY = "refresh:member:";
+
+    // KEYS: 토큰, 묶음, 회원 / ARGV: 회원 id, 묶음 id, 기기, 만료 시각(ms), TTL(ms), 토큰 해시
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], 'memberId', ARGV[1], 'familyId', ARGV[2], 'device', ARGV[3], " +
+            "  'expiresAt', ARGV[4], 'rotated', '0') " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "redis.call('SADD', KEYS[2], ARGV[6]) " +
+            "if redis.call('PTTL', KEYS[2]) < tonumber(ARGV[5]) then redis.call('PEXPIRE', KEYS[2], ARGV[5]) end " +
+            "redis.call('SADD', KEYS[3], ARGV[2]) " +
+            "if redis.call('PTTL', KEYS[3]) < tonumber(ARGV[5]) then redis.call('PEXPIRE', KEYS[3], ARGV[5]) end " +
+            "return 1", Long.class);
+
+    // KEYS: 토큰. 처음 사용이면 교체 표시 후 ROTATED, 이미 교체된 토큰이면 REUSED
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CONSUME_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HMGET', KEYS[1], 'memberId', 'familyId', 'device', 'expiresAt', 'rotated') " +
+            "if not v[1] then return {} end " +
+            "local status = 'REUSED' " +
+            "if v[5] == '0' then " +
+            "  redis.call('HSET', KEYS[1], 'rotated', '1') " +
+            "  status = 'ROTATED' " +
+            "end " +
+            "return {status, v[1], v[2], v[3], v[4]}", List.class);
+
+    // KEYS: 묶음 / ARGV: 토큰 키 접두사
+    private static final RedisScript<Long> REVOKE_FAMILY_SCRIPT = new DefaultRedisScript<>(
+            "local hashes = redis.call('SMEMBERS', KEYS[1]) " +
+            "for _, h in ipairs(hashes) do redis.call('DEL', ARGV[1] .. h) end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #hashes", Long.class);
+
+    // KEYS: 회원 / ARGV: 토큰 키 접두사, 묶음 키 접두사
+    private static final RedisScript<Long> REVOKE_MEMBER_SCRIPT = new DefaultRedisScript<>(
+            "local families = redis.call('SMEMBERS', KEYS[1]) " +
+            "for _, f in ipairs(families) do " +
+            "  local familyKey = ARGV[2] .. f " +
+            "  for _, h in ipairs(redis.call('SMEMBERS', familyKey)) do redis.call('DEL', ARGV[1] .. h) end " +
+            "  redis.call('DEL', familyKey) " +
+            "end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return #families", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void save(String tokenHash, RefreshTokenRecord record) {
+        Instant expiresAt = record.expiresAt().atZone(ZoneId.systemDefault()).toInstant();
+        long ttlMillis = Math.max(1, Duration.between(Instant.now(), expiresAt).toMillis());
+        redisTemplate.execute(SAVE_SCRIPT,
+                List.of(TOKEN_KEY + tokenHash, FAMILY_KEY + record.familyId(), MEMBER_KEY + record.memberId()),
+                String.valueOf(record.memberId()), record.familyId(),
+                record.device() != null ? record.device() : "",
+                String.valueOf(expiresAt.toEpochMilli()), String.valueOf(ttlMillis), tokenHash);
+    }
+
+    @Override
+    public Consumed consume(String tokenHash, LocalDateTime now) {
+        List<?> result = redisTemplate.execute(CONSUME_SCRIPT, List.of(TOKEN_KEY + tokenHash));
+        if (result == null || result.isEmpty()) {
+            return Consumed.NOT_FOUND;
+        }
+        String device = (String) result.get(3);
+        RefreshTokenRecord record = new RefreshTokenRecord(
+                Long.valueOf((String) result.get(1)),
+                (String) result.get(2),
+                device.isEmpty() ? null : device,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong((String) result.get(4))), ZoneId.systemDefault()));
+        return new Consumed(Status.valueOf((String) result.get(0)), record);
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        redisTemplate.execute(REVOKE_FAMILY_SCRIPT, List.of(FAMILY_KEY + familyId), TOKEN_KEY);
+    }
+
+    @Override
+    public void revokeAllByMemberId(Long memberId) {
+        redisTemplate.execute(REVOKE_MEMBER_SCRIPT, List.of(MEMBER_KEY + memberId), TOKEN_KEY, FAMILY_KEY);
+    }
+
+    // 만료된 키는 TTL 로 Redis 가 지운다
+    @Override
+    public int purgeExpired(LocalDateTime now, int batchSize) {
+        return 0;
+    }
+}
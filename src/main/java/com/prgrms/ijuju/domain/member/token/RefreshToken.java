@@ -0,0 +1,63 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 발급한 리프레시 토큰. 원문 대신 고정 길이 SHA-256 해시만 저장해 유니크 인덱스로 바로 찾는다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_member", columnList = "member_id"),
+                @Index(name = "idx_refresh_token_expires", columnList = "expires_at")
+        })
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    // 한 번의 로그인에서 회전으로 이어지는 토큰들의 묶음. 재사용이 감지되면 묶음 전체를 폐기한다
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    private String device;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 새 토큰으로 교체된 시각. 값이 있는 토큰이 다시 오면 탈취된 것으로 본다
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public RefreshToken(String tokenHash, Long memberId, String familyId, String device, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.memberId = memberId;
+        this.familyId = familyId;
+        this.device = device;
+        this.expiresAt = expiresAt;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public RefreshTokenRecord toRecord() {
+        return new RefreshTokenRecord(memberId, familyId, device, expiresAt);
+    }
+}
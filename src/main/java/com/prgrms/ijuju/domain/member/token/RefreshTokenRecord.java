@@ -0,0 +1,10 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import java.time.LocalDateTime;
+
+public record RefreshTokenRecord(Long memberId, String familyId, String device, LocalDateTime expiresAt) {
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,122 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
+import com.prgrms.ijuju.domain.member.exception.MemberException;
+import com.prgrms.ijuju.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/교체/폐기.
+ * 재발급 때마다 새 토큰으로 교체하고(rotation), 이미 교체된 토큰이 다시 오면 탈취로 보고 같은 로그인에서 나온 토큰을 모두 폐기한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int MAX_DEVICE_LENGTH = 255;
+
+    private final RefreshTokenStore refreshTokenStore;
+    private final long ttlMinutes;
+
+    public RefreshTokenService(RefreshTokenStore refreshTokenStore,
+                               @Value("${member.refresh-token.ttl-minutes:4320}") long ttlMinutes) {
+        this.refreshTokenStore = refreshTokenStore;
+        this.ttlMinutes = ttlMinutes;
+    }
+
+    // 로그인 시 새 묶음으로 발급
+    public String issue(Long memberId, String loginId, String device) {
+        return create(new RefreshTokenRecord(memberId, UUID.randomUUID().toString(), truncate(device),
+                LocalDateTime.now().plusMinutes(ttlMinutes)), loginId);
+    }
+
+    // 토큰 교체. 사용한 토큰은 더 이상 쓸 수 없고 같은 묶음의 새 토큰을 돌려준다
+    // 재사용을 감지하면 예외를 던지므로, 호출 측 트랜잭션에 묶이면 묶음 폐기까지 함께 롤백된다.
+    // 그래서 트랜잭션 밖에서 실행하고 저장소 호출마다 각자 커밋한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Rotation rotate(String refreshToken) {
+        Claims claims = decode(refreshToken);
+
+        LocalDateTime now = LocalDateTime.now();
+        RefreshTokenStore.Consumed consumed = refreshTokenStore.consume(hash(refreshToken), now);
+        RefreshTokenRecord record = consumed.record();
+        switch (consumed.status()) {
+            case NOT_FOUND -> throw new MemberException(MemberErrorCode.MEMBER_LOGIN_DENIED);
+            case REUSED -> {
+                log.warn("리프레시 토큰 재사용 감지 - memberId: {}, familyId: {}", record.memberId(), record.familyId());
+                refreshTokenStore.revokeFamily(record.familyId());
+                throw new MemberException(MemberErrorCode.MEMBER_REFRESHTOKEN_REUSED);
+            }
+            default -> {
+            }
+        }
+        if (record.isExpired(now)) {
+            throw new MemberException(MemberErrorCode.MEMBER_REFRESHTOKEN_EXPIRED);
+        }
+
+        @SuppressWarnings("unchecked")
+        String loginId = (String) claims.get("data", Map.class).get("loginId");
+        String next = create(new RefreshTokenRecord(record.memberId(), record.familyId(), record.device(),
+                now.plusMinutes(ttlMinutes)), loginId);
+        return new Rotation(record.memberId(), loginId, next);
+    }
+
+    // 로그아웃 시 회원의 모든 기기 토큰 폐기
+    public void revokeAll(Long memberId) {
+        refreshTokenStore.revokeAllByMemberId(memberId);
+    }
+
+    private String create(RefreshTokenRecord record, String loginId) {
+        // nonce 로 같은 초에 발급한 토큰도 해시가 겹치지 않게 한다
+        String token = JwtUtil.encodeRefreshToken(ttlMinutes,
+                Map.of("id", record.memberId().toString(),
+                        "loginId", loginId,
+                        "nonce", UUID.randomUUID().toString()));
+        refreshTokenStore.save(hash(token), record);
+        return token;
+    }
+
+    private static Claims decode(String refreshToken) {
+        try {
+            return JwtUtil.decode(refreshToken);
+        } catch (ExpiredJwtException e) {
+            throw new MemberException(MemberErrorCode.MEMBER_REFRESHTOKEN_EXPIRED);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new MemberException(MemberErrorCode.MEMBER_LOGIN_DENIED);
+        }
+    }
+
+    private static String truncate(String device) {
+        if (device == null || device.length() <= MAX_DEVICE_LENGTH) {
+            return device;
+        }
+        return device.substring(0, MAX_DEVICE_LENGTH);
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record Rotation(Long memberId, String loginId, String refreshToken) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소. 토큰 원문은 저장하지 않고 해시로만 다룬다.
+ * 기본은 DB(refresh_token 테이블)이고 member.refresh-token.store=redis 로 Redis 에 보관할 수 있다.
+ */
+public interface RefreshTokenStore {
+
+    void save(String tokenHash, RefreshTokenRecord record);
+
+    // 토큰을 사용 처리한다. 같은 토큰은 한 번만 ROTATED 가 되고 이후에는 REUSED 가 된다
+    Consumed consume(String tokenHash, LocalDateTime now);
+
+    void revokeFamily(String familyId);
+
+    void revokeAllByMemberId(Long memberId);
+
+    // 만료된 토큰을 최대 batchSize 개 삭제하고 삭제한 수를 돌려준다
+    int purgeExpired(LocalDateTime now, int batchSize);
+
+    enum Status {
+        ROTATED, REUSED, NOT_FOUND
+    }
+
+    record Consumed(Status status, RefreshTokenRecord record) {
+
+        static final Consumed NOT_FOUND = new Consumed(Status.NOT_FOUND, null);
+    }
+}
@@ -10,7 +10,8 @@ public enum NotificationErrorCode implements ErrorCode {
     SENDER_NOT_FOUND("NOTIFICATION_002", "발신자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     RECEIVER_NOT_FOUND("NOTIFICATION_003", "수신자를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     NOTIFICATION_ACCESS_DENIED("NOTIFICATION_004", "알림에 권한이 없습니다.", HttpStatus.FORBIDDEN),
-    SSE_SEND_ERROR("NOTIFICATION_005", "SSE 전송 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR);
+    SSE_SEND_ERROR("NOTIFICATION_005", "SSE 전송 중 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR),
+    NOTIFICATION_QUEUE_FULL("NOTIFICATION_006", "알림 요청이 많아 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
 
     private final String code;
     private final String message;
@@ -0,0 +1,55 @@
+package com.prgrms.ijuju.domain.notification.fanout;
+
+import com.prgrms.ijuju.domain.notification.repository.CachedEvent;
+import com.prgrms.ijuju.domain.notification.repository.EmitterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내부 fan-out. 재전송 로그는 EmitterRepository 의 회원별 링 버퍼를 쓰고 구독자에게 바로 전달한다.
+ * 같은 인스턴스를 여러 구독자가 공유하면 여러 노드를 흉내낼 수 있어 테스트용 Redis 대역으로도 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.fanout.mode", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalNotificationBroker implements NotificationBroker {
+
+    private final EmitterRepository emitterRepository;
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String publish(String username, Object data) {
+        String eventId = emitterRepository.saveEventCache(username, data);
+        NotificationEvent event = new NotificationEvent(username, eventId, data);
+        for (Consumer<NotificationEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                log.error("알림 전달 실패 eventId: {}", eventId, e);
+            }
+        }
+        return eventId;
+    }
+
+    @Override
+    public List<CachedEvent> findAfter(String username, String lastEventId, int limit) {
+        return emitterRepository.findEventCacheAfter(username, lastEventId, limit);
+    }
+
+    @Override
+    public void clear(String username) {
+        emitterRepository.deleteAllEventCacheByUsername(username);
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+}
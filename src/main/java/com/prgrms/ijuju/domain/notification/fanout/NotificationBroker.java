@@ -0,0 +1,24 @@
+package com.prgrms.ijuju.domain.notification.fanout;
+
+import com.prgrms.ijuju.domain.notification.repository.CachedEvent;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 알림 fan-out 계층.
+ * 발행한 이벤트를 회원별 재전송 로그에 남기고 모든 노드의 구독자에게 전달한다.
+ * 여러 인스턴스 운영 시 redis, 단일 노드 / 테스트에서는 local 구현을 쓴다. (notification.fanout.mode)
+ */
+public interface NotificationBroker {
+
+    // 재전송 로그에 추가하고 모든 노드에 전달한다. 부여된 이벤트 id 를 돌려준다
+    String publish(String username, Object data);
+
+    // lastEventId 이후의 이벤트를 오래된 순으로 최대 limit 개
+    List<CachedEvent> findAfter(String username, String lastEventId, int limit);
+
+    void clear(String username);
+
+    void subscribe(Consumer<NotificationEvent> listener);
+}
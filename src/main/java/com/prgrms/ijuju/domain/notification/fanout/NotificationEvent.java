@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.notification.fanout;
+
+// 노드 간에 전달되는 회원 알림 이벤트. eventId 는 SSE 이벤트 id(Last-Event-ID)로 그대로 쓰인다
+public record NotificationEvent(String username, String eventId, Object data) {
+}
@@ -0,0 +1,139 @@
+package com.prgrms.ijuju.domain.notification.fanout;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.notification.exception.NotificationErrorCode;
+import com.prgrms.ijuju.domain.notification.exception.NotificationException;
+import com.prgrms.ijuju.domain.notification.repository.CachedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Redis 기반 fan-out.
+ * 이벤트는 회원별 stream(notification:stream:{username}, 최근 50개, 30분 TTL)에 XADD 한 뒤
+ * notification:fanout 채널로 PUBLISH 하고, 각 노드는 채널을 구독해 자기 emitter 로 전달한다.
+ * 이벤트 id 는 "username_{stream id}" 라서 어느 노드로 재연결해도 stream 에서 이어서 재전송할 수 있다.
+ * 채널 구독은 공용 RedisMessageListenerContainer 빈에 등록하고, 컨테이너 수명주기는 스프링이 관리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notification.fanout.mode", havingValue = "redis", matchIfMissing = true)
+public class RedisNotificationBroker implements NotificationBroker {
+
+    private static final String STREAM_KEY = "notification:stream:";
+    private static final ChannelTopic CHANNEL = new ChannelTopic("notification:fanout");
+    private static final String DATA = "data";
+    private static final long STREAM_MAX_LENGTH = 50;
+    private static final Duration STREAM_TTL = Duration.ofMinutes(30);
+    private static final char ID_SEPARATOR = '_';
+    private static final Pattern STREAM_ID = Pattern.compile("\\d+(-\\d+)?");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<NotificationEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // 채널로 보내는 메시지. data 는 알림 본문 JSON
+    record Envelope(String username, String eventId, String data) {
+    }
+
+    public RedisNotificationBroker(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                   RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener((message, pattern) -> onMessage(message), CHANNEL);
+    }
+
+    @Override
+    public String publish(String username, Object data) {
+        String json = toJson(data);
+        String key = STREAM_KEY + username;
+
+        RecordId recordId = redisTemplate.opsForStream()
+                .add(StreamRecords.string(Map.of(DATA, json)).withStreamKey(key));
+        redisTemplate.opsForStream().trim(key, STREAM_MAX_LENGTH, true);
+        redisTemplate.expire(key, STREAM_TTL);
+
+        String eventId = username + ID_SEPARATOR + recordId.getValue();
+        redisTemplate.convertAndSend(CHANNEL.getTopic(), toJson(new Envelope(username, eventId, json)));
+        return eventId;
+    }
+
+    @Override
+    public List<CachedEvent> findAfter(String username, String lastEventId, int limit) {
+        String lastStreamId = lastEventId.substring(lastEventId.lastIndexOf(ID_SEPARATOR) + 1);
+        Range<String> range = STREAM_ID.matcher(lastStreamId).matches()
+                ? Range.rightUnbounded(Range.Bound.exclusive(lastStreamId))
+                : Range.unbounded();
+
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                .range(STREAM_KEY + username, range, Limit.limit().count(limit));
+        if (records == null) {
+            return List.of();
+        }
+        List<CachedEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            events.add(new CachedEvent(username + ID_SEPARATOR + record.getId().getValue(),
+                    readTree((String) record.getValue().get(DATA))));
+        }
+        return events;
+    }
+
+    @Override
+    public void clear(String username) {
+        redisTemplate.delete(STREAM_KEY + username);
+    }
+
+    @Override
+    public void subscribe(Consumer<NotificationEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void onMessage(Message message) {
+        try {
+            Envelope envelope = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            NotificationEvent event = new NotificationEvent(envelope.username(), envelope.eventId(),
+                    readTree(envelope.data()));
+            for (Consumer<NotificationEvent> listener : listeners) {
+                listener.accept(event);
+            }
+        } catch (Exception e) {
+            log.error("알림 fan-out 메시지 처리 실패", e);
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new NotificationException(NotificationErrorCode.SSE_SEND_ERROR);
+        }
+    }
+
+    private Object readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new NotificationException(NotificationErrorCode.SSE_SEND_ERROR);
+        }
+    }
+}
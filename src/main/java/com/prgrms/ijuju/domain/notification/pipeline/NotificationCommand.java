@@ -0,0 +1,23 @@
+package com.prgrms.ijuju.domain.notification.pipeline;
+
+import com.prgrms.ijuju.domain.notification.entity.NotificationType;
+
+// 알림 생성 요청. 회원 조회와 저장은 파이프라인 워커가 모아서 처리한다
+public record NotificationCommand(String senderLoginId, String receiverUsername, NotificationType type) {
+
+    public String title() {
+        return switch (type) {
+            case FRIEND_REQUEST -> "친구 요청";
+            case FRIEND_ACCEPT -> "친구 요청 수락";
+            case MESSAGE -> "새 메시지";
+        };
+    }
+
+    public String content(String senderUsername) {
+        return switch (type) {
+            case FRIEND_REQUEST -> senderUsername + "님이 친구 요청을 보냈습니다.";
+            case FRIEND_ACCEPT -> senderUsername + "님이 친구 요청을 수락했습니다.";
+            case MESSAGE -> senderUsername + "님이 메시지를 보냈습니다.";
+        };
+    }
+}
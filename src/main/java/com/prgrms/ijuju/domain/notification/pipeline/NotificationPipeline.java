@@ -0,0 +1,244 @@
+package com.prgrms.ijuju.domain.notification.pipeline;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.notification.dto.response.SseNotificationResponseDto;
+import com.prgrms.ijuju.domain.notification.entity.Notification;
+import com.prgrms.ijuju.domain.notification.exception.NotificationErrorCode;
+import com.prgrms.ijuju.domain.notification.exception.NotificationException;
+import com.prgrms.ijuju.domain.notification.repository.NotificationJdbcRepository;
+import com.prgrms.ijuju.domain.notification.service.SseNotificationService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 생성 파이프라인.
+ * 요청 스레드는 크기가 제한된 대기열에 넣고 바로 돌아가며, 워커가 요청을 모아 회원 조회 2번(IN)과 JDBC batch insert 한 번으로 저장한다.
+ * SSE 전달은 커밋 후에 건별로 격리해 실패해도 저장된 알림이나 다른 알림에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationPipeline {
+
+    private final MemberRepository memberRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final SseNotificationService sseNotificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<NotificationCommand> queue;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final int workerCount;
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private long lastPersisted;
+    private long lastLoggedAt = System.nanoTime();
+
+    public NotificationPipeline(MemberRepository memberRepository,
+                                NotificationJdbcRepository notificationJdbcRepository,
+                                SseNotificationService sseNotificationService,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${notification.pipeline.queue-capacity:10000}") int queueCapacity,
+                                @Value("${notification.pipeline.batch-size:200}") int batchSize,
+                                @Value("${notification.pipeline.linger-ms:50}") long lingerMillis,
+                                @Value("${notification.pipeline.workers:1}") int workerCount) {
+        this.memberRepository = memberRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.sseNotificationService = sseNotificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.workerCount = workerCount;
+        this.workers = Executors.newFixedThreadPool(workerCount, namedThreadFactory());
+    }
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::run);
+        }
+    }
+
+    // 대기열이 가득 차면 요청을 거절한다
+    public void submit(NotificationCommand command) {
+        if (!queue.offer(command)) {
+            rejected.incrementAndGet();
+            throw new NotificationException(NotificationErrorCode.NOTIFICATION_QUEUE_FULL);
+        }
+        submitted.incrementAndGet();
+    }
+
+    public PipelineStats stats() {
+        return new PipelineStats(queue.size(), submitted.get(), rejected.get(),
+                persisted.get(), delivered.get(), failed.get());
+    }
+
+    @Scheduled(fixedDelayString = "${notification.pipeline.stats-log-interval-ms:60000}")
+    public synchronized void logStats() {
+        long now = System.nanoTime();
+        long total = persisted.get();
+        double perSecond = (total - lastPersisted) / Math.max(1e-9, (now - lastLoggedAt) / 1e9);
+        lastPersisted = total;
+        lastLoggedAt = now;
+        if (total > 0 || !queue.isEmpty()) {
+            log.info("알림 파이프라인: {}, 처리량: {}건/s", stats(), String.format("%.1f", perSecond));
+        }
+    }
+
+    // 남은 요청을 모두 처리할 때까지 기다린다 (워커는 interrupt 하지 않는다)
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private void run() {
+        List<NotificationCommand> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationCommand first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                log.error("알림 저장 실패 - {}건", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 짧게 기다리며 한 번에 저장할 만큼 모은다
+    private void collect(List<NotificationCommand> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            NotificationCommand next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void process(List<NotificationCommand> batch) {
+        List<Delivery> deliveries = transactionTemplate.execute(status -> persist(batch));
+        persisted.addAndGet(deliveries.size());
+
+        for (Delivery delivery : deliveries) {
+            if (sseNotificationService.sendToMember(delivery.username(), delivery.payload())) {
+                delivered.incrementAndGet();
+            }
+        }
+    }
+
+    private List<Delivery> persist(List<NotificationCommand> batch) {
+        Set<String> loginIds = new HashSet<>();
+        Set<String> usernames = new HashSet<>();
+        for (NotificationCommand command : batch) {
+            loginIds.add(command.senderLoginId());
+            usernames.add(command.receiverUsername());
+        }
+        Map<String, Member> senders = memberRepository.findAllByLoginIdIn(loginIds).stream()
+                .collect(Collectors.toMap(Member::getLoginId, Function.identity()));
+        Map<String, Member> receivers = memberRepository.findAllByUsernameIn(usernames).stream()
+                .collect(Collectors.toMap(Member::getUsername, Function.identity()));
+
+        List<Notification> notifications = new ArrayList<>(batch.size());
+        for (NotificationCommand command : batch) {
+            Member sender = senders.get(command.senderLoginId());
+            Member receiver = receivers.get(command.receiverUsername());
+            if (sender == null || receiver == null) {
+                failed.incrementAndGet();
+                log.warn("알림 생략 - 회원 없음 sender: {}, receiver: {}", command.senderLoginId(), command.receiverUsername());
+                continue;
+            }
+            notifications.add(Notification.builder()
+                    .receiver(receiver)
+                    .senderLoginId(sender.getId())
+                    .senderUsername(sender.getUsername())
+                    .title(command.title())
+                    .content(command.content(sender.getUsername()))
+                    .type(command.type())
+                    .isRead(false)
+                    .isDeleted(false)
+                    .build());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = notificationJdbcRepository.batchInsert(notifications, now);
+
+        List<Delivery> deliveries = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            deliveries.add(new Delivery(notification.getReceiver().getUsername(), SseNotificationResponseDto.builder()
+                    .notificationId(ids.get(i))
+                    .senderLoginId(notification.getSenderLoginId())
+                    .senderUsername(notification.getSenderUsername())
+                    .title(notification.getTitle())
+                    .content(notification.getContent())
+                    .type(notification.getType())
+                    .isRead(false)
+                    .createdAt(now)
+                    .build()));
+        }
+        return deliveries;
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "notification-pipeline-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Delivery(String username, SseNotificationResponseDto payload) {
+    }
+
+    public record PipelineStats(int queueDepth, long submitted, long rejected, long persisted,
+                                long delivered, long failed) {
+    }
+}
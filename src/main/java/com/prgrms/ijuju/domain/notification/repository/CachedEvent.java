@@ -0,0 +1,4 @@
+package com.prgrms.ijuju.domain.notification.repository;
+
+public record CachedEvent(String id, Object data) {
+}
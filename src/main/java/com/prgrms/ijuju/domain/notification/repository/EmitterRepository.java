@@ -5,86 +5,110 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * 회원(username)별 SSE emitter 와 최근 이벤트 저장소.
+ * emitter 는 회원 -> (emitterId -> emitter) 두 단계 맵으로, 이벤트는 회원별 링 버퍼로 보관해 다른 회원의 데이터를 훑지 않는다.
+ * 이벤트 만료는 추가된 순서대로 쌓이는 만료 대기열의 앞부분만 확인한다.
+ */
 @Repository
 @Slf4j
 public class EmitterRepository {
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, CacheEntry> eventCache = new ConcurrentHashMap<>();
     private static final long EVENT_CACHE_EXPIRY = 30L * 60 * 1000; // 30분
-    private static final int INITIAL_CAPACITY = 100;
-    private static final float LOAD_FACTOR = 0.75f;
+    private static final int EVENT_CACHE_CAPACITY = 50; // 회원별 최근 이벤트 수
+    private static final char ID_SEPARATOR = '_';
 
-    // 캐시 엔트리를 위한 내부 클래스
-    private static class CacheEntry {
-        private final Object data;
-        private final long timestamp;
+    private final Map<String, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<String, MemberEventBuffer> eventCache = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastSequences = new ConcurrentHashMap<>();
+    private final Queue<ExpiryMark> expiryQueue = new ConcurrentLinkedQueue<>();
 
-        public CacheEntry(Object data) {
-            this.data = data;
-            this.timestamp = System.currentTimeMillis();
-        }
-
-        public boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > EVENT_CACHE_EXPIRY;
-        }
-
-        public Object getData() {
-            return data;
-        }
+    // 만료 대기열 항목. 추가 시각 순으로 쌓인다
+    private record ExpiryMark(String username, long createdAt) {
     }
 
-    public void save(String emitterId, SseEmitter emitter) {
+    public void save(String username, String emitterId, SseEmitter emitter) {
         log.info("save emitter: {}", emitterId);
-        emitters.put(emitterId, emitter);
+        emitters.computeIfAbsent(username, key -> new ConcurrentHashMap<>()).put(emitterId, emitter);
     }
 
-    public void saveEventCache(String eventCacheId, Object event) {
-        // 새로운 항목 추가 전에 만료된 항목 정리 (임계값 기반)
-        if (eventCache.size() >= INITIAL_CAPACITY * LOAD_FACTOR) {
-            cleanUpExpiredCache();
-        }
-        eventCache.put(eventCacheId, new CacheEntry(event));
+    public Map<String, SseEmitter> findAllEmitterByUsername(String username) {
+        Map<String, SseEmitter> memberEmitters = emitters.get(username);
+        return memberEmitters == null ? Map.of() : Map.copyOf(memberEmitters);
     }
 
-    private void cleanUpExpiredCache() {
-        eventCache.entrySet().removeIf(entry -> entry.getValue().isExpired());
+    public void deleteById(String username, String emitterId) {
+        emitters.computeIfPresent(username, (key, memberEmitters) -> {
+            memberEmitters.remove(emitterId);
+            return memberEmitters.isEmpty() ? null : memberEmitters;
+        });
     }
 
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void deleteAllEmitterByUsername(String username) {
+        emitters.remove(username);
     }
 
-    public Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .filter(entry -> !entry.getValue().isExpired())  // 만료된 항목 필터링
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().getData()
-                ));
+    // 이벤트를 캐시에 남기고 이벤트 id("username_순번")를 돌려준다. 순번은 회원별로 항상 증가하는 밀리초 값이다
+    public String saveEventCache(String username, Object event) {
+        long now = System.currentTimeMillis();
+        long sequence = lastSequences.merge(username, now, (last, current) -> Math.max(last + 1, current));
+        String eventId = username + ID_SEPARATOR + sequence;
+
+        // 정리 작업이 버퍼를 제거하는 것과 겹치지 않도록 추가까지 compute 안에서 한다
+        eventCache.compute(username, (key, buffer) -> {
+            MemberEventBuffer target = buffer == null ? new MemberEventBuffer(EVENT_CACHE_CAPACITY) : buffer;
+            target.add(sequence, eventId, event, now);
+            return target;
+        });
+        expiryQueue.add(new ExpiryMark(username, now));
+        cleanUpExpiredCache();
+        return eventId;
     }
 
-    public void deleteById(String emitterId) {
-        emitters.remove(emitterId);
+    // lastEventId 이후의 이벤트를 오래된 순으로 최대 limit 개
+    public List<CachedEvent> findEventCacheAfter(String username, String lastEventId, int limit) {
+        MemberEventBuffer buffer = eventCache.get(username);
+        if (buffer == null) {
+            return List.of();
+        }
+        buffer.expireBefore(System.currentTimeMillis() - EVENT_CACHE_EXPIRY);
+        return buffer.findAfter(parseSequence(lastEventId), limit);
     }
 
-    public void deleteAllEmitterStartWithId(String memberId) {
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(memberId)) {
-                emitters.remove(key);
-            }
-        });
+    public void deleteAllEventCacheByUsername(String username) {
+        eventCache.remove(username);
     }
 
-    public void deleteAllEventCacheStartWithId(String memberId) {
-        eventCache.entrySet().removeIf(entry ->
-                entry.getKey().startsWith(memberId) || entry.getValue().isExpired()
-        );
+    // 만료 대기열 앞에서부터 만료된 항목만 확인하고, 비게 된 회원 버퍼는 제거한다
+    // 꺼내는 쪽은 한 번에 하나라서 peek 으로 본 항목이 곧 poll 로 꺼내는 항목이다
+    @Scheduled(fixedDelay = 60_000)
+    public synchronized void cleanUpExpiredCache() {
+        long cutoff = System.currentTimeMillis() - EVENT_CACHE_EXPIRY;
+        ExpiryMark mark;
+        while ((mark = expiryQueue.peek()) != null && mark.createdAt() < cutoff) {
+            expiryQueue.poll();
+            eventCache.computeIfPresent(mark.username(), (key, buffer) -> {
+                if (buffer.expireBefore(cutoff) > 0) {
+                    return buffer;
+                }
+                lastSequences.remove(key);
+                return null;
+            });
+        }
+    }
+
+    // "username_순번" 의 순번. 형식이 다르면 모든 이벤트보다 앞(-1)으로 본다
+    private static long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf(ID_SEPARATOR);
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
     }
 }
@@ -0,0 +1,76 @@
+package com.prgrms.ijuju.domain.notification.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 회원 한 명의 최근 이벤트 링 버퍼.
+ * 이벤트는 순번이 증가하는 순서로만 추가되므로 재전송 시작 위치를 이진 탐색으로 찾고,
+ * 가득 차면 가장 오래된 이벤트를 덮어쓴다.
+ */
+final class MemberEventBuffer {
+
+    private final long[] sequences;
+    private final String[] ids;
+    private final Object[] events;
+    private final long[] createdAt;
+    private int head;   // 가장 오래된 이벤트 위치
+    private int size;
+
+    MemberEventBuffer(int capacity) {
+        this.sequences = new long[capacity];
+        this.ids = new String[capacity];
+        this.events = new Object[capacity];
+        this.createdAt = new long[capacity];
+    }
+
+    synchronized void add(long sequence, String id, Object event, long now) {
+        int index;
+        if (size < sequences.length) {
+            index = physical(size);
+            size++;
+        } else {
+            index = head;
+            head = physical(1);
+        }
+        sequences[index] = sequence;
+        ids[index] = id;
+        events[index] = event;
+        createdAt[index] = now;
+    }
+
+    // sequence 보다 뒤의 이벤트를 오래된 순으로 최대 limit 개
+    synchronized List<CachedEvent> findAfter(long sequence, int limit) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sequences[physical(mid)] <= sequence) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        List<CachedEvent> result = new ArrayList<>(Math.min(limit, size - low));
+        for (int i = low; i < size && result.size() < limit; i++) {
+            int index = physical(i);
+            result.add(new CachedEvent(ids[index], events[index]));
+        }
+        return result;
+    }
+
+    // cutoff 이전에 추가된 이벤트를 앞에서부터 버린다. 남은 개수를 돌려준다
+    synchronized int expireBefore(long cutoff) {
+        while (size > 0 && createdAt[head] < cutoff) {
+            ids[head] = null;
+            events[head] = null;
+            head = physical(1);
+            size--;
+        }
+        return size;
+    }
+
+    private int physical(int logical) {
+        return (head + logical) % sequences.length;
+    }
+}
@@ -0,0 +1,66 @@
+package com.prgrms.ijuju.domain.notification.repository;
+
+import com.prgrms.ijuju.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Notification batch insert 전용.
+ * IDENTITY 키는 Hibernate 에서 batch insert 가 되지 않으므로 JDBC batch 로 넣고, 생성된 id 를 입력 순서대로 돌려준다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO notification (receiver_id, sender_login_id, sender_username, title, content, " +
+            "is_read, is_deleted, type, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> batchInsert(List<Notification> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(createdAt);
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Notification notification = notifications.get(i);
+                        ps.setLong(1, notification.getReceiver().getId());
+                        ps.setObject(2, notification.getSenderLoginId());
+                        ps.setString(3, notification.getSenderUsername());
+                        ps.setString(4, notification.getTitle());
+                        ps.setString(5, notification.getContent());
+                        ps.setBoolean(6, notification.getIsRead());
+                        ps.setBoolean(7, notification.getIsDeleted());
+                        ps.setString(8, notification.getType().name());
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return notifications.size();
+                    }
+                }, keyHolder);
+
+        // 드라이버마다 키 컬럼 이름(id / ID / GENERATED_KEY)이 달라 첫 번째 값을 쓴다
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+}
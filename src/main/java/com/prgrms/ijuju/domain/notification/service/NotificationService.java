@@ -5,12 +5,12 @@ import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
 import com.prgrms.ijuju.domain.member.exception.MemberException;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
 import com.prgrms.ijuju.domain.notification.dto.response.NotificationResponseDto;
-import com.prgrms.ijuju.domain.notification.dto.response.SseNotificationResponseDto;
 import com.prgrms.ijuju.domain.notification.entity.Notification;
 import com.prgrms.ijuju.domain.notification.entity.NotificationType;
 import com.prgrms.ijuju.domain.notification.exception.NotificationErrorCode;
 import com.prgrms.ijuju.domain.notification.exception.NotificationException;
-import com.prgrms.ijuju.domain.notification.repository.EmitterRepository;
+import com.prgrms.ijuju.domain.notification.pipeline.NotificationCommand;
+import com.prgrms.ijuju.domain.notification.pipeline.NotificationPipeline;
 import com.prgrms.ijuju.domain.notification.repository.NotificationRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
@@ -21,7 +21,6 @@ import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
-import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -33,8 +32,8 @@ import java.util.Map;
 public class NotificationService {
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
-    private final EmitterRepository emitterRepository;
     private final SseNotificationService sseNotificationService;
+    private final NotificationPipeline notificationPipeline;
 
     public Slice<NotificationResponseDto> getNotifications(String loginId, Pageable pageable) {
         log.info("알림 조회");
@@ -45,62 +44,15 @@ public class NotificationService {
                 .map(notification -> NotificationResponseDto.of(notification, null));
     }
 
+    // 알림 저장과 전달은 파이프라인이 비동기로 모아서 처리한다
     public void createFriendRequestNotification(String senderLoginId, String receiverUsername) {
         log.info("친구 요청 알림 생성 senderLoginId: {}, receiverUsername: {}", senderLoginId, receiverUsername);
-        Member sender = memberRepository.findByLoginId(senderLoginId)
-                .orElseThrow(() -> new NotificationException(NotificationErrorCode.SENDER_NOT_FOUND));
-        Member receiver = memberRepository.findByUsername(receiverUsername)
-                .orElseThrow(() -> new NotificationException(NotificationErrorCode.RECEIVER_NOT_FOUND));
-
-        Notification notification = Notification.builder()
-                .receiver(receiver)
-                .senderLoginId(sender.getId())
-                .senderUsername(sender.getUsername())
-                .title("친구 요청")
-                .content(sender.getUsername() + "님이 친구 요청을 보냈습니다.")
-                .type(NotificationType.FRIEND_REQUEST)
-                .isRead(false)
-                .isDeleted(false)
-                .build();
-
-        notificationRepository.save(notification);
-
-        String eventId = receiverUsername + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberId(receiverUsername);
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(receiverUsername)) {
-                sseNotificationService.sendNotification(emitter, eventId, SseNotificationResponseDto.of(notification, null));
-            }
-        });
+        notificationPipeline.submit(new NotificationCommand(senderLoginId, receiverUsername, NotificationType.FRIEND_REQUEST));
     }
 
     public void createFriendAcceptNotification(String senderLoginId, String receiverUsername) {
         log.info("친구 요청 수락 알림 생성 senderLoginId: {}, receiverUsername: {}", senderLoginId, receiverUsername);
-        Member sender = memberRepository.findByLoginId(senderLoginId)
-                .orElseThrow(() -> new NotificationException(NotificationErrorCode.SENDER_NOT_FOUND));
-        Member receiver = memberRepository.findByUsername(receiverUsername)
-                .orElseThrow(() -> new NotificationException(NotificationErrorCode.RECEIVER_NOT_FOUND));
-
-        Notification notification = Notification.builder()
-                .receiver(receiver)
-                .senderLoginId(sender.getId())
-                .senderUsername(sender.getUsername())
-                .title("친구 요청 수락")
-                .content(sender.getUsername() + "님이 친구 요청을 수락했습니다.")
-                .type(NotificationType.FRIEND_ACCEPT)
-                .isRead(false)
-                .isDeleted(false)
-                .build();
-
-        notificationRepository.save(notification);
-
-        String eventId = receiverUsername + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository.findAllEmitterStartWithByMemberId(receiverUsername);
-        emitters.forEach((key, emitter) -> {
-            if (key.startsWith(receiverUsername)) {
-                sseNotificationService.sendNotification(emitter, eventId, SseNotificationResponseDto.of(notification, null));
-            }
-        });
+        notificationPipeline.submit(new NotificationCommand(senderLoginId, receiverUsername, NotificationType.FRIEND_ACCEPT));
     }
 
     public void markAsRead(Long notificationId, Long userId) {
@@ -120,17 +72,11 @@ public class NotificationService {
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
         String username = member.getUsername();
 
-        String eventId = username + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository
-                .findAllEmitterStartWithByMemberId(username);
-
-        emitters.forEach((key, emitter) -> {
-            sseNotificationService.sendNotification(emitter, eventId,
-                    Map.of(
-                            "type", "READ",
-                            "notificationId", notificationId
-                    ));
-        });
+        sseNotificationService.sendToMember(username,
+                Map.of(
+                        "type", "READ",
+                        "notificationId", notificationId
+                ));
     }
 
     public void markAllAsRead(Long memberId) {
@@ -142,17 +88,11 @@ public class NotificationService {
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
         String username = member.getUsername();
 
-        String eventId = username + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository
-                .findAllEmitterStartWithByMemberId(username);
-
-        emitters.forEach((key, emitter) -> {
-            sseNotificationService.sendNotification(emitter, eventId,
-                    Map.of(
-                            "type", "READ_ALL",
-                            "memberId", memberId
-                    ));
-        });
+        sseNotificationService.sendToMember(username,
+                Map.of(
+                        "type", "READ_ALL",
+                        "memberId", memberId
+                ));
     }
 
     public void markAsDeleted(Long notificationId, Long memberId) {
@@ -169,17 +109,8 @@ public class NotificationService {
         notificationRepository.markAsDeleted(notificationId, memberId);
 
         // SSE로 삭제 이벤트 전송
-        String eventId = username + "_" + System.currentTimeMillis();
-        Map<String, SseEmitter> emitters = emitterRepository
-                .findAllEmitterStartWithByMemberId(username);
-
-        log.info("Found {} emitters for memberId {}", emitters.size(), username);
-
-        emitters.forEach((key, emitter) -> {
-            log.info("Sending delete notification to emitter with key {}", key);
-            sseNotificationService.sendNotification(emitter, eventId,
-                    Map.of("type", "DELETE", "notificationId", notificationId));
-        });
+        sseNotificationService.sendToMember(username,
+                Map.of("type", "DELETE", "notificationId", notificationId));
     }
 
     // 매일 자정에 실행
@@ -4,22 +4,19 @@ import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
 import com.prgrms.ijuju.domain.member.exception.MemberException;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
-import com.prgrms.ijuju.domain.notification.exception.NotificationErrorCode;
-import com.prgrms.ijuju.domain.notification.exception.NotificationException;
+import com.prgrms.ijuju.domain.notification.fanout.NotificationBroker;
 import com.prgrms.ijuju.domain.notification.repository.EmitterRepository;
 import com.prgrms.ijuju.domain.notification.repository.NotificationRepository;
+import com.prgrms.ijuju.domain.notification.sse.SseConnectionManager;
+import jakarta.annotation.PostConstruct;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -27,11 +24,12 @@ import java.util.concurrent.TimeUnit;
 public class SseNotificationService {
     private static final Long DEFAULT_TIMEOUT = 5L * 1000 * 60; // 지속 시간 5분
     private static final Long RECONNECTION_TIMEOUT = 3L * 1000; // 재연결 타임아웃 3초
-    private static final Long HEARTBEAT_INTERVAL = 30L * 1000; // 30초마다 하트비트
 
     private final NotificationRepository notificationRepository;
     private final MemberRepository memberRepository;
     private final EmitterRepository emitterRepository;
+    private final SseConnectionManager sseConnectionManager;
+    private final NotificationBroker notificationBroker;
 
     public SseEmitter subscribe(String memberId, String lastEventId) {
         Member member = memberRepository.findByLoginId(memberId)
@@ -40,93 +38,93 @@ public class SseNotificationService {
         String emitterId = username + "_" + System.currentTimeMillis(); //고유 아이디 생성
 
         // 이전 연결이 있다면 제거
-        emitterRepository.deleteAllEmitterStartWithId(username);
+        closeAllEmitters(username);
 
         SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT); // 현재 클라이언트를 위한 SSeEmitter 객체 생성
 
-        // 하트비트 전송을 위한 스케줄러 설정
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
-        scheduler.scheduleAtFixedRate(() -> {
-            try {
-                sseEmitter.send(SseEmitter.event()
-                        .name("heartbeat")
-                        .data("ping")
-                        .reconnectTime(RECONNECTION_TIMEOUT));
-            } catch (IOException ex) {
-                scheduler.shutdown();
-                emitterRepository.deleteById(emitterId);
-                log.error("하트비트 전송 실패");
-            }
-        }, 0, HEARTBEAT_INTERVAL, TimeUnit.MILLISECONDS);
-
-        // 연결 종료시 스케줄러 정리
-        sseEmitter.onCompletion(() -> {
+        // 하트비트 / 전송 / 연결 종료 처리는 연결 관리자가 맡는다
+        sseConnectionManager.register(emitterId, sseEmitter, () -> {
             log.info("SSE 연결종료 emitterId: {}", emitterId);
-            scheduler.shutdown();
-            emitterRepository.deleteById(emitterId);
-        });
-
-        // 연결 직후 재연결 타임아웃 설정
-        sseEmitter.onTimeout(() -> {
-            emitterRepository.deleteById(emitterId);
-            // 재연결 요청
-            try {
-                sseEmitter.send(SseEmitter.event()
-                        .name("retry")
-                        .data("reconnected")); // 빈 데이터 대신 의미있는 데이터 전송
-            } catch (IOException e) {
-                log.error("Failed to send retry event");
-            }
-        });
-
-        // 에러 발생시 즉시 제거
-        sseEmitter.onError((e) -> {
-            log.error("SSE Error!");
-            emitterRepository.deleteById(emitterId);
+            emitterRepository.deleteById(username, emitterId);
         });
 
-
-        emitterRepository.save(emitterId, sseEmitter);
+        emitterRepository.save(username, emitterId, sseEmitter);
 
         // 503 에러 방지용 더미 이벤트
         sendNotification(sseEmitter, emitterId, "connected");
 
-        // 미수신한 이벤트 재전송 (최근 10개만)
+        // 미수신한 이벤트 재전송 (10개까지). 재전송 로그는 노드 간에 공유된다
         if (!lastEventId.isEmpty()) {
-            Map<String, Object> events = emitterRepository.findAllEventCacheStartWithByMemberId(username);
-            events.entrySet().stream()
-                    .filter(entry -> entry.getKey().compareTo(lastEventId) > 0)
-                    .sorted(Map.Entry.comparingByKey())
-                    .limit(10)
-                    .forEach(entry -> sendNotification(sseEmitter, entry.getKey(), entry.getValue()));
+            notificationBroker.findAfter(username, lastEventId, 10)
+                    .forEach(event -> sendNotification(sseEmitter, event.id(), event.data()));
         }
 
         return sseEmitter;
     }
 
+    // 연결별 전송 대기열에 넣고 바로 반환한다. 전송에 실패한 연결은 연결 관리자가 정리한다
     public void sendNotification(SseEmitter emitter, String emitterId, Object data) {
+        boolean queued = sseConnectionManager.send(emitter, SseEmitter.event()
+                .id(emitterId)
+                .name("notification")
+                .data(data)
+                .reconnectTime(RECONNECTION_TIMEOUT));
+        if (!queued) {
+            log.debug("SSE 전송 생략 - 끊긴 연결 emitterId: {}", emitterId);
+        }
+    }
+
+    // 회원에게 알림 발행. 재전송 로그에 남기고, 회원이 어느 노드에 연결되어 있든 전달되도록 모든 노드로 fan-out 한다
+    // 트랜잭션 안에서 호출되면 커밋 이후에 발행해 롤백된 변경이 알려지지 않게 하고, broker 장애가 DB 작업을 실패시키지 않게 한다
+    // 바로 발행한 경우에만 실패 시 false 를 돌려준다. 스스로 트랜잭션을 열지 않도록 SUPPORTS
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public boolean sendToMember(String username, Object data) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(username, data);
+                }
+            });
+            return true;
+        }
+        return publish(username, data);
+    }
+
+    private boolean publish(String username, Object data) {
         try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
-                    .name("notification")
-                    .data(data)
-                    .reconnectTime(RECONNECTION_TIMEOUT));
-        } catch (IOException exception) {
-            emitterRepository.deleteById(emitterId);
-            log.error("SSE 연결 에러");
-            throw new NotificationException(NotificationErrorCode.SSE_SEND_ERROR);
+            notificationBroker.publish(username, data);
+            return true;
+        } catch (Exception e) {
+            log.error("알림 발행 실패 - username: {}", username, e);
+            return false;
         }
     }
 
+    // 다른 노드(자기 자신 포함)에서 발행된 알림을 이 노드의 연결로 전달
+    @PostConstruct
+    void subscribeFanout() {
+        notificationBroker.subscribe(event -> emitterRepository.findAllEmitterByUsername(event.username())
+                .values()
+                .forEach(emitter -> sendNotification(emitter, event.eventId(), event.data())));
+    }
+
+    // 회원의 열린 연결을 모두 끝낸다
+    private void closeAllEmitters(String username) {
+        emitterRepository.findAllEmitterByUsername(username).values()
+                .forEach(sseConnectionManager::close);
+        emitterRepository.deleteAllEmitterByUsername(username);
+    }
+
     public void disconnect(String memberId) {
         log.info("멤버아이디{} - SSE 연결 종료", memberId);
         Member member = memberRepository.findByLoginId(memberId)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
         String username = member.getUsername();
         // 해당 회원의 모든 emitter 제거
-        emitterRepository.deleteAllEmitterStartWithId(username);
+        closeAllEmitters(username);
         // 해당 회원의 모든 이벤트 캐시 제거
-        emitterRepository.deleteAllEventCacheStartWithId(username);
+        notificationBroker.clear(username);
     }
 
     // 회원 탈퇴시
@@ -138,32 +136,18 @@ public class SseNotificationService {
         notificationRepository.deleteAllByReceiverId(username);
 
         // SSE 연결 종료 및 캐시 삭제
-        emitterRepository.deleteAllEmitterStartWithId(username);
-        emitterRepository.deleteAllEventCacheStartWithId(memberId);
+        closeAllEmitters(username);
+        notificationBroker.clear(username);
     }
 
     // 알림 설정 변경시
+    // 응답으로 돌려줄 수 없는 emitter 를 새로 만들지 않고, 기존 연결을 끝내 클라이언트가 새 설정으로 다시 구독하게 한다
     public void updateNotificationSettings(String memberId) {
         Member member = memberRepository.findByLoginId(memberId)
                 .orElseThrow(() -> new MemberException(MemberErrorCode.MEMBER_NOT_FOUND));
         String username = member.getUsername();
         // 기존 연결 종료 및 캐시 초기화
-        emitterRepository.deleteAllEmitterStartWithId(username);
-        emitterRepository.deleteAllEventCacheStartWithId(username);
-
-        // 새로운 SSE 연결 생성
-        String emitterId = username + "_" + System.currentTimeMillis();
-        SseEmitter sseEmitter = new SseEmitter(DEFAULT_TIMEOUT);
-
-        // 새로운 이미터 저장
-        emitterRepository.save(emitterId, sseEmitter);
-
-        // 연결 종료 시 자동 삭제 설정
-        sseEmitter.onCompletion(() -> emitterRepository.deleteById(emitterId));
-        sseEmitter.onTimeout(() -> emitterRepository.deleteById(emitterId));
-
-        // 연결 설정 완료 이벤트 전송
-        sendNotification(sseEmitter, emitterId,
-                "Notification settings updated for user: " + username);
+        closeAllEmitters(username);
+        notificationBroker.clear(username);
     }
 }
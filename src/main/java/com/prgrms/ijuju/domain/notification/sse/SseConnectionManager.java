@@ -0,0 +1,236 @@
+package com.prgrms.ijuju.domain.notification.sse;
+
+import com.prgrms.ijuju.global.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 연결 관리자.
+ * 모든 연결의 하트비트를 하나의 타이밍 휠로 예약하고, 전송은 연결마다 크기가 제한된 대기열에 넣어 작은 전송 풀에서 순서대로 보낸다.
+ * 대기열이 가득 찬 연결(쌓이는 속도를 따라가지 못하는 클라이언트)은 끊어서 다른 연결의 전송과 메모리를 지키고,
+ * 최근에 이벤트를 보낸 연결은 하트비트를 건너뛴다. 연결 수 / 전송 지연 / 끊긴 연결 수는 stats() 로 확인한다.
+ */
+@Slf4j
+@Component
+public class SseConnectionManager {
+
+    private static final long RECONNECTION_TIMEOUT = 3L * 1000; // 재연결 타임아웃 3초
+
+    private final long heartbeatNanos;
+    private final int queueCapacity;
+    private final ExecutorService sendExecutor;
+    private final HashedTimingWheel wheel;
+    private final Map<SseEmitter, SseConnection> connections = new ConcurrentHashMap<>();
+
+    private final AtomicLong sentEvents = new AtomicLong();
+    private final AtomicLong droppedConnections = new AtomicLong();
+    private final AtomicLong totalSendNanos = new AtomicLong();
+    private final AtomicLong maxSendNanos = new AtomicLong();
+
+    public SseConnectionManager(@Value("${notification.sse.heartbeat-interval-ms:30000}") long heartbeatIntervalMillis,
+                                @Value("${notification.sse.send-queue-capacity:64}") int queueCapacity,
+                                @Value("${notification.sse.sender-threads:4}") int senderThreads) {
+        this.heartbeatNanos = TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMillis);
+        this.queueCapacity = queueCapacity;
+        this.sendExecutor = Executors.newFixedThreadPool(senderThreads, namedThreadFactory());
+        // 하트비트 작업은 대기열에 넣기만 하므로 휠 스레드에서 바로 실행한다
+        this.wheel = new HashedTimingWheel("sse-heartbeat", 1, TimeUnit.SECONDS, 64, Runnable::run);
+    }
+
+    // emitter 를 관리 대상으로 등록. onClose 는 연결이 끝나거나 끊길 때 한 번만 호출된다
+    public void register(String emitterId, SseEmitter emitter, Runnable onClose) {
+        SseConnection connection = new SseConnection(emitterId, emitter, onClose);
+        connections.put(emitter, connection);
+
+        emitter.onCompletion(connection::close);
+        emitter.onError(e -> {
+            log.debug("SSE 에러 emitterId: {}, {}", emitterId, e.getMessage());
+            connection.close();
+        });
+        emitter.onTimeout(() -> {
+            // 재연결 요청
+            try {
+                emitter.send(SseEmitter.event()
+                        .name("retry")
+                        .data("reconnected"));
+            } catch (IOException | IllegalStateException e) {
+                log.debug("retry 이벤트 전송 실패 emitterId: {}", emitterId);
+            }
+            connection.close();
+        });
+        connection.scheduleHeartbeat(heartbeatNanos);
+    }
+
+    // 전송 대기열에 넣는다. 등록되지 않았거나 이미 끊긴 연결이면 false
+    public boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        SseConnection connection = connections.get(emitter);
+        return connection != null && connection.enqueue(event);
+    }
+
+    // 서버 쪽에서 연결을 끝낸다
+    public void close(SseEmitter emitter) {
+        SseConnection connection = connections.get(emitter);
+        if (connection != null) {
+            connection.close();
+        }
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // 이미 완료된 연결
+        }
+    }
+
+    public SseStats stats() {
+        long sent = sentEvents.get();
+        return new SseStats(connections.size(), sent, droppedConnections.get(),
+                sent == 0 ? 0 : totalSendNanos.get() / (double) sent / 1_000_000,
+                TimeUnit.NANOSECONDS.toMillis(maxSendNanos.get()));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.stats-log-interval-ms:60000}")
+    public void logStats() {
+        if (!connections.isEmpty()) {
+            log.info("SSE 연결 현황: {}", stats());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        sendExecutor.shutdown();
+    }
+
+    private void recordSend(long elapsedNanos) {
+        sentEvents.incrementAndGet();
+        totalSendNanos.addAndGet(elapsedNanos);
+        maxSendNanos.accumulateAndGet(elapsedNanos, Math::max);
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "sse-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    public record SseStats(int connections, long sentEvents, long droppedConnections,
+                           double averageSendMillis, long maxSendMillis) {
+    }
+
+    private final class SseConnection {
+        private final String emitterId;
+        private final SseEmitter emitter;
+        private final Runnable onClose;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long lastSentNanos = System.nanoTime();
+        private volatile HashedTimingWheel.Timeout heartbeat;
+
+        private SseConnection(String emitterId, SseEmitter emitter, Runnable onClose) {
+            this.emitterId = emitterId;
+            this.emitter = emitter;
+            this.onClose = onClose;
+        }
+
+        private boolean enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return false;
+            }
+            if (!queue.offer(event)) {
+                drop("전송 대기열 초과");
+                return false;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+            return true;
+        }
+
+        // 한 연결의 전송은 항상 한 스레드에서만 순서대로 진행된다
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    long startedAt = System.nanoTime();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        drop(e.getMessage());
+                        return;
+                    }
+                    lastSentNanos = System.nanoTime();
+                    recordSend(lastSentNanos - startedAt);
+                }
+                draining.set(false);
+            } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void scheduleHeartbeat(long delayNanos) {
+            if (!closed.get()) {
+                heartbeat = wheel.schedule(this::heartbeat, delayNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        // 마지막 전송 이후 하트비트 주기가 지났을 때만 보낸다
+        private void heartbeat() {
+            long idleNanos = System.nanoTime() - lastSentNanos;
+            if (idleNanos < heartbeatNanos) {
+                scheduleHeartbeat(heartbeatNanos - idleNanos);
+                return;
+            }
+            enqueue(SseEmitter.event()
+                    .name("heartbeat")
+                    .data("ping")
+                    .reconnectTime(RECONNECTION_TIMEOUT));
+            scheduleHeartbeat(heartbeatNanos);
+        }
+
+        private void drop(String reason) {
+            if (!close()) {
+                return;
+            }
+            droppedConnections.incrementAndGet();
+            log.warn("SSE 연결 끊김 emitterId: {}, 사유: {}", emitterId, reason);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 완료된 연결
+            }
+        }
+
+        // 처음 닫을 때만 true
+        private boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            connections.remove(emitter);
+            HashedTimingWheel.Timeout current = heartbeat;
+            if (current != null) {
+                current.cancel();
+            }
+            queue.clear();
+            onClose.run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.prgrms.ijuju.domain.ranking.component;
+
+public record LeaderboardEntry(Long memberId, String username, Long weeklyPoints) {
+}
@@ -0,0 +1,271 @@
+package com.prgrms.ijuju.domain.ranking.component;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 주간 랭킹 인메모리 인덱스.
+ * 순위, 상위 N 페이지, 내 주변 순위 조회를 MySQL 없이 O(log n) 으로 처리한다.
+ * 매시간 재계산/월요일 초기화 시 rebuild 되고, 그 사이에는 지갑 포인트 변경 이벤트로 갱신된다.
+ * 랭킹 행이 없는 회원은 재계산으로 행이 생긴 뒤 rebuild 될 때 들어온다. 재구성 중 들어온 변경은 교체 후 다시 적용한다.
+ * 원장 모드의 변경은 version(원장 순번)을 가지고 오며, 회원별로 이미 반영한 것보다 오래된 변경은 버린다.
+ */
+@Component
+public class LeaderboardIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private LeaderboardTree tree = new LeaderboardTree();
+    private Map<Long, LeaderboardEntry> entries = new HashMap<>();
+    // 재구성 중에만 null 이 아니다. lock 으로 보호
+    private Map<Long, LeaderboardEntry> changedDuringRebuild;
+    // 회원별로 마지막에 반영한 변경의 version. 재구성과 상관없이 이벤트 순서를 판단하므로 rebuild 때 비우지 않는다
+    private final Map<Long, Long> versions = new HashMap<>();
+    private volatile boolean loaded = false;
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void rebuild(Collection<LeaderboardEntry> source) {
+        rebuild(() -> source);
+    }
+
+    // loader 로 읽는 동안 들어온 변경을 모아 두었다가, 새 인덱스로 교체한 뒤 다시 적용한다
+    public synchronized void rebuild(Supplier<? extends Collection<LeaderboardEntry>> loader) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new LinkedHashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            swap(loader.get());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void swap(Collection<LeaderboardEntry> source) {
+        LeaderboardTree newTree = new LeaderboardTree();
+        Map<Long, LeaderboardEntry> newEntries = new HashMap<>(source.size() * 2);
+        for (LeaderboardEntry entry : source) {
+            LeaderboardEntry normalized = normalize(entry);
+            LeaderboardEntry previous = newEntries.put(normalized.memberId(), normalized);
+            if (previous != null) {
+                newTree.remove(previous.memberId(), previous.weeklyPoints());
+            }
+            newTree.insert(normalized.memberId(), normalized.weeklyPoints());
+        }
+
+        lock.writeLock().lock();
+        try {
+            this.tree = newTree;
+            this.entries = newEntries;
+            this.loaded = true;
+            changedDuringRebuild.values().forEach(entry -> apply(entry.memberId(), entry.username(), entry.weeklyPoints()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 랭킹에 있는 회원의 점수만 갱신한다. 랭킹 행이 없는 회원은 건너뛰고 false
+    public boolean update(Long memberId, String username, long weeklyPoints) {
+        return update(memberId, username, weeklyPoints, 0L);
+    }
+
+    // version 이 0 이면 순서를 따지지 않고 반영한다. 이미 반영한 version 보다 오래된 변경은 버리고 false
+    public boolean update(Long memberId, String username, long weeklyPoints, long version) {
+        lock.writeLock().lock();
+        try {
+            if (version > 0) {
+                Long applied = versions.get(memberId);
+                if (applied != null && applied > version) {
+                    return false;
+                }
+                if (entries.containsKey(memberId) || changedDuringRebuild != null) {
+                    versions.put(memberId, version);
+                }
+            }
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(memberId, new LeaderboardEntry(memberId, username, weeklyPoints));
+            }
+            return apply(memberId, username, weeklyPoints);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean apply(Long memberId, String username, long weeklyPoints) {
+        LeaderboardEntry previous = entries.get(memberId);
+        if (previous == null) {
+            return false;
+        }
+        if (previous.weeklyPoints() != weeklyPoints || !Objects.equals(previous.username(), username)) {
+            tree.remove(memberId, previous.weeklyPoints());
+            entries.put(memberId, new LeaderboardEntry(memberId, username, weeklyPoints));
+            tree.insert(memberId, weeklyPoints);
+        }
+        return true;
+    }
+
+    public void remove(Long memberId) {
+        lock.writeLock().lock();
+        try {
+            versions.remove(memberId);
+            LeaderboardEntry previous = entries.remove(memberId);
+            if (previous != null) {
+                tree.remove(memberId, previous.weeklyPoints());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tree.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LeaderboardEntry> find(Long memberId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entries.get(memberId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 기존 쿼리와 동일하게 "나보다 점수가 높은 회원 수 + 1".
+    // 랭킹에 없는 회원은 쿼리의 서브쿼리가 NULL 이 되어 아무도 세지 않으므로 1 을 돌려주던 동작을 그대로 따른다
+    public long rankOf(Long memberId) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(memberId);
+            if (entry == null) {
+                return 1L;
+            }
+            return tree.countGreaterThan(entry.weeklyPoints()) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long rankOfPoints(long weeklyPoints) {
+        lock.readLock().lock();
+        try {
+            return tree.countGreaterThan(weeklyPoints) + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<RankedEntry> page(long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            return slice(offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 내 순위 기준 앞뒤 radius 명
+    public List<RankedEntry> around(Long memberId, int radius) {
+        lock.readLock().lock();
+        try {
+            LeaderboardEntry entry = entries.get(memberId);
+            if (entry == null) {
+                return List.of();
+            }
+            int position = tree.indexOf(memberId, entry.weeklyPoints());
+            int from = Math.max(0, position - radius);
+            return slice(from, position - from + radius + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 주어진 회원들만 정렬하여 전역 순위와 함께 반환 (친구 랭킹용, 랭킹에 없는 회원은 제외)
+    public List<RankedEntry> rankedSubset(long[] memberIds) {
+        lock.readLock().lock();
+        try {
+            List<LeaderboardEntry> subset = new ArrayList<>(memberIds.length);
+            for (long memberId : memberIds) {
+                LeaderboardEntry entry = entries.get(memberId);
+                if (entry != null) {
+                    subset.add(entry);
+                }
+            }
+            subset.sort(Comparator.comparing(LeaderboardEntry::weeklyPoints).reversed()
+                    .thenComparing(LeaderboardEntry::memberId));
+
+            List<RankedEntry> result = new ArrayList<>(subset.size());
+            long rank = 0;
+            long previousPoints = Long.MIN_VALUE;
+            for (LeaderboardEntry entry : subset) {
+                if (result.isEmpty() || entry.weeklyPoints() != previousPoints) {
+                    rank = tree.countGreaterThan(entry.weeklyPoints()) + 1;
+                    previousPoints = entry.weeklyPoints();
+                }
+                result.add(new RankedEntry(rank, entry.memberId(), entry.username(), entry.weeklyPoints()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<RankedEntry> slice(long offset, int limit) {
+        int size = tree.size();
+        if (offset >= size || limit <= 0) {
+            return List.of();
+        }
+        int end = (int) Math.min(size, offset + limit);
+        List<RankedEntry> result = new ArrayList<>(end - (int) offset);
+
+        long rank = 0;
+        long previousPoints = Long.MIN_VALUE;
+        for (int index = (int) offset; index < end; index++) {
+            long[] node = tree.get(index);
+            long points = node[1];
+            if (index == offset) {
+                rank = tree.countGreaterThan(points) + 1;
+            } else if (points != previousPoints) {
+                rank = index + 1;
+            }
+            previousPoints = points;
+            LeaderboardEntry entry = entries.get(node[0]);
+            result.add(new RankedEntry(rank, entry.memberId(), entry.username(), points));
+        }
+        return result;
+    }
+
+    private static LeaderboardEntry normalize(LeaderboardEntry entry) {
+        return entry.weeklyPoints() != null ? entry
+                : new LeaderboardEntry(entry.memberId(), entry.username(), 0L);
+    }
+
+    public record RankedEntry(long rank, long memberId, String username, long weeklyPoints) {
+    }
+}
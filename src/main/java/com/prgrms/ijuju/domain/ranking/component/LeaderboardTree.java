@@ -0,0 +1,155 @@
+package com.prgrms.ijuju.domain.ranking.component;
+
+import java.util.SplittableRandom;
+
+/**
+ * (weeklyPoints 내림차순, memberId 오름차순) 으로 정렬되는 order-statistic treap.
+ * 서브트리 크기를 함께 유지해 순위/구간 조회를 O(log n) 에 처리한다. 동기화는 호출 측(LeaderboardIndex)이 담당한다.
+ */
+final class LeaderboardTree {
+
+    private static final class Node {
+        private final long memberId;
+        private final long points;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(long memberId, long points, int priority) {
+            this.memberId = memberId;
+            this.points = points;
+            this.priority = priority;
+        }
+    }
+
+    private final SplittableRandom random = new SplittableRandom();
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(long memberId, long points) {
+        Node[] parts = split(root, points, memberId);
+        root = merge(merge(parts[0], new Node(memberId, points, random.nextInt())), parts[1]);
+    }
+
+    void remove(long memberId, long points) {
+        root = remove(root, points, memberId);
+    }
+
+    // points 보다 큰 점수를 가진 회원 수 (동점자는 같은 순위)
+    long countGreaterThan(long points) {
+        long count = 0;
+        Node node = root;
+        while (node != null) {
+            if (node.points > points) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    // 정렬 순서상 0 기반 위치, 없으면 -1
+    int indexOf(long memberId, long points) {
+        int index = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(points, memberId, node);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    // 0 기반 index 위치의 회원 id 와 점수를 {memberId, points} 로 반환
+    long[] get(int index) {
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return new long[]{node.memberId, node.points};
+            }
+        }
+        throw new IndexOutOfBoundsException("index: " + index);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int compare(long points, long memberId, Node node) {
+        int cmp = Long.compare(node.points, points);
+        return cmp != 0 ? cmp : Long.compare(memberId, node.memberId);
+    }
+
+    // key 보다 앞선 노드는 왼쪽, 나머지는 오른쪽
+    private static Node[] split(Node node, long points, long memberId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(points, memberId, node) > 0) {
+            Node[] parts = split(node.right, points, memberId);
+            node.right = parts[0];
+            update(node);
+            return new Node[]{node, parts[1]};
+        }
+        Node[] parts = split(node.left, points, memberId);
+        node.left = parts[1];
+        update(node);
+        return new Node[]{parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static Node remove(Node node, long points, long memberId) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = compare(points, memberId, node);
+        if (cmp == 0) {
+            return merge(node.left, node.right);
+        }
+        if (cmp < 0) {
+            node.left = remove(node.left, points, memberId);
+        } else {
+            node.right = remove(node.right, points, memberId);
+        }
+        update(node);
+        return node;
+    }
+}
@@ -15,6 +15,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @Slf4j
@@ -44,6 +46,13 @@ public class RankingController {
         return ResponseEntity.ok(rankingService.showAllRankingList(pageable));
     }
 
+    @GetMapping("/around")
+    public ResponseEntity<List<RankingResponse>> showRankingsAroundMe(@AuthenticationPrincipal SecurityUser securityUser,
+                                                                      @RequestParam(defaultValue = "5") int radius) {
+        log.info("내 주변 랭킹 조회");
+        return ResponseEntity.ok(rankingService.showRankingsAroundMember(securityUser.getId(), Math.min(radius, 50)));
+    }
+
     @GetMapping("/friend")
     public ResponseEntity<Page<RankingResponse>> showFriendRankings(@AuthenticationPrincipal SecurityUser securityUser,
                                                                     Pageable pageable) {
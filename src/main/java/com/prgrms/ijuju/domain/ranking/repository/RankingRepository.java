@@ -1,5 +1,6 @@
 package com.prgrms.ijuju.domain.ranking.repository;
 
+import com.prgrms.ijuju.domain.ranking.component.LeaderboardEntry;
 import com.prgrms.ijuju.domain.ranking.entity.Ranking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +33,11 @@ public interface RankingRepository extends JpaRepository<Ranking, Long> {
             "WHERE r.weeklyPoints > (SELECT r2.weeklyPoints FROM Ranking r2 WHERE r2.member.id = :memberId)")
     Long findRankByMemberId(@Param("memberId") Long memberId);
 
+    // 랭킹 인덱스 적재용 projection (Member 엔티티를 로딩하지 않음)
+    @Query("SELECT new com.prgrms.ijuju.domain.ranking.component.LeaderboardEntry(m.id, m.username, r.weeklyPoints) " +
+            "FROM Ranking r JOIN r.member m")
+    List<LeaderboardEntry> findAllLeaderboardEntries();
+
     // 친구의 랭킹 조회를 위한 메서드
     Page<Ranking> findAllByMemberIdInOrderByWeeklyPointsDesc(List<Long> friendIds, Pageable pageable);
 }
@@ -1,5 +1,6 @@
 package com.prgrms.ijuju.domain.ranking.scheduler;
 
+import com.prgrms.ijuju.domain.ranking.service.RankingRecomputeEngine;
 import com.prgrms.ijuju.domain.ranking.service.RankingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,10 @@ public class WeeklyRankingScheduler {
     @Scheduled(cron = "0 0 */1 * * *") // 매시간 실행
     public void scheduleRankingUpdate() {
         log.info("랭킹 업데이트 스케줄러 실행(1시간마다)");
-        rankingService.updateRanking();
+        RankingRecomputeEngine.RecomputeResult result = rankingService.updateRanking();
+        if (result != null) {
+            log.info("랭킹 업데이트 결과 - 대상: {}, 갱신: {}, 신규: {}, 소요: {}ms",
+                    result.scanned(), result.updated(), result.inserted(), result.elapsedMillis());
+        }
     }
 }
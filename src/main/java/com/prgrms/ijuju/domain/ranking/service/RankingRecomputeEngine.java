@@ -0,0 +1,118 @@
+package com.prgrms.ijuju.domain.ranking.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주간 랭킹 일괄 재계산 엔진.
+ * 회원 id 기준 keyset 페이지 단위로 (회원, 지갑, 랭킹)을 한 번에 조회하고
+ * 변경된 랭킹만 JDBC batch 로 UPDATE / INSERT 한다. 페이지마다 트랜잭션을 분리해 락 점유 시간을 짧게 유지한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingRecomputeEngine {
+
+    private static final String SELECT_PAGE_SQL =
+            "SELECT m.id AS member_id, r.rank_id, r.weekly_points, " +
+            "COALESCE(w.current_points, 0) AS current_points " +
+            "FROM member m " +
+            "LEFT JOIN wallet w ON w.member_id = m.id AND w.created_at BETWEEN ? AND ? " +
+            "LEFT JOIN ranking r ON r.member_id = m.id " +
+            "WHERE m.id > ? " +
+            "ORDER BY m.id " +
+            "LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE ranking SET weekly_points = ?, updated_at = ? WHERE rank_id = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO ranking (member_id, week_start, week_end, weekly_points, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${ranking.recompute.page-size:1000}")
+    private int pageSize;
+
+    public RecomputeResult recompute(LocalDateTime weekStart, LocalDateTime weekEnd) {
+        long startedAt = System.nanoTime();
+        long lastMemberId = 0L;
+        int scanned = 0;
+        int updated = 0;
+        int inserted = 0;
+        int pages = 0;
+
+        while (true) {
+            List<Row> rows = fetchPage(weekStart, weekEnd, lastMemberId);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            int[] counts = transactionTemplate.execute(status -> applyPage(rows, weekStart, weekEnd));
+            updated += counts[0];
+            inserted += counts[1];
+            scanned += rows.size();
+            pages++;
+            lastMemberId = rows.get(rows.size() - 1).memberId();
+
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+
+        RecomputeResult result = new RecomputeResult(scanned, updated, inserted, pages,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("주간 랭킹 재계산 완료: {}", result);
+        return result;
+    }
+
+    private List<Row> fetchPage(LocalDateTime weekStart, LocalDateTime weekEnd, long lastMemberId) {
+        return jdbcTemplate.query(SELECT_PAGE_SQL,
+                (rs, rowNum) -> new Row(
+                        rs.getLong("member_id"),
+                        rs.getObject("rank_id", Long.class),
+                        rs.getObject("weekly_points", Long.class),
+                        rs.getLong("current_points")),
+                Timestamp.valueOf(weekStart), Timestamp.valueOf(weekEnd), lastMemberId, pageSize);
+    }
+
+    private int[] applyPage(List<Row> rows, LocalDateTime weekStart, LocalDateTime weekEnd) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+
+        for (Row row : rows) {
+            if (row.rankId() == null) {
+                inserts.add(new Object[]{row.memberId(), Timestamp.valueOf(weekStart), Timestamp.valueOf(weekEnd),
+                        row.weeklyPoints(), now, now});
+            } else if (row.previousPoints() == null || row.previousPoints() != row.weeklyPoints()) {
+                updates.add(new Object[]{row.weeklyPoints(), now, row.rankId()});
+            }
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        return new int[]{updates.size(), inserts.size()};
+    }
+
+    private record Row(long memberId, Long rankId, Long previousPoints, long weeklyPoints) {
+    }
+
+    public record RecomputeResult(int scanned, int updated, int inserted, int pages, long elapsedMillis) {
+    }
+}
@@ -1,87 +1,126 @@
 package com.prgrms.ijuju.domain.ranking.service;
 
-import com.prgrms.ijuju.domain.friend.repository.FriendListRepository;
-import com.prgrms.ijuju.domain.member.entity.Member;
-import com.prgrms.ijuju.domain.wallet.entity.Wallet;
-import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.friend.component.FriendIdCache;
+import com.prgrms.ijuju.domain.ranking.component.LeaderboardEntry;
+import com.prgrms.ijuju.domain.ranking.component.LeaderboardIndex;
 import com.prgrms.ijuju.domain.ranking.dto.response.RankingResponse;
 import com.prgrms.ijuju.domain.ranking.entity.Ranking;
 import com.prgrms.ijuju.domain.ranking.repository.RankingRepository;
-import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import com.prgrms.ijuju.domain.wallet.event.WalletPointsChangedEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class RankingService {
 
-    private final MemberRepository memberRepository;
     private final RankingRepository rankingRepository;
-    private final WalletRepository walletRepository;
-    private final FriendListRepository friendListRepository;
-    LocalDateTime now = LocalDateTime.now();
-    LocalDateTime weekStart = now.withHour(9).withMinute(0).withSecond(0).withNano(0).with(DayOfWeek.MONDAY);
-    LocalDateTime weekEnd = weekStart.plusDays(7);
-
-    public void updateRanking() {
-
-        List<Member> members = memberRepository.findAll();
-        for (Member member : members) {
-            Long weeklyPoints = walletRepository.findByMemberIdAndCreatedAtBetween(member.getId(), weekStart, weekEnd)
-                    .map(Wallet::getCurrentPoints)
-                    .orElse(0L);
-            Optional<Ranking> existingRanking = rankingRepository.findByMemberId(member.getId());
-
-            if (existingRanking.isPresent()) {
-                Ranking ranking = existingRanking.get();
-                ranking.changeWeeklyPoints(weeklyPoints != null ? weeklyPoints : 0L); // dirty checking
-            } else {
-                Ranking newRanking = Ranking.builder()
-                        .member(member)
-                        .weekStart(weekStart)
-                        .weekEnd(weekEnd)
-                        .weeklyPoints(weeklyPoints != null ? weeklyPoints : 0L)
-                        .build();
-                rankingRepository.save(newRanking);
-            }
-        }
+    private final FriendIdCache friendIdCache;
+    private final RankingRecomputeEngine rankingRecomputeEngine;
+    private final LeaderboardIndex leaderboardIndex;
+
+    // 호출 시점이 속한 주의 월요일 09:00. 호출마다 계산해야 기동 후 주가 바뀌어도 맞는 주를 쓴다
+    static LocalDateTime weekStartOf(LocalDateTime now) {
+        return now.withHour(9).withMinute(0).withSecond(0).withNano(0).with(DayOfWeek.MONDAY);
+    }
+
+    // 회원별 조회 대신 keyset 페이지 단위 일괄 재계산
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RankingRecomputeEngine.RecomputeResult updateRanking() {
+        LocalDateTime weekStart = weekStartOf(LocalDateTime.now());
+        RankingRecomputeEngine.RecomputeResult result = rankingRecomputeEngine.recompute(weekStart, weekStart.plusDays(7));
+        rebuildLeaderboard();
+        return result;
     }
 
     public void updateBulkWeekStart() {
-        rankingRepository.updateWeekStartAndEnd(weekStart, weekEnd);
+        LocalDateTime weekStart = weekStartOf(LocalDateTime.now());
+        rankingRepository.updateWeekStartAndEnd(weekStart, weekStart.plusDays(7));
         rankingRepository.resetWeeklyPoints();
+        rebuildLeaderboard();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildLeaderboard() {
+        leaderboardIndex.rebuild(rankingRepository::findAllLeaderboardEntries);
+        log.info("랭킹 인덱스 재구성 완료: {}명", leaderboardIndex.size());
+    }
+
+    // 지갑 포인트 변경이 커밋되면 인덱스를 증분 갱신 (주간 포인트 계산 규칙은 RankingRecomputeEngine 과 동일)
+    // 지갑 원장 모드에서는 트랜잭션 밖에서 발행되므로 fallbackExecution
+    // 랭킹 행이 없는 회원은 인덱스에도 없으므로 건너뛴다. 행은 재계산 때 만들어지고 직후 rebuild 로 들어온다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onWalletPointsChanged(WalletPointsChangedEvent event) {
+        if (!leaderboardIndex.isLoaded()) {
+            return;
+        }
+        LocalDateTime createdAt = event.walletCreatedAt();
+        LocalDateTime weekStart = weekStartOf(LocalDateTime.now());
+        LocalDateTime weekEnd = weekStart.plusDays(7);
+        boolean createdThisWeek = createdAt != null && !createdAt.isBefore(weekStart) && !createdAt.isAfter(weekEnd);
+        long weeklyPoints = createdThisWeek && event.currentPoints() != null ? event.currentPoints() : 0L;
+        leaderboardIndex.update(event.memberId(), event.username(), weeklyPoints, event.version());
     }
 
     @Transactional(readOnly = true)
     public Page<RankingResponse> showAllRankingList(Pageable pageable) {
+        if (leaderboardIndex.isLoaded()) {
+            List<RankingResponse> content = leaderboardIndex.page(pageable.getOffset(), pageable.getPageSize()).stream()
+                    .map(entry -> RankingResponse.of(entry.rank(), entry.username(), entry.weeklyPoints()))
+                    .toList();
+            return new PageImpl<>(content, pageable, leaderboardIndex.size());
+        }
+
         Page<Ranking> allByOrderByWeeklyPointsDesc = rankingRepository.findAllByOrderByWeeklyPointsDesc(pageable);
 
         return allByOrderByWeeklyPointsDesc.map(ranking -> RankingResponse.of(findRankByMemberId(ranking.getMember().getId()), ranking.getMember().getUsername(), ranking.getWeeklyPoints()));
     }
 
-    // 친구의 랭킹 조회
+    // 내 순위 기준 앞뒤 radius 명의 랭킹 조회
     @Transactional(readOnly = true)
-    public Page<RankingResponse> showFriendRankingList(Long memberId, Pageable pageable) {
-        List<Long> friendIds = friendListRepository.findAllByMemberId(memberId).stream()
-                .map(friendList -> friendList.getFriend().getId())
-                .collect(Collectors.toList());
+    public List<RankingResponse> showRankingsAroundMember(Long memberId, int radius) {
+        return leaderboardIndex.around(memberId, radius).stream()
+                .map(entry -> RankingResponse.of(entry.rank(), entry.username(), entry.weeklyPoints()))
+                .toList();
+    }
 
+    // 친구의 랭킹 조회 (캐시된 친구 id 집합 + 랭킹 인덱스, 행 단위 쿼리 없음)
+    @Transactional(readOnly = true)
+    public Page<RankingResponse> showFriendRankingList(Long memberId, Pageable pageable) {
         // 자신의 ID도 친구 목록에 추가
-        if (!friendIds.contains(memberId)) {
-            friendIds.add(memberId);
+        long[] friendIds = friendIdCache.get(memberId).toArrayWith(memberId);
+
+        if (leaderboardIndex.isLoaded()) {
+            List<LeaderboardIndex.RankedEntry> ranked = leaderboardIndex.rankedSubset(friendIds);
+            int from = (int) Math.min(pageable.getOffset(), ranked.size());
+            int to = Math.min(from + pageable.getPageSize(), ranked.size());
+            List<RankingResponse> content = ranked.subList(from, to).stream()
+                    .map(entry -> RankingResponse.of(entry.rank(), entry.username(), entry.weeklyPoints()))
+                    .toList();
+            return new PageImpl<>(content, pageable, ranked.size());
         }
 
-        return rankingRepository.findAllByMemberIdInOrderByWeeklyPointsDesc(friendIds, pageable)
+        List<Long> ids = Arrays.stream(friendIds).boxed().toList();
+        return rankingRepository.findAllByMemberIdInOrderByWeeklyPointsDesc(ids, pageable)
                 .map(ranking -> RankingResponse.of(
                         findRankByMemberId(ranking.getMember().getId()),
                         ranking.getMember().getUsername(),
@@ -91,11 +130,19 @@ public class RankingService {
 
     @Transactional(readOnly = true)
     public Long findRankByMemberId(Long memberId) {
+        if (leaderboardIndex.isLoaded()) {
+            return leaderboardIndex.rankOf(memberId);
+        }
         return rankingRepository.findRankByMemberId(memberId);
     }
 
     @Transactional(readOnly = true)
     public Long findWeeklyPointsByMemberId(Long memberId) {
+        if (leaderboardIndex.isLoaded()) {
+            return leaderboardIndex.find(memberId)
+                    .map(LeaderboardEntry::weeklyPoints)
+                    .orElse(0L);
+        }
         return rankingRepository.findByMemberId(memberId)
                 .map(Ranking::getWeeklyPoints)
                 .orElse(0L);
@@ -0,0 +1,178 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.clock;
+
+import com.prgrms.ijuju.global.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 심화 투자 게임 시계.
+ * 모든 게임의 1초 틱을 하나의 타이밍 휠로 예약하고, 틱 작업은 작은 워커 풀에서 실행한다.
+ * 한 게임의 틱이 끝난 뒤에 다음 틱을 예약하므로 같은 게임의 틱은 겹치지 않고,
+ * 느린 게임이 다른 게임의 틱을 지연시키지 않는다. 게임별 틱 지연(예정 시각 대비 실행 시각)을 기록한다.
+ */
+@Slf4j
+@Component
+public class GameClock {
+
+    private static final long TICK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ExecutorService tickExecutor;
+    private final HashedTimingWheel wheel;
+    private final Map<Long, GameTimer> timers = new ConcurrentHashMap<>();
+
+    public GameClock(@Value("${advanced-invest.clock.worker-threads:8}") int workerThreads) {
+        this.tickExecutor = Executors.newFixedThreadPool(workerThreads, namedThreadFactory());
+        this.wheel = new HashedTimingWheel("adv-game-clock", 100, TimeUnit.MILLISECONDS, 512, tickExecutor);
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    // startSecond 부터 1초마다 handler 호출. 이미 진행 중이면 기존 타이머를 교체한다
+    public void start(Long gameId, int startSecond, GameTickHandler handler) {
+        GameTimer timer = new GameTimer(gameId, startSecond, handler);
+        GameTimer previous = timers.put(gameId, timer);
+        if (previous != null) {
+            previous.stop();
+        }
+        timer.schedule(0);
+    }
+
+    public boolean stop(Long gameId) {
+        GameTimer timer = timers.remove(gameId);
+        if (timer == null) {
+            return false;
+        }
+        timer.stop();
+        log.debug("게임 타이머 정지 - gameId: {}, {}", gameId, timer.lag());
+        return true;
+    }
+
+    public boolean isRunning(Long gameId) {
+        return timers.containsKey(gameId);
+    }
+
+    public Optional<Integer> currentSecond(Long gameId) {
+        return Optional.ofNullable(timers.get(gameId)).map(timer -> timer.second);
+    }
+
+    public Optional<TickLag> lagOf(Long gameId) {
+        return Optional.ofNullable(timers.get(gameId)).map(GameTimer::lag);
+    }
+
+    public Set<Long> runningGameIds() {
+        return Set.copyOf(timers.keySet());
+    }
+
+    public int pendingTicks() {
+        return wheel.pendingTimeouts();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.close();
+        tickExecutor.shutdown();
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "adv-game-tick-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    public interface GameTickHandler {
+        void onTick(Long gameId, int second);
+    }
+
+    public record TickLag(long ticks, long lastMillis, long maxMillis, double averageMillis) {
+    }
+
+    private final class GameTimer {
+        private final Long gameId;
+        private final int startSecond;
+        private final GameTickHandler handler;
+        private final long originNanos = System.nanoTime();
+        private volatile int second;
+        private volatile boolean stopped;
+        private volatile HashedTimingWheel.Timeout timeout;
+        private volatile long scheduledNanos;
+
+        private long ticks;
+        private long lastLagNanos;
+        private long maxLagNanos;
+        private long totalLagNanos;
+
+        private GameTimer(Long gameId, int startSecond, GameTickHandler handler) {
+            this.gameId = gameId;
+            this.startSecond = startSecond;
+            this.second = startSecond;
+            this.handler = handler;
+        }
+
+        // 드리프트가 쌓이지 않도록 시작 시각 기준으로 다음 틱 시각을 계산
+        private void schedule(long elapsedTicks) {
+            if (stopped) {
+                return;
+            }
+            scheduledNanos = originNanos + elapsedTicks * TICK_NANOS;
+            long delay = scheduledNanos - System.nanoTime();
+            timeout = wheel.schedule(this::fire, delay, TimeUnit.NANOSECONDS);
+        }
+
+        private void fire() {
+            if (stopped) {
+                return;
+            }
+            recordLag(System.nanoTime() - scheduledNanos);
+            try {
+                handler.onTick(gameId, second);
+            } catch (Exception e) {
+                log.error("게임 틱 처리 실패 - gameId: {}, second: {}", gameId, second, e);
+            }
+            second++;
+            schedule(second - startSecond);
+        }
+
+        private synchronized void recordLag(long lagNanos) {
+            long lag = Math.max(0, lagNanos);
+            ticks++;
+            lastLagNanos = lag;
+            maxLagNanos = Math.max(maxLagNanos, lag);
+            totalLagNanos += lag;
+        }
+
+        private synchronized TickLag lag() {
+            return new TickLag(ticks,
+                    TimeUnit.NANOSECONDS.toMillis(lastLagNanos),
+                    TimeUnit.NANOSECONDS.toMillis(maxLagNanos),
+                    ticks == 0 ? 0 : totalLagNanos / (double) ticks / 1_000_000);
+        }
+
+        private void stop() {
+            stopped = true;
+            HashedTimingWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+    }
+}
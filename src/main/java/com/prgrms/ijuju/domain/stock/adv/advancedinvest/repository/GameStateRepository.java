@@ -0,0 +1,163 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 진행 중인 게임 상태를 Redis Hash 로 보관한다.
+ * 어느 노드에서든 게임 진행 초/소유 노드/틱 지연을 조회하고 이어서 진행할 수 있도록 한다.
+ * 생성, 소유권 이전, 틱 기록, 일시정지는 Lua 스크립트로 한 번에 확인하고 쓰므로 두 노드가 같은 게임을 동시에 진행하지 않는다.
+ * 스크립트 인자는 해시 값과 같은 직렬화기를 거치므로 저장된 값과 그대로 비교할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameStateRepository {
+
+    private static final String GAME_KEY = "adv:game:";
+    private static final String MEMBER_KEY = "adv:member:";
+    private static final String ACTIVE_KEY = "adv:games";
+    private static final long STATE_TTL_HOURS = 24;
+
+    private static final String MEMBER_ID = "memberId";
+    private static final String SECOND = "second";
+    private static final String NODE = "node";
+    private static final String PAUSED = "paused";
+    private static final String LAG_MAX_MS = "lagMaxMs";
+    private static final String UPDATED_AT = "updatedAt";
+
+    // KEYS: 게임, 회원, 진행 중 게임 집합 / ARGV: 회원 id, 초, 노드, false, 0, 현재 시각, TTL(ms), 게임 id
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'memberId', ARGV[1], 'second', ARGV[2], 'node', ARGV[3], " +
+            "  'paused', ARGV[4], 'lagMaxMs', ARGV[5], 'updatedAt', ARGV[6]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[7]) " +
+            "redis.call('SET', KEYS[2], ARGV[8], 'PX', ARGV[7]) " +
+            "redis.call('SADD', KEYS[3], ARGV[8]) " +
+            "return 1", Long.class);
+
+    // KEYS: 게임 / ARGV: 읽어 둔 노드, 읽어 둔 갱신 시각, 새 노드, false, 현재 시각
+    // 읽은 뒤로 아무도 상태를 바꾸지 않았을 때만 소유권을 가져온다
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HMGET', KEYS[1], 'node', 'updatedAt') " +
+            "if v[1] ~= ARGV[1] or v[2] ~= ARGV[2] then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'node', ARGV[3], 'paused', ARGV[4], 'updatedAt', ARGV[5]) " +
+            "return 1", Long.class);
+
+    // KEYS: 게임 / ARGV: 노드, true, 초, 최대 틱 지연, 현재 시각
+    // 소유 노드가 맞고 일시정지되지 않았을 때만 틱을 기록한다. 조회와 기록을 한 번의 왕복으로 처리한다
+    private static final RedisScript<Long> TICK_SCRIPT = new DefaultRedisScript<>(
+            "local v = redis.call('HMGET', KEYS[1], 'node', 'paused') " +
+            "if not v[1] then return 0 end " +
+            "if v[1] ~= ARGV[1] or v[2] == ARGV[2] then return -1 end " +
+            "redis.call('HSET', KEYS[1], 'second', ARGV[3], 'lagMaxMs', ARGV[4], 'updatedAt', ARGV[5]) " +
+            "return 1", Long.class);
+
+    // KEYS: 게임 / ARGV: 일시정지 여부, 노드, 현재 시각
+    // 상태가 있는 게임에만 기록한다. HSET 은 기존 키의 TTL 을 유지하므로 종료된 게임이 TTL 없이 되살아나지 않는다
+    private static final RedisScript<Long> PAUSE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'paused', ARGV[1], 'node', ARGV[2], 'updatedAt', ARGV[3]) " +
+            "return 1", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 이미 상태가 있으면 만들지 않고 false
+    public boolean create(Long gameId, Long memberId, int second, String node) {
+        Long created = redisTemplate.execute(CREATE_SCRIPT,
+                List.of(GAME_KEY + gameId, MEMBER_KEY + memberId, ACTIVE_KEY),
+                memberId, second, node, false, 0L, System.currentTimeMillis(),
+                TimeUnit.HOURS.toMillis(STATE_TTL_HOURS), gameId);
+        return Long.valueOf(1).equals(created);
+    }
+
+    // expected 를 읽은 뒤 다른 노드가 먼저 이어받았거나 상태가 바뀌었으면 false
+    public boolean claim(GameState expected, String node) {
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT, List.of(GAME_KEY + expected.gameId()),
+                expected.node(), expected.updatedAt(), node, false, System.currentTimeMillis());
+        return Long.valueOf(1).equals(claimed);
+    }
+
+    public Optional<GameState> find(Long gameId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(GAME_KEY + gameId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new GameState(
+                gameId,
+                toLong(fields.get(MEMBER_ID)),
+                (int) toLong(fields.get(SECOND)),
+                (String) fields.get(NODE),
+                Boolean.TRUE.equals(fields.get(PAUSED)),
+                toLong(fields.get(LAG_MAX_MS)),
+                toLong(fields.get(UPDATED_AT))
+        ));
+    }
+
+    public Optional<Long> findGameIdByMemberId(Long memberId) {
+        Object gameId = redisTemplate.opsForValue().get(MEMBER_KEY + memberId);
+        return Optional.ofNullable(gameId).map(GameStateRepository::toLong);
+    }
+
+    // 어느 노드에서 진행 중이든 Redis 에 상태가 남아 있는 게임 id
+    public Set<Long> findActiveGameIds() {
+        Set<Object> members = redisTemplate.opsForSet().members(ACTIVE_KEY);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(GameStateRepository::toLong).collect(Collectors.toSet());
+    }
+
+    // 매 틱마다 한 번의 스크립트 호출로 소유권 확인과 진행 상태 기록
+    public TickResult saveTick(Long gameId, int second, String node, long lagMaxMillis) {
+        Long result = redisTemplate.execute(TICK_SCRIPT, List.of(GAME_KEY + gameId),
+                node, true, second, lagMaxMillis, System.currentTimeMillis());
+        if (result == null || result == 0) {
+            return TickResult.GONE;
+        }
+        return result > 0 ? TickResult.OWNED : TickResult.LOST;
+    }
+
+    // 상태가 없는(종료됐거나 만료된) 게임이면 false
+    public boolean updatePaused(Long gameId, boolean paused, String node) {
+        Long updated = redisTemplate.execute(PAUSE_SCRIPT, List.of(GAME_KEY + gameId),
+                paused, node, System.currentTimeMillis());
+        return Long.valueOf(1).equals(updated);
+    }
+
+    public void delete(Long gameId, Long memberId) {
+        redisTemplate.delete(GAME_KEY + gameId);
+        redisTemplate.opsForSet().remove(ACTIVE_KEY, gameId);
+        if (memberId != null) {
+            redisTemplate.delete(MEMBER_KEY + memberId);
+        }
+    }
+
+    // GenericJackson2JsonRedisSerializer 는 작은 Long 값을 Integer 로 역직렬화하므로 Number 로 변환
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // OWNED: 기록함, LOST: 일시정지됐거나 다른 노드가 이어받음, GONE: 게임 상태가 없음(종료)
+    public enum TickResult {
+        OWNED, LOST, GONE
+    }
+
+    public record GameState(Long gameId, Long memberId, int second, String node, boolean paused,
+                            long lagMaxMillis, long updatedAt) {
+
+        // 소유 노드가 staleMillis 동안 상태를 갱신하지 않았다면 다른 노드가 이어받을 수 있다
+        public boolean isOrphaned(String currentNode, long staleMillis) {
+            return !currentNode.equals(node) && System.currentTimeMillis() - updatedAt > staleMillis;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.prgrms.ijuju.domain.stock.adv.advancedinvest.service;
 
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.clock.GameClock;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.exception.gameexception.GameAlreadyPlayedException;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.exception.gameexception.GameAlreadyStartedException;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.exception.gameexception.GameNotFoundException;
@@ -13,12 +14,13 @@ import com.prgrms.ijuju.global.util.WebSocketUtil;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.StockTransactionRequestDto;
-import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameStateRepository;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
-import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
-import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.MarketDataSnapshot;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.MarketDataSnapshotService;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.service.StockRecordService;
@@ -28,11 +30,12 @@ import com.prgrms.ijuju.domain.wallet.dto.request.StockPointRequestDTO;
 import com.prgrms.ijuju.domain.wallet.entity.StockType;
 import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
 import lombok.RequiredArgsConstructor;
-import org.hibernate.Hibernate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
@@ -42,118 +45,101 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdvancedInvestServiceImpl implements AdvancedInvestService {
 
     private final AdvancedInvestRepository advancedInvestRepository;
-    private final AdvStockRepository advStockRepository;
+    private final MarketDataSnapshotService marketDataSnapshotService;
     private final MemberRepository memberRepository;
     private final StockRecordService stockRecordService;
     private final WalletService walletService;
-    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
+    private final GameClock gameClock;
+    private final GameStateRepository gameStateRepository;
+    // 틱 스레드에서는 자기 호출이라 @Transactional 이 적용되지 않으므로 트랜잭션을 직접 연다
+    private final TransactionTemplate transactionTemplate;
 
-    // activeGame 은 이제 AdvancedInvest Id(gameId) 와 activeTimer 를 매핑하는 HashMap 입니다.
-    // 그냥 간단하게 타이머랑 게암 Id 를 합쳐서 보관한다고 생각하면 편안합니다.
-    private final Map<Long, ScheduledFuture<?>> activeGames = new ConcurrentHashMap<>();
-
-    private final Map<Long, Integer> countDown = new ConcurrentHashMap<>();
+    // 소유 노드가 이 시간 동안 상태를 갱신하지 않으면 다른 노드가 게임을 이어받는다
+    private static final long ORPHAN_TIMEOUT_MILLIS = 5_000;
 
+    // WebSocketSession 은 직렬화할 수 없으므로 이 노드에 연결된 세션만 보관한다.
+    // 진행 초, 회원-게임 매핑 등 나머지 상태는 GameStateRepository(Redis) 에 있다.
     private final Map<Long, WebSocketSession> gameSessions = new ConcurrentHashMap<>();
 
-    private final Map<Long, Integer> liveSentCounter = new ConcurrentHashMap<>();
-
-    private final Map<Long, Long> memberIdToGameId = new ConcurrentHashMap<>();
-
 
     //게임 타이머. 게임은 총 7분 진행되며, 1분은 장전 거래 시간, 5분은 거래 시간, 마지막 1분은 장후 거래 시간
-    //SechduledExecutorService 를 사용하였습니다.   >>>  https://lslagi.tistory.com/entry/JAVA-ScheduledExecutorService-Timer-%EC%A0%81%EC%9A%A9%EC%9E%90%EB%8F%99-%EB%A6%AC%ED%94%8C%EB%A0%88%EC%89%AC
+    //모든 게임의 틱은 GameClock(타이밍 휠 + 워커 풀)에서 실행되므로 한 게임의 느린 DB 조회가 다른 게임을 지연시키지 않는다.
     @Override
     public void startGameTimer(WebSocketSession session, Long gameId, int startSecond) {
+        gameSessions.put(gameId, session);
+        gameClock.start(gameId, startSecond, this::onTick);
+    }
 
+    private void onTick(Long gameId, int second) {
+        try {
+            long lagMaxMillis = gameClock.lagOf(gameId).map(GameClock.TickLag::maxMillis).orElse(0L);
+            GameStateRepository.TickResult result =
+                    gameStateRepository.saveTick(gameId, second, gameClock.nodeId(), lagMaxMillis);
+            if (result != GameStateRepository.TickResult.OWNED) {
+                // 다른 노드에서 일시정지했거나 게임을 이어받은 경우 이 노드의 타이머는 멈추고,
+                // 다른 노드에서 종료한 게임이면 이 노드의 연결도 닫는다
+                gameClock.stop(gameId);
+                if (result == GameStateRepository.TickResult.GONE) {
+                    closeSession(gameId);
+                }
+                return;
+            }
 
-        Runnable gameTask = new Runnable() {
-            int second = startSecond;
-
-            public void run() {
-                try {
-                    countDown.put(gameId, second);
-
-                    if (second == 0) { // 장전 거래 시간 1분 > ReferenceData
-                        sendReferenceData(session);
-                        liveSentCounter.put(gameId, 0);
-
-                    } else if (second >= 15 && second <= 90 && second % 15 == 0) { // 거래 시간 5분 > LiveData >> 총 6개의 데이터가 전돨되어야 한다.
-                        int livePhase = (second - 15) / 15;
-                        sendLiveData(session, livePhase);
-                        liveSentCounter.put(gameId, liveSentCounter.getOrDefault(gameId, 0) + 1);
+            WebSocketSession session = gameSessions.get(gameId);
+            if (second == 0) { // 장전 거래 시간 1분 > ReferenceData
+                sendReferenceData(session);
 
-                    } else if (second == 105) {
-                        endGame(gameId); // 게임 종료
-                        sendEndSignal(session);
+            } else if (second >= 15 && second <= 90 && second % 15 == 0) { // 거래 시간 5분 > LiveData >> 총 6개의 데이터가 전돨되어야 한다.
+                int livePhase = (second - 15) / 15;
+                sendLiveData(session, livePhase);
 
-                        // activeGame.remove(gameId) 시 남는것은 activeTimer (activeGame 은 {id, activeTimer} 이기 때문)
-                        // 즉 현재 진행중인 activeTimer 를 저장하는 과정.
-                        ScheduledFuture<?> activeTimer = activeGames.remove(gameId);
-                        memberIdToGameId.values().remove(gameId);
-                        if (activeTimer != null) {
-                            activeTimer.cancel(false); //타이머 정지
-                        }
-                        countDown.remove(gameId);
-                        liveSentCounter.remove(gameId);
-                    }
+            } else if (second == 105) {
+                gameClock.stop(gameId); //타이머 정지
+                sendEndSignal(session);
+                transactionTemplate.executeWithoutResult(status -> endGame(gameId)); // 게임 종료
+            }
 
-                    second++; // 다음 초로 진행
+        } catch (Exception e) {
+            log.error("게임 진행 중 오류 발생 - gameId: {}, second: {}", gameId, second, e);
+            transactionTemplate.executeWithoutResult(status -> pauseGame(gameId)); // 예외 발생 시 현재 초로 게임 일시 정지
+        }
+    }
 
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    pauseGame(gameId); // 예외 발생 시 현재 초로 게임 일시 정지
-                }
-            }
-        };
+    // 현재 초까지 전송된 LiveData 개수 (15초부터 15초 간격으로 최대 6개)
+    private static int liveSentCount(int second) {
+        return second < 15 ? 0 : Math.min(6, (second - 15) / 15 + 1);
+    }
 
-        //activeTimer 는 카운터 작업을 관리하는 객체
-        ScheduledFuture<?> activeTimer = executorService.scheduleAtFixedRate(gameTask, 0, 1, TimeUnit.SECONDS);
-        activeGames.put(gameId, activeTimer);
-        countDown.put(gameId, startSecond);
-        gameSessions.put(gameId, session);
+    private int currentSecond(Long gameId) {
+        return gameClock.currentSecond(gameId)
+                .or(() -> gameStateRepository.find(gameId).map(GameStateRepository.GameState::second))
+                .orElseThrow(GameNotFoundException::new);
     }
 
     // Reference Data
-    //LazyInitializationException 이 생겨서 문제 해결하려고 발악했었음.
-    @Transactional
+    // 스냅샷에 미리 직렬화해 둔 프레임을 그대로 전송한다
     public void sendReferenceData(WebSocketSession session) {
-        List<AdvStock> referenceData = advStockRepository.findByDataType(DataType.REFERENCE);
-
-        if (referenceData.isEmpty()) {
-            throw new DataNotFoundException();
-        }
+        String frame = marketDataSnapshotService.current().referenceFrame()
+                .orElseThrow(DataNotFoundException::new);
 
-        List<AdvStockResponseDto> responseDto = referenceData.stream()
-                .flatMap(stock -> AdvStockResponseDto.fromEntityForReference(stock).stream())
-                .toList();
-
-        WebSocketUtil.send(session, responseDto);
+        WebSocketUtil.sendJson(session, frame);
     }
 
     // Live Data
-    @Transactional
     public void sendLiveData(WebSocketSession session, int livePhase) {
-        List<AdvStock> liveData = advStockRepository.findByDataType(DataType.LIVE);
+        String frame = marketDataSnapshotService.current().liveFrame(livePhase)  // 특정 시간 데이터를 전송
+                .orElseThrow(DataNotFoundException::new);
 
-        if (liveData.isEmpty() || livePhase >= liveData.size()) {
-            throw new DataNotFoundException();
-        }
-
-        if (livePhase < liveData.size()) {
-            List<AdvStockResponseDto> responseDto = liveData.stream()
-                    .map(stock -> AdvStockResponseDto.fromEntity(stock, livePhase))  // 특정 시간 데이터를 전송
-                    .toList();
-            WebSocketUtil.send(session, responseDto);
-        }
+        WebSocketUtil.sendJson(session, frame);
     }
 
     private void sendEndSignal(WebSocketSession session) {
@@ -161,43 +147,33 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     }
 
     // Volumes 조회
-    @Transactional
     @Override
     public void getRecentVolumes(WebSocketSession session, String stockSymbol, Long gameId) {
-        if (!countDown.containsKey(gameId)) {
-            throw new GameNotFoundException();
-        }
-
-        int liveSentCounterValue = liveSentCounter.getOrDefault(gameId, 0); // LiveData 전송 횟수
+        int liveSentCounterValue = liveSentCount(currentSecond(gameId)); // LiveData 전송 횟수
+        MarketDataSnapshot snapshot = marketDataSnapshotService.current();
 
         // 2. ReferenceData 가져오기
-        List<Long> referenceVolumes = advStockRepository.findBySymbolAndDataType(stockSymbol, DataType.REFERENCE)
-                .map(AdvStock::getVolumes)
+        CandleSeries referenceSeries = snapshot.find(stockSymbol, DataType.REFERENCE)
                 .orElseThrow(() -> new IllegalArgumentException("Reference Data를 찾을 수 없습니다."));
 
         // 3. LiveData 가져오기
-        List<Long> liveVolumes = advStockRepository.findBySymbolAndDataType(stockSymbol, DataType.LIVE)
-                .map(AdvStock::getVolumes)
+        CandleSeries liveSeries = snapshot.find(stockSymbol, DataType.LIVE)
                 .orElseThrow(() -> new IllegalArgumentException("Live Data를 찾을 수 없습니다."));
 
         // 4. ReferenceData와 LiveData 조합
         int referenceCount = Math.max(0, 8 - liveSentCounterValue); // ReferenceData에서 가져올 개수
         int liveCount = Math.min(liveSentCounterValue, 8);         // LiveData에서 가져올 개수
 
-        List<Long> combinedVolumes = new ArrayList<>();
+        List<Long> combinedVolumes = new ArrayList<>(referenceCount + liveCount);
 
         // ReferenceData에서 최신 데이터 추가
-        if (referenceCount > 0) {
-            List<Long> latestReferenceVolumes = referenceVolumes.subList(
-                    Math.max(referenceVolumes.size() - referenceCount, 0), referenceVolumes.size()
-            );
-            combinedVolumes.addAll(latestReferenceVolumes);
+        for (int i = Math.max(referenceSeries.size() - referenceCount, 0); i < referenceSeries.size(); i++) {
+            combinedVolumes.add(referenceSeries.volumeAt(i));
         }
 
         // LiveData에서 가장 오래된 데이터 추가
-        if (liveCount > 0) {
-            List<Long> earliestLiveVolumes = liveVolumes.subList(0, Math.min(liveCount, liveVolumes.size()));
-            combinedVolumes.addAll(earliestLiveVolumes);
+        for (int i = 0; i < Math.min(liveCount, liveSeries.size()); i++) {
+            combinedVolumes.add(liveSeries.volumeAt(i));
         }
 
         // 5. WebSocket으로 전송
@@ -205,6 +181,20 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     }
 
 
+    // Live 데이터의 마지막 종가, Live 데이터가 없으면 Reference 데이터의 마지막 종가
+    private double latestClosePrice(String stockSymbol) {
+        MarketDataSnapshot snapshot = marketDataSnapshotService.current();
+        CandleSeries series = snapshot.find(stockSymbol, DataType.LIVE)
+                .filter(live -> !live.isEmpty())
+                .or(() -> snapshot.find(stockSymbol, DataType.REFERENCE))
+                .orElseThrow(StockNotFoundException::new);
+
+        if (series.isEmpty()) {
+            throw new DataNotFoundException();
+        }
+        return series.lastClose();
+    }
+
     //게임 실행 메소드로, 새벽 6시부터 8시 사이에는 게임이 제한되며, 오늘 하루동안 게임을 이미 했다면 또한 제한된다
     @Transactional
     @Override
@@ -217,7 +207,7 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
             throw new InvalidGameTimeException();
         }
 
-        if (memberIdToGameId.containsKey(memberId)) {
+        if (gameStateRepository.findGameIdByMemberId(memberId).isPresent()) {
             throw new GameAlreadyStartedException();
         }
 
@@ -239,7 +229,7 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
                         .build()
         );
 
-        memberIdToGameId.put(memberId, advancedInvest.getId());
+        gameStateRepository.create(advancedInvest.getId(), memberId, 0, gameClock.nodeId());
 
         // 게임 타이머 시작
         startGameTimer(session, advancedInvest.getId(), 0);
@@ -250,19 +240,14 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     @Override
     @Transactional
     public void pauseGame(Long gameId) {
-        ScheduledFuture<?> activeTimer = activeGames.remove(gameId);
-        if (activeTimer != null) {
-            activeTimer.cancel(false);
-        }
-
-        Integer currentSecond = countDown.get(gameId); // 현재 초수 가져오기
-        if (currentSecond == null) {
-            throw new GameNotFoundException();
-        }
-
         AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
                 .orElseThrow(GameNotFoundException::new);
 
+        int currentSecond = currentSecond(gameId); // 현재 초수 가져오기
+        gameClock.stop(gameId);
+        // 다른 노드가 진행 중인 게임이면 해당 노드의 다음 틱에서 타이머가 멈춘다
+        gameStateRepository.updatePaused(gameId, true, gameClock.nodeId());
+
         advancedInvest.setPaused(true); // 게임은 일시정지 상태로 표시
         advancedInvest.setCurrentSecond(currentSecond);
         advancedInvestRepository.save(advancedInvest);
@@ -274,12 +259,30 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     public void resumeGame(WebSocketSession session, Long gameId) {
         AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
                 .orElseThrow(GameNotFoundException::new);
-        if (!advancedInvest.isPaused()) {
+
+        // 진행 중이던 노드가 내려가 상태 갱신이 끊긴 게임은 Redis 에 남은 초부터 이어서 진행
+        Optional<GameStateRepository.GameState> state = gameStateRepository.find(gameId);
+        Optional<GameStateRepository.GameState> orphaned = state
+                .filter(s -> !s.paused() && s.isOrphaned(gameClock.nodeId(), ORPHAN_TIMEOUT_MILLIS));
+
+        if (!advancedInvest.isPaused() && orphaned.isEmpty()) {
             throw new GameAlreadyPlayedException();
         }
 
-        int currentSecond = advancedInvest.getCurrentSecond(); // 저장된 초 가져오기
+        int currentSecond = orphaned.map(GameStateRepository.GameState::second)
+                .orElse(advancedInvest.getCurrentSecond()); // 저장된 초 가져오기
+
+        // 타이머를 시작하기 전에 소유권부터 가져온다. 다른 노드가 먼저 재개했다면 여기서 실패한다
+        boolean claimed = state
+                .map(current -> gameStateRepository.claim(current, gameClock.nodeId()))
+                .orElseGet(() -> gameStateRepository.create(gameId, advancedInvest.getMember().getId(),
+                        currentSecond, gameClock.nodeId()));
+        if (!claimed) {
+            throw new GameAlreadyStartedException();
+        }
+
         advancedInvest.setPaused(false); // 게임 상태를 진행 중으로 변경
+        advancedInvest.setCurrentSecond(currentSecond);
         advancedInvestRepository.save(advancedInvest);
 
         startGameTimer(session, gameId, currentSecond); // 타이머 재개
@@ -293,12 +296,17 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
                 .orElseThrow(GameNotFoundException::new);
 
 
-        activeGames.remove(gameId);
+        gameClock.stop(gameId);
+        gameStateRepository.delete(gameId, advancedInvest.getMember().getId());
 
         advancedInvest.setPlayedToday(true);
         advancedInvestRepository.save(advancedInvest);
 
         //웹소켓 종료
+        closeSession(gameId);
+    }
+
+    private void closeSession(Long gameId) {
         WebSocketSession session = gameSessions.remove(gameId);
         if (session != null && session.isOpen()) {
             try {
@@ -312,10 +320,7 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     // 남은 시간 조회 메소드
     @Override
     public int getRemainingTime(Long gameId) {
-        Integer currentSecond = countDown.get(gameId);
-        if (currentSecond == null) {
-            throw new GameNotFoundException();
-        }
+        int currentSecond = currentSecond(gameId);
         return 420 - currentSecond; // 전체 시간에서 현재 초수 뺀 값 반환
     }
 
@@ -329,9 +334,15 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
         //7시에 모든 유저 PlayedToday = false;
         advancedInvestRepository.resetPlayedToday();
 
-        // 진행 중인 게임 강제 종료
-        for (Long gameId : activeGames.keySet()) {
-            endGame(gameId);
+        // 진행 중인 게임 강제 종료. 이 노드의 타이머가 아니라 Redis 에 공유된 상태 기준으로 모든 노드의 게임을 끝낸다
+        // 다른 노드에서 돌던 타이머는 다음 틱에 상태가 없어진 것을 보고 멈춘다
+        for (Long gameId : gameStateRepository.findActiveGameIds()) {
+            try {
+                endGame(gameId);
+            } catch (GameNotFoundException e) {
+                log.warn("DB 에 없는 게임 상태 정리 - gameId: {}", gameId);
+                gameStateRepository.delete(gameId, null);
+            }
         }
 
         // 정지 상태인 게임 강제 종료
@@ -348,15 +359,7 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
         AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
                 .orElseThrow(GameNotFoundException::new);
 
-        List<Double> closePrices = advStockRepository.findBySymbol(request.getStockSymbol())
-                .map(AdvStock::getClosePrices)
-                .orElseThrow(StockNotFoundException::new);
-
-        if (closePrices.isEmpty()) {
-            throw new DataNotFoundException();
-        }
-
-        Double latestClosePrice = closePrices.get(closePrices.size() - 1); // 가장 최신 종가
+        double latestClosePrice = latestClosePrice(request.getStockSymbol()); // 가장 최신 종가
 
         if (request.getQuantity() <= 0) {
             throw new InvalidQuantityException();
@@ -395,15 +398,7 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
         AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
                 .orElseThrow(GameNotFoundException::new);
 
-        List<Double> closePrices = advStockRepository.findBySymbol(request.getStockSymbol())
-                .map(AdvStock::getClosePrices)
-                .orElseThrow(StockNotFoundException::new);
-
-        if (closePrices.isEmpty()) {
-            throw new DataNotFoundException();
-        }
-
-        Double latestClosePrice = closePrices.get(closePrices.size() - 1); // 가장 최신 종가
+        double latestClosePrice = latestClosePrice(request.getStockSymbol()); // 가장 최신 종가
 
         if (request.getQuantity() <= 0) {
             throw new InvalidQuantityException();
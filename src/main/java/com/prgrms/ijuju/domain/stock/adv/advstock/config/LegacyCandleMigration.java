@@ -0,0 +1,149 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.config;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvCandle;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AdvStock 봉 데이터를 예전 @ElementCollection 테이블(adv_stock_open_prices 등 6개)에서 adv_candle 로 옮긴다.
+ * 기동 시 adv_candle 행이 없는 AdvStock 만 대상으로 하며, 옮긴 뒤에는 예전 테이블의 해당 행을 지워 다시 실행해도 안전하다.
+ * 예전 테이블이 없으면(새로 만든 DB) 아무 것도 하지 않는다.
+ * 예전 테이블에는 순서 컬럼이 없으므로 삽입 순서로 읽고, 그 순서가 시간순(timestamps 정렬 결과)과 같을 때만 옮긴다.
+ * 크기가 맞지 않거나 시간순이 아닌 데이터는 옮기지 않고 bar_count = 0 으로 표시한 뒤 예전 행을 정리한다
+ * (다음 일일 스케줄러가 새로 받아온다). 표시된 종목은 다음 기동 때 다시 대상이 되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyCandleMigration {
+
+    private static final String[][] LEGACY_COLUMNS = {
+            {"adv_stock_open_prices", "open_prices"},
+            {"adv_stock_high_prices", "high_prices"},
+            {"adv_stock_low_prices", "low_prices"},
+            {"adv_stock_close_prices", "close_prices"},
+            {"adv_stock_volumes", "volumes"},
+            {"adv_stock_timestamps", "timestamps"}
+    };
+
+    private static final String PENDING_SQL =
+            "SELECT s.id FROM adv_stock s " +
+            "WHERE s.bar_count IS NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM adv_candle c WHERE c.adv_stock_id = s.id) " +
+            "ORDER BY s.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AdvCandleJdbcRepository advCandleJdbcRepository;
+
+    @Value("${advanced-invest.candle.migrate-legacy:true}")
+    private boolean enabled;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE) // 시장 데이터 스냅샷 초기화보다 먼저 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled || !legacyTablesExist()) {
+            return;
+        }
+
+        List<Long> pending = jdbcTemplate.queryForList(PENDING_SQL, Long.class);
+        if (pending.isEmpty()) {
+            return;
+        }
+        int migrated = 0;
+        int skipped = 0;
+        for (Long advStockId : pending) {
+            try {
+                Boolean done = transactionTemplate.execute(status -> migrateStock(advStockId));
+                if (Boolean.TRUE.equals(done)) {
+                    migrated++;
+                } else {
+                    skipped++;
+                }
+            } catch (DataAccessException e) {
+                log.error("AdvStock 봉 데이터 이전 실패 - advStockId: {}", advStockId, e);
+            }
+        }
+        log.info("AdvStock 봉 데이터 이전 완료 - 대상: {}, 이전: {}, 건너뜀: {}", pending.size(), migrated, skipped);
+    }
+
+    private boolean migrateStock(Long advStockId) {
+        // 예전 매핑도 순서 컬럼 없이 읽었으므로 같은 방식(삽입 순서)으로 읽는다
+        List<List<Number>> columns = new ArrayList<>(LEGACY_COLUMNS.length);
+        for (String[] legacy : LEGACY_COLUMNS) {
+            columns.add(jdbcTemplate.queryForList(
+                    "SELECT " + legacy[1] + " FROM " + legacy[0] + " WHERE adv_stock_id = ?", Number.class, advStockId));
+        }
+
+        List<Long> times = jdbcTemplate.queryForList(
+                "SELECT timestamps FROM adv_stock_timestamps WHERE adv_stock_id = ? ORDER BY timestamps",
+                Long.class, advStockId);
+
+        int size = columns.get(0).size();
+        boolean consistent = size > 0 && columns.stream().allMatch(column -> column.size() == size)
+                && isChronological(columns.get(5), times);
+
+        if (consistent) {
+            List<AdvCandle> candles = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                candles.add(AdvCandle.builder()
+                        .advStockId(advStockId)
+                        .barIndex(i)
+                        .openPrice(columns.get(0).get(i).doubleValue())
+                        .highPrice(columns.get(1).get(i).doubleValue())
+                        .lowPrice(columns.get(2).get(i).doubleValue())
+                        .closePrice(columns.get(3).get(i).doubleValue())
+                        .volume(columns.get(4).get(i).longValue())
+                        .timestamp(columns.get(5).get(i).longValue())
+                        .build());
+            }
+            advCandleJdbcRepository.batchInsert(candles);
+            jdbcTemplate.update("UPDATE adv_stock SET bar_count = ? WHERE id = ?", size, advStockId);
+        } else {
+            log.warn("AdvStock 예전 봉 데이터 크기 불일치 또는 시간순 아님, 이전하지 않음 - advStockId: {}", advStockId);
+            jdbcTemplate.update("UPDATE adv_stock SET bar_count = 0 WHERE id = ?", advStockId);
+        }
+
+        for (String[] legacy : LEGACY_COLUMNS) {
+            jdbcTemplate.update("DELETE FROM " + legacy[0] + " WHERE adv_stock_id = ?", advStockId);
+        }
+        return consistent;
+    }
+
+    // 삽입 순서로 읽은 시각이 정렬한 시각과 같아야 다른 컬럼의 삽입 순서도 시간순이라고 볼 수 있다
+    private static boolean isChronological(List<Number> inserted, List<Long> sorted) {
+        if (inserted.size() != sorted.size()) {
+            return false;
+        }
+        for (int i = 0; i < inserted.size(); i++) {
+            if (inserted.get(i).longValue() != sorted.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean legacyTablesExist() {
+        try {
+            for (String[] legacy : LEGACY_COLUMNS) {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + legacy[0] + " WHERE 1 = 0", Long.class);
+            }
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.constant;
+
+public enum GenerationStatus {
+    STAGING,    //수집 중. 조회에 노출되지 않음
+    ACTIVE,     //현재 게임 / 아티클이 읽는 데이터
+    RETIRED,    //새 세대로 교체됨. 정리 대상
+    FAILED      //수집 실패로 폐기됨. 정리 대상
+}
@@ -0,0 +1,114 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.data;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvCandle;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 종목, 한 데이터 타입의 OHLCV 를 primitive 배열로 보관하는 불변 시계열.
+ * 게임 틱마다 엔티티 컬렉션을 다시 읽지 않도록 MarketDataSnapshot 이 보관한다.
+ */
+public final class CandleSeries {
+
+    @Getter
+    private final String symbol;
+    @Getter
+    private final String name;
+    @Getter
+    private final DataType dataType;
+    private final double[] openPrices;
+    private final double[] highPrices;
+    private final double[] lowPrices;
+    private final double[] closePrices;
+    private final long[] volumes;
+    private final long[] timestamps;
+
+    public CandleSeries(String symbol, String name, DataType dataType,
+                        double[] openPrices, double[] highPrices, double[] lowPrices, double[] closePrices,
+                        long[] volumes, long[] timestamps) {
+        int size = openPrices.length;
+        if (highPrices.length != size || lowPrices.length != size || closePrices.length != size
+                || volumes.length != size || timestamps.length != size) {
+            throw new IllegalArgumentException("OHLCV 배열 길이가 일치하지 않습니다: " + symbol);
+        }
+        this.symbol = symbol;
+        this.name = name;
+        this.dataType = dataType;
+        this.openPrices = openPrices;
+        this.highPrices = highPrices;
+        this.lowPrices = lowPrices;
+        this.closePrices = closePrices;
+        this.volumes = volumes;
+        this.timestamps = timestamps;
+    }
+
+    // candles 는 barIndex 오름차순이어야 한다
+    public static CandleSeries from(AdvStock advStock, List<AdvCandle> candles) {
+        int size = candles.size();
+        double[] openPrices = new double[size];
+        double[] highPrices = new double[size];
+        double[] lowPrices = new double[size];
+        double[] closePrices = new double[size];
+        long[] volumes = new long[size];
+        long[] timestamps = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            AdvCandle candle = candles.get(i);
+            openPrices[i] = candle.getOpenPrice();
+            highPrices[i] = candle.getHighPrice();
+            lowPrices[i] = candle.getLowPrice();
+            closePrices[i] = candle.getClosePrice();
+            volumes[i] = candle.getVolume();
+            timestamps[i] = candle.getTimestamp();
+        }
+        return new CandleSeries(advStock.getSymbol(), advStock.getName(), advStock.getDataType(),
+                openPrices, highPrices, lowPrices, closePrices, volumes, timestamps);
+    }
+
+    public int size() {
+        return openPrices.length;
+    }
+
+    public boolean isEmpty() {
+        return openPrices.length == 0;
+    }
+
+    public double closeAt(int index) {
+        return closePrices[index];
+    }
+
+    public double lastClose() {
+        return closePrices[closePrices.length - 1];
+    }
+
+    public long timestampAt(int index) {
+        return timestamps[index];
+    }
+
+    public long volumeAt(int index) {
+        return volumes[index];
+    }
+
+    // [from, to) 구간 거래량 복사본
+    public long[] volumes(int from, int to) {
+        return Arrays.copyOfRange(volumes, from, to);
+    }
+
+    public AdvStockResponseDto toResponse(int index) {
+        return AdvStockResponseDto.builder()
+                .symbol(symbol)
+                .name(name)
+                .openPrice(openPrices[index])
+                .highPrice(highPrices[index])
+                .lowPrice(lowPrices[index])
+                .closePrice(closePrices[index])
+                .timestamp(timestamps[index])
+                .dataType(dataType.name())
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.data;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.global.util.WebSocketUtil;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 하루 동안 변하지 않는 심화 투자 시장 데이터의 불변 스냅샷.
+ * 종목별 시계열과 함께 Reference 전송 프레임, Live 단계별 전송 프레임을 미리 JSON 으로 만들어 둔다.
+ * 일일 데이터 갱신 후 MarketDataSnapshotService 가 통째로 교체한다.
+ */
+public final class MarketDataSnapshot {
+
+    private final Map<DataType, Map<String, CandleSeries>> series;
+    private final String referenceFrame;
+    private final List<String> liveFrames;
+    @Getter
+    private final LocalDateTime builtAt = LocalDateTime.now();
+
+    private MarketDataSnapshot(Map<DataType, Map<String, CandleSeries>> series, String referenceFrame,
+                               List<String> liveFrames) {
+        this.series = series;
+        this.referenceFrame = referenceFrame;
+        this.liveFrames = liveFrames;
+    }
+
+    public static MarketDataSnapshot of(Collection<CandleSeries> candleSeries) {
+        Map<DataType, Map<String, CandleSeries>> byType = new EnumMap<>(DataType.class);
+        for (CandleSeries each : candleSeries) {
+            byType.computeIfAbsent(each.getDataType(), type -> new LinkedHashMap<>()).put(each.getSymbol(), each);
+        }
+        byType.replaceAll((type, bySymbol) -> Collections.unmodifiableMap(bySymbol));
+
+        Collection<CandleSeries> reference = byType.getOrDefault(DataType.REFERENCE, Map.of()).values();
+        Collection<CandleSeries> live = byType.getOrDefault(DataType.LIVE, Map.of()).values();
+
+        return new MarketDataSnapshot(byType, buildReferenceFrame(reference), buildLiveFrames(live));
+    }
+
+    public Optional<CandleSeries> find(String symbol, DataType dataType) {
+        return Optional.ofNullable(series.getOrDefault(dataType, Map.of()).get(symbol));
+    }
+
+    public Collection<CandleSeries> findAll(DataType dataType) {
+        return series.getOrDefault(dataType, Map.of()).values();
+    }
+
+    public Optional<String> referenceFrame() {
+        return Optional.ofNullable(referenceFrame);
+    }
+
+    public Optional<String> liveFrame(int livePhase) {
+        if (livePhase < 0 || livePhase >= liveFrames.size()) {
+            return Optional.empty();
+        }
+        return Optional.of(liveFrames.get(livePhase));
+    }
+
+    public int livePhaseCount() {
+        return liveFrames.size();
+    }
+
+    // 모든 종목의 Reference 데이터를 한 번에 전송하는 프레임
+    private static String buildReferenceFrame(Collection<CandleSeries> reference) {
+        if (reference.isEmpty()) {
+            return null;
+        }
+        List<AdvStockResponseDto> responses = new ArrayList<>();
+        for (CandleSeries each : reference) {
+            for (int i = 0; i < each.size(); i++) {
+                responses.add(each.toResponse(i));
+            }
+        }
+        return WebSocketUtil.toJson(responses);
+    }
+
+    // livePhase 별로 모든 종목의 해당 시점 데이터를 담은 프레임 (모든 종목에 데이터가 있는 구간까지)
+    private static List<String> buildLiveFrames(Collection<CandleSeries> live) {
+        if (live.isEmpty()) {
+            return List.of();
+        }
+        int phases = live.stream().mapToInt(CandleSeries::size).min().orElse(0);
+        List<String> frames = new ArrayList<>(phases);
+        for (int phase = 0; phase < phases; phase++) {
+            List<AdvStockResponseDto> responses = new ArrayList<>(live.size());
+            for (CandleSeries each : live) {
+                responses.add(each.toResponse(phase));
+            }
+            frames.add(WebSocketUtil.toJson(responses));
+        }
+        return List.copyOf(frames);
+    }
+}
@@ -0,0 +1,37 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * AdvStock 한 건의 봉(1시간) 하나. (adv_stock_id, bar_index) 로 정렬되어 있어 구간 / 단건 조회가 인덱스로 처리된다.
+ * 저장은 AdvCandleJdbcRepository 의 batch insert 로만 한다.
+ */
+@Entity
+@Getter
+@ToString
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "adv_candle",
+        uniqueConstraints = @UniqueConstraint(name = "uk_adv_candle_stock_bar", columnNames = {"adv_stock_id", "bar_index"}))
+public class AdvCandle {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "adv_stock_id", nullable = false)
+    private Long advStockId;
+
+    @Column(name = "bar_index", nullable = false)
+    private int barIndex;       //AdvStock 내 순서 (0부터)
+
+    private double openPrice;   //시가 'o'
+    private double highPrice;   //고가 'h'
+    private double lowPrice;    //저가 'l'
+    private double closePrice;  //종가 'c'
+    private long volume;        //거래량 'v'
+
+    @Column(name = "bar_timestamp")
+    private long timestamp;     //시간 't'
+}
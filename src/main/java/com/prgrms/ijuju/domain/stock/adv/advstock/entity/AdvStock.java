@@ -5,8 +5,6 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.util.List;
-
 @Entity
 @Getter
 @ToString
@@ -22,23 +20,11 @@ public class AdvStock {
     private String symbol;  //주식 심볼 > 에: "AAPL"
     private String name;    //주식 이름 > 에: "Apple Inc."
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> openPrices;   //시가 'o'
-
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> highPrices;   //고가 'h'
-
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> lowPrices;    //저가 'l'
-
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> closePrices;  //종가 'c'
-
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Long> volumes;      //거래량 'v'
+    //봉 데이터는 AdvCandle(adv_candle) 에 한 행씩 저장된다
+    private Integer barCount;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Long> timestamps;   //시간 't'
+    //AdvStockGeneration id. 예전 데이터는 null 이며 0 세대로 취급한다
+    private Long generation;
 
     @Enumerated(EnumType.STRING)
     private DataType dataType;  //REFERENCE or LIVE or FORECAST > stock.constant 내부 확인
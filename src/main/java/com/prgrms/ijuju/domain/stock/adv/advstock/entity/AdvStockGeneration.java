@@ -0,0 +1,32 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.entity;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.GenerationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일일 주식 데이터 수집 한 회차. AdvStock.generation 이 이 id 를 가리킨다.
+ * 수집은 STAGING 세대에 쌓고, 모두 저장된 뒤 ACTIVE 로 한 번에 전환하므로 수집 중에도 기존 데이터가 그대로 조회된다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "adv_stock_generation")
+public class AdvStockGeneration {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Setter
+    @Enumerated(EnumType.STRING)
+    private GenerationStatus status;
+
+    private LocalDateTime createdAt;
+
+    @Setter
+    private LocalDateTime activatedAt;
+}
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.event;
+
+// 새 주식 데이터 세대가 ACTIVE 로 전환되어 커밋된 뒤 시장 데이터 스냅샷을 다시 만들기 위한 이벤트
+public record AdvStockDataUpdatedEvent(Long generation) {
+}
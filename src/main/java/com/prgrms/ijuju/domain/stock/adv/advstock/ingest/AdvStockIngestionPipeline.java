@@ -0,0 +1,167 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockDataFetcher;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
+import com.prgrms.ijuju.global.util.TokenBucket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 일일 주식 데이터 수집 파이프라인.
+ * 요청들을 작은 워커 풀에서 동시에 가져오되 토큰 버킷으로 API 호출 속도를 제한하고, 일시적 오류(429, 5xx, 네트워크)는 지수 백오프로 재시도한다.
+ * 가져온 데이터는 새 STAGING 세대에 바로 저장하고, Reference / Live 가 모두 저장되었을 때만 ACTIVE 로 전환한다.
+ * 그 전까지 게임과 아티클은 기존 세대를 그대로 읽는다.
+ */
+@Slf4j
+@Component
+public class AdvStockIngestionPipeline {
+
+    private final AdvStockService advStockService;
+    private final CandleSource candleSource;
+    private final TokenBucket rateLimiter;
+    private final int concurrency;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    @Autowired
+    public AdvStockIngestionPipeline(AdvStockService advStockService,
+                                     AdvStockDataFetcher advStockDataFetcher,
+                                     ObjectMapper objectMapper,
+                                     @Value("${advanced-invest.ingest.replay-dir:}") String replayDir,
+                                     @Value("${advanced-invest.ingest.concurrency:4}") int concurrency,
+                                     @Value("${advanced-invest.ingest.rate-per-minute:5}") long ratePerMinute,
+                                     @Value("${advanced-invest.ingest.burst:5}") long burst,
+                                     @Value("${advanced-invest.ingest.max-attempts:4}") int maxAttempts,
+                                     @Value("${advanced-invest.ingest.backoff-millis:2000}") long backoffMillis) {
+        // replay 디렉터리가 설정되면 네트워크 없이 파일로 수집하며 속도 제한도 걸지 않는다
+        this(advStockService,
+                replayDir.isBlank() ? advStockDataFetcher : new ReplayCandleSource(Path.of(replayDir), objectMapper),
+                replayDir.isBlank() ? TokenBucket.perMinute(ratePerMinute, burst) : null,
+                concurrency, maxAttempts, backoffMillis);
+    }
+
+    AdvStockIngestionPipeline(AdvStockService advStockService, CandleSource candleSource, TokenBucket rateLimiter,
+                              int concurrency, int maxAttempts, long backoffMillis) {
+        this.advStockService = advStockService;
+        this.candleSource = candleSource;
+        this.rateLimiter = rateLimiter;
+        this.concurrency = Math.max(1, concurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+    }
+
+    public IngestionReport ingest(List<CandleRequest> requests) {
+        long startedAt = System.nanoTime();
+        Long generation = advStockService.openGeneration();
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(concurrency, Math.max(1, requests.size())),
+                namedThreadFactory());
+        List<String> failures = new ArrayList<>();
+        boolean required = true;
+        try {
+            List<CompletableFuture<String>> results = requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(() -> ingestOne(request, generation), workers))
+                    .toList();
+
+            for (int i = 0; i < requests.size(); i++) {
+                String failure = results.get(i).join();
+                if (failure != null) {
+                    failures.add(failure);
+                    // Forecast 는 아티클 용이라 실패해도 세대 전환을 막지 않는다
+                    if (requests.get(i).dataType() != DataType.FORECAST) {
+                        required = false;
+                    }
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        boolean activated = required && failures.size() < requests.size();
+        if (activated) {
+            advStockService.activateGeneration(generation);
+        } else {
+            advStockService.discardGeneration(generation);
+        }
+        advStockService.purgeInactiveGenerations();
+
+        IngestionReport report = new IngestionReport(generation, requests.size(), requests.size() - failures.size(),
+                List.copyOf(failures), activated, (System.nanoTime() - startedAt) / 1_000_000);
+        if (activated) {
+            log.info("주식 데이터 수집 완료: {}", report);
+        } else {
+            log.error("주식 데이터 수집 실패, 기존 데이터를 유지합니다: {}", report);
+        }
+        return report;
+    }
+
+    // 성공하면 null, 실패하면 실패 사유
+    private String ingestOne(CandleRequest request, Long generation) {
+        try {
+            PolygonCandleResponse response = fetchWithRetry(request);
+            advStockService.saveStockData(request.symbol(), request.symbol() + " Name", response,
+                    request.dataType(), generation);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return request.symbol() + " " + request.dataType() + ": interrupted";
+        } catch (Exception e) {
+            log.error("데이터 처리 중 오류 발생: {} {}", request.symbol(), request.dataType(), e);
+            return request.symbol() + " " + request.dataType() + ": " + e.getClass().getSimpleName();
+        }
+    }
+
+    private PolygonCandleResponse fetchWithRetry(CandleRequest request) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            if (rateLimiter != null) {
+                rateLimiter.acquire();
+            }
+            try {
+                return candleSource.fetch(request);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long delay = backoffMillis << (attempt - 1);
+                delay += ThreadLocalRandom.current().nextLong(delay / 2 + 1); // 동시에 재시도가 몰리지 않도록 jitter
+                log.warn("주식 데이터 요청 재시도 {}/{} - {} {}, {}ms 후: {}",
+                        attempt, maxAttempts, request.symbol(), request.dataType(), delay, e.getMessage());
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    private static boolean isRetryable(RuntimeException e) {
+        if (e instanceof RestClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return e instanceof ResourceAccessException;
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "adv-ingest-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,8 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+
+// Polygon aggregates 요청 하나 (symbol 의 startDate ~ endDate, multiplier * timespan 봉)
+public record CandleRequest(String symbol, DataType dataType, int multiplier, String timespan,
+                            String startDate, String endDate) {
+}
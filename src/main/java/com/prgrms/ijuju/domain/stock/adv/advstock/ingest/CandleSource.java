@@ -0,0 +1,12 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+
+/**
+ * 봉 데이터 공급원. 실제 서비스는 Polygon API(AdvStockDataFetcher),
+ * 오프라인 테스트 / 벤치마크는 저장해 둔 응답 파일(ReplayCandleSource)을 사용한다.
+ */
+public interface CandleSource {
+
+    PolygonCandleResponse fetch(CandleRequest request);
+}
@@ -0,0 +1,8 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import java.util.List;
+
+// 일일 수집 1회 결과. activated 가 false 면 기존 세대가 그대로 유지된다
+public record IngestionReport(Long generation, int requested, int saved, List<String> failures,
+                              boolean activated, long elapsedMillis) {
+}
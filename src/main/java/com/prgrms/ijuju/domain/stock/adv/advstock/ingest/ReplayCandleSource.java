@@ -0,0 +1,56 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 디렉터리에 저장해 둔 Polygon 응답 JSON 을 돌려주는 공급원.
+ * 파일은 {symbol}-{DATA_TYPE}.json, {symbol}.json, default-{DATA_TYPE}.json, default.json 순으로 찾는다.
+ * default 파일을 두면 종목 수와 상관없이 같은 응답을 재사용할 수 있어 대량 종목 수집을 네트워크 없이 돌려볼 수 있다.
+ */
+public class ReplayCandleSource implements CandleSource {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final Map<Path, PolygonCandleResponse> cache = new ConcurrentHashMap<>();
+
+    public ReplayCandleSource(Path directory, ObjectMapper objectMapper) {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("replay 디렉터리가 없습니다: " + directory);
+        }
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public PolygonCandleResponse fetch(CandleRequest request) {
+        String type = request.dataType().name();
+        for (String fileName : List.of(
+                request.symbol() + "-" + type + ".json",
+                request.symbol() + ".json",
+                "default-" + type + ".json",
+                "default.json")) {
+            Path file = directory.resolve(fileName);
+            if (Files.isRegularFile(file)) {
+                return cache.computeIfAbsent(file, this::read);
+            }
+        }
+        throw new IllegalStateException("replay 파일이 없습니다: " + request.symbol() + " " + type);
+    }
+
+    private PolygonCandleResponse read(Path file) {
+        try {
+            return objectMapper.readValue(file.toFile(), PolygonCandleResponse.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvCandle;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * AdvCandle batch insert 전용.
+ * IDENTITY 키는 Hibernate 에서 batch insert 가 되지 않으므로 일주일치 봉을 JDBC batch 한 번으로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdvCandleJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO adv_candle (adv_stock_id, bar_index, open_price, high_price, low_price, close_price, volume, bar_timestamp) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<AdvCandle> candles) {
+        if (candles.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, candles, BATCH_SIZE, (ps, candle) -> {
+            ps.setLong(1, candle.getAdvStockId());
+            ps.setInt(2, candle.getBarIndex());
+            ps.setDouble(3, candle.getOpenPrice());
+            ps.setDouble(4, candle.getHighPrice());
+            ps.setDouble(5, candle.getLowPrice());
+            ps.setDouble(6, candle.getClosePrice());
+            ps.setLong(7, candle.getVolume());
+            ps.setLong(8, candle.getTimestamp());
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvCandle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AdvCandleRepository extends JpaRepository<AdvCandle, Long> {
+
+    List<AdvCandle> findByAdvStockIdOrderByBarIndexAsc(Long advStockId);
+
+    Optional<AdvCandle> findByAdvStockIdAndBarIndex(Long advStockId, int barIndex);
+
+    // fromIndex, toIndex 모두 포함
+    List<AdvCandle> findByAdvStockIdAndBarIndexBetweenOrderByBarIndexAsc(Long advStockId, int fromIndex, int toIndex);
+
+    List<AdvCandle> findByAdvStockIdInOrderByAdvStockIdAscBarIndexAsc(Collection<Long> advStockIds);
+
+    boolean existsByAdvStockId(Long advStockId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvCandle c WHERE c.advStockId IN (SELECT s.id FROM AdvStock s WHERE s.dataType = :dataType)")
+    int deleteByStockDataType(@Param("dataType") DataType dataType);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvCandle c WHERE c.advStockId IN (SELECT s.id FROM AdvStock s WHERE s.generation = :generation)")
+    int deleteByStockGeneration(@Param("generation") Long generation);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvCandle c WHERE c.advStockId IN (SELECT s.id FROM AdvStock s WHERE s.generation IS NULL)")
+    int deleteByStockLegacyGeneration();
+}
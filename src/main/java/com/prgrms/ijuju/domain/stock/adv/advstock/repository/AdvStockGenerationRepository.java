@@ -0,0 +1,15 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.GenerationStatus;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStockGeneration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AdvStockGenerationRepository extends JpaRepository<AdvStockGeneration, Long> {
+
+    Optional<AdvStockGeneration> findTopByStatusOrderByIdDesc(GenerationStatus status);
+
+    List<AdvStockGeneration> findByStatusIn(List<GenerationStatus> statuses);
+}
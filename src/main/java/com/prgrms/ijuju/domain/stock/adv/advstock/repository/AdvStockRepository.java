@@ -3,18 +3,40 @@ package com.prgrms.ijuju.domain.stock.adv.advstock.repository;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface AdvStockRepository extends JpaRepository<AdvStock, Long> {
 
-    List<AdvStock> findByDataType(DataType dataType);
-
-    Optional<AdvStock> findBySymbolAndDataType(String symbol, DataType dataType);
-
-    void deleteByDataType(DataType dataType);
-
-    Optional<AdvStock> findBySymbol(String symbol);
+    @Query("SELECT s FROM AdvStock s WHERE s.dataType = :dataType AND COALESCE(s.generation, 0) = :generation")
+    List<AdvStock> findByDataTypeAndGeneration(@Param("dataType") DataType dataType, @Param("generation") long generation);
+
+    @Query("SELECT s FROM AdvStock s " +
+            "WHERE s.symbol = :symbol AND s.dataType = :dataType AND COALESCE(s.generation, 0) = :generation")
+    Optional<AdvStock> findBySymbolAndDataTypeAndGeneration(@Param("symbol") String symbol,
+                                                            @Param("dataType") DataType dataType,
+                                                            @Param("generation") long generation);
+
+    // 봉 데이터는 AdvCandleRepository.deleteByStockDataType 으로 먼저 삭제해야 한다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvStock s WHERE s.dataType = :dataType")
+    void deleteByDataType(@Param("dataType") DataType dataType);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvStock s WHERE s.generation = :generation")
+    int deleteByGeneration(@Param("generation") Long generation);
+
+    // 세대 도입 전에 저장된 예전 데이터(0 세대)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AdvStock s WHERE s.generation IS NULL")
+    int deleteLegacyGeneration();
 
 }
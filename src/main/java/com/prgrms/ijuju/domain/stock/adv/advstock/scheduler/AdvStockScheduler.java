@@ -1,17 +1,18 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.scheduler;
 
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
-import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
-import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
-import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockDataFetcher;
-import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.AdvStockIngestionPipeline;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.CandleRequest;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.IngestionReport;
 import com.prgrms.ijuju.domain.stock.adv.advstock.util.DateUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Stock 엔티티의 알파이자 오메가 입니다
@@ -20,8 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
  * symbol 내부에 있는 주식들의 수치를 가져옵니다. 가져오는 방식은 AdvStockDataFetcher 를 참고
  * 오늘을 20일 이라고 가정했을때 6~12일의 데이터를 Reference Data 로, 13일의 데이터를 Live Data 로 저장합니다
 
- * 현재 7시 기준으로 기존 데이터를 깔끔하게 날려버립니다. 원래 하루 지우고 하루 생성하고 하는 방식으로 할려고 했지만, 코드의 난잡성과 실제 성능 차이가 거의 안나는걸 확인했습니다.
- * 그렇기에 7시 기준으로 Reference 와 Live 데이터가 한번에 전부 삭제되고, 새로운 Reference 와 Live Data 를 불러옵니다.
+ * 새 데이터는 AdvStockIngestionPipeline 이 새 세대에 동시에 수집하고, 모두 저장된 뒤에 한 번에 교체합니다.
+ * 수집 중에도 기존 데이터로 게임이 진행되며, 수집에 실패하면 기존 데이터가 유지됩니다. 교체된 세대는 바로 삭제됩니다.
  * 보유 주식 에는 영향이 없습니다.
  */
 
@@ -30,50 +31,31 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AdvStockScheduler {
 
-    private final AdvStockDataFetcher advStockDataFetcher;
-    private final AdvStockService advStockService;
-    private final AdvStockRepository advStockRepository;
+    private final AdvStockIngestionPipeline advStockIngestionPipeline;
+
+    //테스트 용으로 일단 4개만 넣어뒀습니다.
+    @Value("${advanced-invest.ingest.symbols:AAPL,MSFT,AMZN,TSLA}")
+    private String[] symbols;
 
     @Scheduled(cron = "0 25 9 * * ?")
-    @Transactional
     public void fetchAndUpdateStockDataDaily() {
         log.info("스케줄러 시작: fetchAndUpdateStockDataDaily");
 
-        //괴거 데이터 삭제용. 7시 리셋시 모든 데이터를 날린다
-        advStockRepository.deleteByDataType(DataType.REFERENCE);
-        advStockRepository.deleteByDataType(DataType.LIVE);
-        advStockRepository.deleteByDataType(DataType.FORECAST);
-        log.info("기존 데이터 삭제 완료");
-
-
-        //테스트 용으로 일단 5개만 넣어뒀습니다.
-        String[] symbols = {"AAPL", "MSFT", "AMZN", "TSLA"};
-
         String referenceStartDate = DateUtil.getReferenceStartDate();
         String referenceEndDate = DateUtil.getReferenceEndDate();
         String liveDate = DateUtil.getLiveDate();
         String articleStartDate = DateUtil.getForecastStartDate();
         String articleEndDate = DateUtil.getForecastEndDate();
 
+        List<CandleRequest> requests = new ArrayList<>(symbols.length * 3);
         for (String symbol : symbols) {
-            try {
-                // Reference 데이터 저장
-                PolygonCandleResponse referenceData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", referenceStartDate, referenceEndDate);
-                advStockService.saveStockData(symbol, symbol + " Name", referenceData, DataType.REFERENCE);
-
-                // Live 데이터 저장
-                PolygonCandleResponse liveData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", liveDate, liveDate);
-                advStockService.saveStockData(symbol, symbol + " Name", liveData, DataType.LIVE);
-
-                // Forecast 데이터 저장
-                PolygonCandleResponse articleData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", articleStartDate, articleEndDate);
-                advStockService.saveStockData(symbol, symbol + " Name", articleData, DataType.FORECAST);
-                log.info("데이터 저장 완료: " + symbol);
-            } catch (Exception e) {
-                log.error("데이터 처리 중 오류 발생: {}", symbol, e);
-            }
+            requests.add(new CandleRequest(symbol, DataType.REFERENCE, 1, "hour", referenceStartDate, referenceEndDate));
+            requests.add(new CandleRequest(symbol, DataType.LIVE, 1, "hour", liveDate, liveDate));
+            requests.add(new CandleRequest(symbol, DataType.FORECAST, 1, "hour", articleStartDate, articleEndDate));
         }
-        log.info("스케줄러 완료: fetchAndUpdateStockDataDaily");
+
+        IngestionReport report = advStockIngestionPipeline.ingest(requests);
+        log.info("스케줄러 완료: fetchAndUpdateStockDataDaily - 세대 전환: {}", report != null && report.activated());
     }
 
 }
@@ -1,6 +1,8 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.service;
 
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.CandleRequest;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.CandleSource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
@@ -18,7 +20,7 @@ import org.springframework.web.client.RestClient;
  */
 
 @Service
-public class AdvStockDataFetcher {
+public class AdvStockDataFetcher implements CandleSource {
 
     private final RestClient restClient = RestClient.builder().build();
 
@@ -39,4 +41,10 @@ public class AdvStockDataFetcher {
                 .retrieve()
                 .body(PolygonCandleResponse.class);
     }
+
+    @Override
+    public PolygonCandleResponse fetch(CandleRequest request) {
+        return fetchStockData(request.symbol(), request.multiplier(), request.timespan(),
+                request.startDate(), request.endDate());
+    }
 }
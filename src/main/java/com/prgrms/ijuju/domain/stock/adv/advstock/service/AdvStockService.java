@@ -1,6 +1,8 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.service;
 
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
 
@@ -16,11 +18,27 @@ import java.util.List;
  */
 public interface AdvStockService {
 
-    List<AdvStock> getReferenceData();
+    List<CandleSeries> getReferenceData();
 
-    AdvStock getLiveData(String symbol, int hour);
+    AdvStockResponseDto getLiveData(String symbol, int hour);
 
-    AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType);
+    // generation 세대에 저장한다. 세대가 ACTIVE 가 되기 전까지는 조회되지 않는다
+    AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType, Long generation);
 
     void deleteByDataType(DataType dataType);
+
+    // 해당 타입의 모든 종목 봉 데이터를 한 번의 조회로 읽어 종목별 시계열로 묶는다
+    List<CandleSeries> findSeriesByDataType(DataType dataType);
+
+    // 새 STAGING 세대를 만든다
+    Long openGeneration();
+
+    // 기존 ACTIVE 세대를 RETIRED 로, generation 을 ACTIVE 로 한 트랜잭션에서 전환한다
+    void activateGeneration(Long generation);
+
+    // 수집에 실패한 세대를 FAILED 로 표시한다
+    void discardGeneration(Long generation);
+
+    // RETIRED / FAILED 세대의 데이터를 삭제한다
+    int purgeInactiveGenerations();
 }
@@ -1,34 +1,61 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.service;
 
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.GenerationStatus;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResult;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvCandle;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStockGeneration;
+import com.prgrms.ijuju.domain.stock.adv.advstock.event.AdvStockDataUpdatedEvent;
 import com.prgrms.ijuju.domain.stock.adv.advstock.exception.stockexception.*;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleJdbcRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockGenerationRepository;
 import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Service 기능 중 saveStockData 를 제외한 나머지 두 기능은 실제 서비스 중 쓰이지 않습니다! 테스트 용도입니다.
  * Stock 에서는 Controller 조차 테스트 용도로만 쓰이는 데이터를 받고 저장하는 기능만을 제공합니다.
+ * 봉 데이터는 AdvStock 한 건당 AdvCandle 여러 행으로 저장되며, 저장은 JDBC batch, 조회는 (adv_stock_id, bar_index) 인덱스를 탑니다.
  */
 @Service
 public class AdvStockServiceImpl implements AdvStockService {
 
     private final AdvStockRepository advStockRepository;
-
-    public AdvStockServiceImpl(AdvStockRepository advStockRepository) {
+    private final AdvCandleRepository advCandleRepository;
+    private final AdvCandleJdbcRepository advCandleJdbcRepository;
+    private final AdvStockGenerationRepository advStockGenerationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AdvStockServiceImpl(AdvStockRepository advStockRepository,
+                               AdvCandleRepository advCandleRepository,
+                               AdvCandleJdbcRepository advCandleJdbcRepository,
+                               AdvStockGenerationRepository advStockGenerationRepository,
+                               ApplicationEventPublisher eventPublisher) {
         this.advStockRepository = advStockRepository;
+        this.advCandleRepository = advCandleRepository;
+        this.advCandleJdbcRepository = advCandleJdbcRepository;
+        this.advStockGenerationRepository = advStockGenerationRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
     //레퍼런스 데이터를 받아옵니다. 레퍼런스 데이터는 1주일치 데이터이며, 한번에 업데이트 되기 때문에 builder 없이 들고옵니다.
-    //지금 뇌속에서는 작동할거 같은데 테스트 해보고 안되면 builder 이용해서 가져오겠습니다. 근데 데이터 변형이 전혀 필요 없을거 같아서 될듯?
     @Override
-    public List<AdvStock> getReferenceData() {
-        return advStockRepository.findByDataType(DataType.REFERENCE);
+    public List<CandleSeries> getReferenceData() {
+        return findSeriesByDataType(DataType.REFERENCE);
     }
 
 
@@ -36,69 +63,142 @@ public class AdvStockServiceImpl implements AdvStockService {
     //hour 은 실제 시간을 뜻합니다. 즉 10 을 입력시 오전 10시를 뜻합니다. 이 경우 10시의 해당 주식 데이터를 불러오게 됩니다
     //UTC 기준입니다!
     @Override
-    public AdvStock getLiveData(String symbol, int hour) {
+    public AdvStockResponseDto getLiveData(String symbol, int hour) {
 
         if (hour < 14 || hour > 21) {
             throw new InvalidTradeHourException();
         }
-        AdvStock liveData = advStockRepository.findBySymbolAndDataType(symbol, DataType.LIVE)
+        AdvStock liveData = advStockRepository.findBySymbolAndDataTypeAndGeneration(symbol, DataType.LIVE, activeGeneration())
                 .orElseThrow(LiveDataNotFoundException::new);
 
         int index = hour - 14; // 9시 ~ 15시 기준 >> 해외 기준이라 시간 변동 가능성 있음.
-        return AdvStock.builder()
-                .symbol(liveData.getSymbol())
-                .name(liveData.getName())
-                .openPrices(List.of(liveData.getOpenPrices().get(index)))
-                .highPrices(List.of(liveData.getHighPrices().get(index)))
-                .lowPrices(List.of(liveData.getLowPrices().get(index)))
-                .closePrices(List.of(liveData.getClosePrices().get(index)))
-                .volumes(List.of(liveData.getVolumes().get(index)))
-                .timestamps(List.of(liveData.getTimestamps().get(index)))
-                .dataType(DataType.LIVE)
-                .build();
+        AdvCandle candle = advCandleRepository.findByAdvStockIdAndBarIndex(liveData.getId(), index)
+                .orElseThrow(LiveDataNotFoundException::new);
+
+        return AdvStockResponseDto.fromEntity(liveData, candle);
     }
 
     @Override
-    public AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType) {
+    @Transactional
+    public AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType,
+                                  Long generation) {
 
         if (response.getResults() == null || response.getResults().isEmpty()) {
             throw new EmptyStockDataException();
         }
 
-        List<Double> openPrices = response.getResults().stream().map(PolygonCandleResult::getO).toList();
-        List<Double> highPrices = response.getResults().stream().map(PolygonCandleResult::getH).toList();
-        List<Double> lowPrices = response.getResults().stream().map(PolygonCandleResult::getL).toList();
-        List<Double> closePrices = response.getResults().stream().map(PolygonCandleResult::getC).toList();
-        List<Long> volumes = response.getResults().stream().map(PolygonCandleResult::getV).toList();
-        List<Long> timestamps = response.getResults().stream().map(PolygonCandleResult::getT).toList();
-
-        int size = response.getResults().size();
-        if (openPrices.size() != size || highPrices.size() != size || lowPrices.size() != size ||
-                closePrices.size() != size || volumes.size() != size || timestamps.size() != size) {
-            throw new StockDataMismatchException();
-        }
-
-        AdvStock advStock = AdvStock.builder()
-                .symbol(symbol)
-                .name(name)
-                .openPrices(openPrices)
-                .highPrices(highPrices)
-                .lowPrices(lowPrices)
-                .closePrices(closePrices)
-                .volumes(volumes)
-                .timestamps(timestamps)
-                .dataType(dataType)
-                .build();
+        List<PolygonCandleResult> results = response.getResults();
 
         try {
-            return advStockRepository.save(advStock);
+            AdvStock advStock = advStockRepository.save(AdvStock.builder()
+                    .symbol(symbol)
+                    .name(name)
+                    .barCount(results.size())
+                    .generation(generation)
+                    .dataType(dataType)
+                    .build());
+
+            List<AdvCandle> candles = new ArrayList<>(results.size());
+            for (int i = 0; i < results.size(); i++) {
+                PolygonCandleResult result = results.get(i);
+                candles.add(AdvCandle.builder()
+                        .advStockId(advStock.getId())
+                        .barIndex(i)
+                        .openPrice(result.getO())
+                        .highPrice(result.getH())
+                        .lowPrice(result.getL())
+                        .closePrice(result.getC())
+                        .volume(result.getV())
+                        .timestamp(result.getT())
+                        .build());
+            }
+            advCandleJdbcRepository.batchInsert(candles);
+
+            return advStock;
         } catch (Exception e) {
             throw new StockSaveFailedException();
         }
     }
 
     @Override
+    @Transactional
     public void deleteByDataType(DataType dataType) {
+        advCandleRepository.deleteByStockDataType(dataType);
         advStockRepository.deleteByDataType(dataType);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CandleSeries> findSeriesByDataType(DataType dataType) {
+        List<AdvStock> stocks = advStockRepository.findByDataTypeAndGeneration(dataType, activeGeneration());
+        if (stocks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<AdvCandle>> candlesByStock = advCandleRepository
+                .findByAdvStockIdInOrderByAdvStockIdAscBarIndexAsc(stocks.stream().map(AdvStock::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(AdvCandle::getAdvStockId));
+
+        return stocks.stream()
+                .map(stock -> CandleSeries.from(stock, candlesByStock.getOrDefault(stock.getId(), List.of())))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public Long openGeneration() {
+        return advStockGenerationRepository.save(AdvStockGeneration.builder()
+                .status(GenerationStatus.STAGING)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    @Override
+    @Transactional
+    public void activateGeneration(Long generation) {
+        AdvStockGeneration staged = advStockGenerationRepository.findById(generation)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 세대입니다: " + generation));
+
+        advStockGenerationRepository.findTopByStatusOrderByIdDesc(GenerationStatus.ACTIVE)
+                .ifPresent(active -> active.setStatus(GenerationStatus.RETIRED));
+        staged.setStatus(GenerationStatus.ACTIVE);
+        staged.setActivatedAt(LocalDateTime.now());
+
+        // 커밋 후 심화 투자 시장 데이터 스냅샷 재생성
+        eventPublisher.publishEvent(new AdvStockDataUpdatedEvent(generation));
+    }
+
+    @Override
+    @Transactional
+    public void discardGeneration(Long generation) {
+        advStockGenerationRepository.findById(generation)
+                .ifPresent(staged -> staged.setStatus(GenerationStatus.FAILED));
+    }
+
+    @Override
+    @Transactional
+    public int purgeInactiveGenerations() {
+        List<AdvStockGeneration> inactive = advStockGenerationRepository
+                .findByStatusIn(List.of(GenerationStatus.RETIRED, GenerationStatus.FAILED));
+        int deleted = 0;
+        for (AdvStockGeneration generation : inactive) {
+            advCandleRepository.deleteByStockGeneration(generation.getId());
+            deleted += advStockRepository.deleteByGeneration(generation.getId());
+        }
+        // 한 번이라도 전환된 뒤에는 예전 데이터(0 세대)도 더 이상 읽히지 않는다
+        if (advStockGenerationRepository.findTopByStatusOrderByIdDesc(GenerationStatus.ACTIVE).isPresent()) {
+            advCandleRepository.deleteByStockLegacyGeneration();
+            deleted += advStockRepository.deleteLegacyGeneration();
+        }
+        advStockGenerationRepository.deleteAll(inactive);
+        return deleted;
+    }
+
+    // 아직 한 번도 전환된 적이 없으면 예전 데이터(0 세대)를 읽는다
+    private long activeGeneration() {
+        return advStockGenerationRepository.findTopByStatusOrderByIdDesc(GenerationStatus.ACTIVE)
+                .map(AdvStockGeneration::getId)
+                .orElse(0L);
+    }
 }
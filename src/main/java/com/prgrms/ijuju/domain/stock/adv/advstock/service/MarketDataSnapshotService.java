@@ -0,0 +1,93 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.service;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.exception.stockexception.DataNotFoundException;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.MarketDataSnapshot;
+import com.prgrms.ijuju.domain.stock.adv.advstock.event.AdvStockDataUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 심화 투자 시장 데이터 스냅샷 보관소.
+ * 주식 데이터는 하루 한 번만 바뀌므로 Reference / Live 데이터를 한 번 읽어 불변 스냅샷으로 만들고,
+ * 게임 틱과 매매 요청은 DB 대신 현재 스냅샷을 읽는다. 갱신은 새 스냅샷을 만든 뒤 참조만 교체한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketDataSnapshotService {
+
+    // 스냅샷이 비어 있을 때 DB 를 다시 읽는 최소 간격. 데이터가 없는 동안 요청마다 DB 를 읽지 않도록 한다
+    static final long EMPTY_RELOAD_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AdvStockService advStockService;
+    private final AtomicReference<MarketDataSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong lastReloadNanos = new AtomicLong(System.nanoTime() - EMPTY_RELOAD_INTERVAL_NANOS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("시장 데이터 스냅샷 초기화 실패, 첫 요청 시 다시 시도합니다", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockDataUpdated(AdvStockDataUpdatedEvent event) {
+        refresh();
+    }
+
+    public MarketDataSnapshot refresh() {
+        List<CandleSeries> series = new ArrayList<>(advStockService.findSeriesByDataType(DataType.REFERENCE));
+        series.addAll(advStockService.findSeriesByDataType(DataType.LIVE));
+
+        MarketDataSnapshot built = MarketDataSnapshot.of(series);
+        snapshot.set(built);
+        log.info("시장 데이터 스냅샷 갱신 - 종목 수: {}, Live 단계 수: {}", series.size(), built.livePhaseCount());
+        return built;
+    }
+
+    // 스냅샷이 없거나 비어 있으면(기동 직후 데이터가 없던 경우) 다시 읽어 본다. 한 번에 한 요청만, 간격을 두고 읽는다
+    public MarketDataSnapshot current() {
+        MarketDataSnapshot current = snapshot.get();
+        if (isEmpty(current)) {
+            current = reloadIfDue(current);
+        }
+        if (isEmpty(current)) {
+            throw new DataNotFoundException();
+        }
+        return current;
+    }
+
+    private MarketDataSnapshot reloadIfDue(MarketDataSnapshot current) {
+        long now = System.nanoTime();
+        long last = lastReloadNanos.get();
+        if (now - last < EMPTY_RELOAD_INTERVAL_NANOS || !lastReloadNanos.compareAndSet(last, now)) {
+            return current;
+        }
+        try {
+            return refresh();
+        } catch (Exception e) {
+            log.warn("시장 데이터 스냅샷 다시 읽기 실패", e);
+            return current;
+        }
+    }
+
+    private static boolean isEmpty(MarketDataSnapshot snapshot) {
+        return snapshot == null
+                || snapshot.findAll(DataType.REFERENCE).isEmpty() && snapshot.findAll(DataType.LIVE).isEmpty();
+    }
+}
@@ -2,8 +2,10 @@ package com.prgrms.ijuju.domain.wallet.controller;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.prgrms.ijuju.domain.wallet.dto.request.*;
 import com.prgrms.ijuju.domain.wallet.dto.response.*;
@@ -61,6 +63,28 @@ public class WalletController {
         return ResponseEntity.ok(transactionService.showTransactionHistory(user.getId()));
     }
 
+    // 커서 기반 거래 내역 조회. 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다
+    @GetMapping("/history/page")
+    public ResponseEntity<PointTransactionPageResponseDTO> showTransactionPage(
+            @AuthenticationPrincipal SecurityUser user,
+            @RequestParam(required = false) TransactionType transactionType,
+            @RequestParam(required = false) PointType pointType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(transactionService.showTransactionPage(user.getId(), transactionType, pointType, cursor, size));
+    }
+
+    // 전체 거래 내역 NDJSON 내보내기
+    @GetMapping(value = "/history/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportTransactionHistory(
+            @AuthenticationPrincipal SecurityUser user) {
+        Long memberId = user.getId();
+        StreamingResponseBody body = out -> transactionService.exportTransactionHistory(memberId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @PostMapping("/history/transaction-type")
     public ResponseEntity<List<PointTransactionResponseDTO>> showTransactionByType(
             @AuthenticationPrincipal SecurityUser user,
@@ -0,0 +1,48 @@
+package com.prgrms.ijuju.domain.wallet.dto.request;
+
+import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionResponseDTO;
+import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
+import com.prgrms.ijuju.domain.wallet.exception.WalletException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 거래 내역 keyset 커서. 마지막으로 받은 거래의 (createdAt, id) 이며 "2024-01-01T10:00:00.123_42" 형식 문자열로 주고받는다.
+ */
+public record TransactionCursor(LocalDateTime createdAt, Long id) {
+
+    private static final char SEPARATOR = '_';
+
+    // 첫 페이지: 모든 거래보다 뒤의 위치
+    private static final TransactionCursor FIRST =
+            new TransactionCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static TransactionCursor first() {
+        return FIRST;
+    }
+
+    public static TransactionCursor of(PointTransactionResponseDTO last) {
+        return new TransactionCursor(last.getCreatedAt(), last.getId());
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        int separator = cursor.lastIndexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new WalletException(WalletErrorCode.INVALID_REQUEST);
+        }
+        try {
+            return new TransactionCursor(LocalDateTime.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new WalletException(WalletErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    public String encode() {
+        return createdAt.toString() + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.prgrms.ijuju.domain.wallet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointTransactionPageResponseDTO {
+
+    private List<PointTransactionResponseDTO> transactions;
+    private String nextCursor;    // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+
 import java.time.LocalDateTime;
 
 @Getter
@@ -19,4 +22,11 @@ public class PointTransactionResponseDTO {
     private String subType;
     private String description;
     private LocalDateTime createdAt;
+
+    // JPQL 생성자 projection 용 (PointTransaction / Member 엔티티를 로딩하지 않음)
+    public PointTransactionResponseDTO(Long id, Long memberId, TransactionType transactionType, Long points,
+                                       PointType pointType, String subType, String description,
+                                       LocalDateTime createdAt) {
+        this(id, memberId, transactionType.toString(), points, pointType.toString(), subType, description, createdAt);
+    }
 }
@@ -14,6 +14,8 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "exchange_transaction", indexes =
+        @Index(name = "idx_exchange_transaction_member_created", columnList = "member_id, created_at, id"))
 public class ExchangeTransaction {
  
     @Id
@@ -18,6 +18,10 @@ import java.time.LocalDateTime;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "point_transaction", indexes = {
+        @Index(name = "idx_point_transaction_member_created", columnList = "member_id, created_at, id"),
+        @Index(name = "idx_point_transaction_member_point_type_created", columnList = "member_id, point_type, created_at, id")
+})
 public class PointTransaction {
 
     @Id
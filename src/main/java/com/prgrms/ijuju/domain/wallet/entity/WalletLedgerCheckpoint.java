@@ -0,0 +1,25 @@
+package com.prgrms.ijuju.domain.wallet.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지갑 원장 shard 별로 DB 에 반영된 마지막 WAL 번호.
+ * 반영과 같은 트랜잭션에서 갱신되므로, 재기동 시 이 번호 이후의 WAL 만 다시 반영한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "wallet_ledger_checkpoint")
+public class WalletLedgerCheckpoint {
+
+    @Id
+    private Integer shardId;
+
+    @Column(nullable = false)
+    private Long lastSeq;
+}
@@ -0,0 +1,9 @@
+package com.prgrms.ijuju.domain.wallet.event;
+
+import java.time.LocalDateTime;
+
+// 지갑 포인트가 변경되어 커밋된 뒤 랭킹 등 다른 도메인에 전달되는 이벤트
+// version 은 원장 모드에서 잔액을 만든 원장 순번(LedgerBalance.version)이며, 순서를 매기지 않는 DB 모드는 0 이다
+public record WalletPointsChangedEvent(Long memberId, String username, Long currentPoints, Long currentCoins,
+                                       LocalDateTime walletCreatedAt, long version) {
+}
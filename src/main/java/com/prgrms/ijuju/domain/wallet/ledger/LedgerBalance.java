@@ -0,0 +1,20 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import java.time.LocalDateTime;
+
+// 원장이 보관하는 회원 지갑 잔액 (불변, 변경 시 통째로 교체)
+// version 은 이 잔액을 만든 원장 항목의 순번(LedgerEntry.seq)이다. 회원은 shard 하나에 고정되므로 회원별로 항상 증가하고,
+// DB 에서 읽어 온 잔액은 0 이다
+public record LedgerBalance(long memberId, long walletId, String username, LocalDateTime walletCreatedAt,
+                            long currentPoints, long currentCoins, long version) {
+
+    LedgerBalance with(long currentPoints, long currentCoins) {
+        return new LedgerBalance(memberId, walletId, username, walletCreatedAt, currentPoints, currentCoins, version);
+    }
+
+    // entry 를 적용한 직후의 잔액
+    LedgerBalance after(LedgerEntry entry) {
+        return new LedgerBalance(memberId, walletId, username, walletCreatedAt,
+                entry.pointsAfter(), entry.coinsAfter(), entry.seq());
+    }
+}
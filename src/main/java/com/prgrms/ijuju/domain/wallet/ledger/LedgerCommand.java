@@ -0,0 +1,9 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+
+// 지갑 원장에 적용할 포인트 변경 요청 하나
+public record LedgerCommand(long memberId, TransactionType transactionType, long points,
+                            PointType pointType, String subType) {
+}
@@ -0,0 +1,52 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+
+/**
+ * 원장에 적용된 변경 하나. WAL 한 줄이며, DB 에는 PointTransaction 한 행과 Wallet 잔액 증감으로 반영된다.
+ * pointsAfter / coinsAfter 는 적용 후 잔액으로, 호출자에게 돌려주는 값이다.
+ */
+public record LedgerEntry(long seq, long memberId, long walletId, TransactionType transactionType, long points,
+                          PointType pointType, String subType, long pointsAfter, long coinsAfter,
+                          long createdAtMillis) {
+
+    private static final String SEPARATOR = "\t";
+
+    // Wallet 잔액 증감. 원장의 applyTo 와 같은 규칙
+    public long pointsDelta() {
+        return switch (transactionType) {
+            case EARNED -> points;
+            case USED, EXCHANGED -> -points;
+            default -> 0L;
+        };
+    }
+
+    public long coinsDelta() {
+        return transactionType == TransactionType.EXCHANGED ? points / 100 : 0L;
+    }
+
+    String encode() {
+        return String.join(SEPARATOR,
+                Long.toString(seq), Long.toString(memberId), Long.toString(walletId), transactionType.name(),
+                Long.toString(points), pointType.name(), subType == null ? "" : subType,
+                Long.toString(pointsAfter), Long.toString(coinsAfter), Long.toString(createdAtMillis));
+    }
+
+    // 형식이 맞지 않으면(기록 도중 종료된 마지막 줄 등) null
+    static LedgerEntry decode(String line) {
+        String[] fields = line.split(SEPARATOR, -1);
+        if (fields.length != 10) {
+            return null;
+        }
+        try {
+            return new LedgerEntry(
+                    Long.parseLong(fields[0]), Long.parseLong(fields[1]), Long.parseLong(fields[2]),
+                    TransactionType.valueOf(fields[3]), Long.parseLong(fields[4]), PointType.valueOf(fields[5]),
+                    fields[6].isEmpty() ? null : fields[6],
+                    Long.parseLong(fields[7]), Long.parseLong(fields[8]), Long.parseLong(fields[9]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,362 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
+import com.prgrms.ijuju.domain.wallet.exception.WalletException;
+import com.prgrms.ijuju.domain.wallet.repository.WalletLedgerJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 샤딩된 인메모리 지갑 원장 (wallet.ledger.enabled=true 일 때만 동작).
+ * 회원은 memberId 로 shard 하나에 고정되고, shard 마다 단일 writer 스레드가 큐의 요청을 순서대로 잔액에 적용한다.
+ * 적용된 변경은 WAL 에 배치로 기록 후 fsync 되면 응답하며, 주기적으로 거래 내역 / 잔액을 JDBC batch 로 DB 에 반영한다.
+ * 행 잠금을 잡지 않으므로 같은 회원의 요청은 큐에서 직렬화되고, 다른 회원의 요청은 shard 수만큼 병렬로 처리된다.
+ * 잔액 캐시는 크기 제한이 있고, DB 에 아직 반영되지 않은 회원의 잔액은 shard 가 따로 들고 있어 밀려나지 않는다.
+ */
+@Slf4j
+@Component
+public class WalletLedger {
+
+    private static final Pattern WAL_FILE = Pattern.compile("shard-(\\d+)\\.wal");
+
+    private final WalletLedgerJdbcRepository ledgerRepository;
+    private final boolean enabled;
+    private final int shardCount;
+    private final Path walDirectory;
+    private final long flushIntervalNanos;
+    private final int flushBatchSize;
+    private final int queueCapacity;
+    private final long submitTimeoutMillis;
+
+    private final Cache<Long, LedgerBalance> balances;
+    private Shard[] shards = new Shard[0];
+
+    public WalletLedger(WalletLedgerJdbcRepository ledgerRepository,
+                        @Value("${wallet.ledger.enabled:false}") boolean enabled,
+                        @Value("${wallet.ledger.shards:0}") int shards,
+                        @Value("${wallet.ledger.wal-dir:./data/wallet-ledger}") String walDirectory,
+                        @Value("${wallet.ledger.flush-interval-ms:200}") long flushIntervalMillis,
+                        @Value("${wallet.ledger.flush-batch-size:500}") int flushBatchSize,
+                        @Value("${wallet.ledger.queue-capacity:10000}") int queueCapacity,
+                        @Value("${wallet.ledger.submit-timeout-ms:5000}") long submitTimeoutMillis,
+                        @Value("${wallet.ledger.max-cached-balances:100000}") long maxCachedBalances) {
+        this.ledgerRepository = ledgerRepository;
+        this.enabled = enabled;
+        this.shardCount = shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+        this.walDirectory = Path.of(walDirectory);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.flushBatchSize = flushBatchSize;
+        this.queueCapacity = queueCapacity;
+        this.submitTimeoutMillis = submitTimeoutMillis;
+        this.balances = Caffeine.newBuilder().maximumSize(maxCachedBalances).build();
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        recover();
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i);
+            shards[i].thread.start();
+        }
+        log.info("지갑 원장 시작 - shard: {}, WAL: {}", shardCount, walDirectory.toAbsolutePath());
+    }
+
+    @PreDestroy
+    void stop() {
+        // interrupt 하면 FileChannel 이 닫히므로 플래그만 내리고, 남은 요청을 반영할 때까지 기다린다
+        for (Shard shard : shards) {
+            shard.running = false;
+        }
+        for (Shard shard : shards) {
+            try {
+                shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 원장에 올라와 있는 회원이면 DB 를 거치지 않고 현재 잔액을 돌려준다
+    public Optional<LedgerBalance> findBalance(long memberId) {
+        if (shards.length == 0) {
+            return Optional.empty();
+        }
+        LedgerBalance dirty = shardOf(memberId).dirty.get(memberId);
+        return Optional.ofNullable(dirty != null ? dirty : balances.getIfPresent(memberId));
+    }
+
+    private Shard shardOf(long memberId) {
+        return shards[Math.floorMod(Long.hashCode(memberId), shards.length)];
+    }
+
+    // 변경을 적용하고 WAL 에 기록될 때까지 기다린다. 검증 실패는 WalletException 그대로 던진다
+    public LedgerBalance apply(LedgerCommand command) {
+        Shard shard = shardOf(command.memberId());
+        Pending pending = new Pending(command);
+        try {
+            if (!shard.queue.offer(pending, submitTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new WalletException(WalletErrorCode.TRANSACTION_FAILED);
+            }
+            return pending.result.get(submitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WalletException(WalletErrorCode.TRANSACTION_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof WalletException walletException) {
+                throw walletException;
+            }
+            log.error("지갑 원장 적용 실패 - memberId: {}", command.memberId(), e.getCause());
+            throw new WalletException(WalletErrorCode.TRANSACTION_FAILED);
+        } catch (TimeoutException e) {
+            throw new WalletException(WalletErrorCode.TRANSACTION_FAILED);
+        }
+    }
+
+    // 이전 실행에서 DB 에 반영되지 못한 WAL 을 반영한다. shard 수가 바뀌어도 남은 파일은 모두 처리한다
+    private void recover() throws IOException {
+        Files.createDirectories(walDirectory);
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(walDirectory)) {
+            files = stream.filter(path -> WAL_FILE.matcher(path.getFileName().toString()).matches()).toList();
+        }
+        for (Path file : files) {
+            Matcher matcher = WAL_FILE.matcher(file.getFileName().toString());
+            matcher.matches();
+            int shardId = Integer.parseInt(matcher.group(1));
+            long checkpoint = ledgerRepository.findCheckpoint(shardId);
+
+            try (WalletWriteAheadLog wal = new WalletWriteAheadLog(file)) {
+                List<LedgerEntry> unflushed = wal.readAll().stream()
+                        .filter(entry -> entry.seq() > checkpoint)
+                        .toList();
+                if (!unflushed.isEmpty()) {
+                    ledgerRepository.flush(shardId, unflushed);
+                    log.info("지갑 원장 WAL 복구 - shard: {}, 반영: {}건", shardId, unflushed.size());
+                }
+                wal.truncate();
+            }
+        }
+    }
+
+    private record Pending(LedgerCommand command, CompletableFuture<LedgerBalance> result) {
+        private Pending(LedgerCommand command) {
+            this(command, new CompletableFuture<>());
+        }
+    }
+
+    private final class Shard implements Runnable {
+        private final int id;
+        private final BlockingQueue<Pending> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final Thread thread;
+        private final WalletWriteAheadLog wal;
+        private final List<LedgerEntry> unflushed = new ArrayList<>();
+        // DB 반영 전인 회원의 잔액. 캐시에서 밀려나도 DB 의 옛 잔액을 다시 읽지 않도록 반영될 때까지 붙잡아 둔다
+        private final Map<Long, LedgerBalance> dirty = new ConcurrentHashMap<>();
+        // 오늘 출석한 회원. 지난 날짜는 flush 때 비운다 (지난 출석은 DB 의 출석 내역 확인으로 충분하다)
+        private final Map<Long, LocalDate> attendance = new HashMap<>();
+        private volatile boolean running = true;
+        private long seq;
+        private long nextFlushNanos;
+
+        private Shard(int id) throws IOException {
+            this.id = id;
+            this.wal = new WalletWriteAheadLog(walDirectory.resolve("shard-" + id + ".wal"));
+            this.seq = ledgerRepository.findCheckpoint(id);
+            this.thread = new Thread(this, "wallet-ledger-" + id);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Pending> batch = new ArrayList<>();
+            nextFlushNanos = System.nanoTime() + flushIntervalNanos;
+            while (running || !queue.isEmpty()) {
+                try {
+                    Pending first = queue.poll(Math.max(1, nextFlushNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        queue.drainTo(batch, flushBatchSize - 1);
+                        process(batch);
+                        batch.clear();
+                    }
+                } catch (InterruptedException e) {
+                    if (running) {
+                        continue;
+                    }
+                }
+                if (unflushed.size() >= flushBatchSize || System.nanoTime() >= nextFlushNanos || !running) {
+                    flush();
+                }
+            }
+            closeWal();
+        }
+
+        // 배치 안의 요청을 순서대로 적용하고 WAL 에 한 번에 기록한다. 기록에 실패하면 잔액을 되돌린다
+        private void process(List<Pending> batch) {
+            Map<Long, LedgerBalance> before = new HashMap<>();
+            Map<Long, LedgerBalance> dirtyBefore = new HashMap<>();
+            List<LedgerEntry> entries = new ArrayList<>(batch.size());
+            List<Pending> applied = new ArrayList<>(batch.size());
+            List<Long> attended = new ArrayList<>();
+            long startSeq = seq;
+
+            for (Pending pending : batch) {
+                try {
+                    LedgerCommand command = pending.command();
+                    LedgerBalance current = load(command.memberId());
+                    if (!before.containsKey(command.memberId())) {
+                        before.put(command.memberId(), current);
+                        dirtyBefore.put(command.memberId(), dirty.get(command.memberId()));
+                    }
+
+                    LedgerBalance updated = applyTo(current, command);
+                    LedgerEntry entry = new LedgerEntry(++seq, command.memberId(), updated.walletId(),
+                            command.transactionType(), command.points(), command.pointType(), command.subType(),
+                            updated.currentPoints(), updated.currentCoins(), System.currentTimeMillis());
+                    LedgerBalance next = updated.after(entry);
+                    dirty.put(command.memberId(), next);
+                    balances.put(command.memberId(), next);
+                    if (command.pointType() == PointType.ATTENDANCE) {
+                        attendance.put(command.memberId(), LocalDate.now());
+                        attended.add(command.memberId());
+                    }
+                    entries.add(entry);
+                    applied.add(pending);
+                } catch (RuntimeException e) {
+                    pending.result().completeExceptionally(e);
+                }
+            }
+
+            try {
+                wal.append(entries);
+            } catch (IOException e) {
+                log.error("지갑 원장 WAL 기록 실패 - shard: {}", id, e);
+                before.forEach(balances::put);
+                dirtyBefore.forEach((memberId, balance) -> {
+                    if (balance == null) {
+                        dirty.remove(memberId);
+                    } else {
+                        dirty.put(memberId, balance);
+                    }
+                });
+                attended.forEach(attendance::remove);
+                seq = startSeq;
+                applied.forEach(pending -> pending.result().completeExceptionally(new UncheckedIOException(e)));
+                return;
+            }
+
+            unflushed.addAll(entries);
+            // 같은 배치에 같은 회원 요청이 여러 개면 각 요청 직후의 잔액과 순번을 돌려준다
+            for (int i = 0; i < applied.size(); i++) {
+                LedgerEntry entry = entries.get(i);
+                LedgerBalance balance = dirty.get(entry.memberId());
+                applied.get(i).result().complete(balance.after(entry));
+            }
+        }
+
+        private LedgerBalance load(long memberId) {
+            LedgerBalance balance = dirty.get(memberId);
+            if (balance == null) {
+                balance = balances.getIfPresent(memberId);
+            }
+            if (balance != null) {
+                return balance;
+            }
+            return ledgerRepository.findBalance(memberId)
+                    .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
+        }
+
+        // Wallet.updatePointsAndCoins 와 같은 규칙
+        private LedgerBalance applyTo(LedgerBalance balance, LedgerCommand command) {
+            long points = command.points();
+            if (points < 0) {
+                throw new WalletException(WalletErrorCode.TRANSACTION_AMOUNT_INVALID);
+            }
+            if (command.pointType() == PointType.ATTENDANCE
+                    && LocalDate.now().equals(attendance.get(command.memberId()))) {
+                throw new WalletException(WalletErrorCode.ATTENDANCE_ALREADY_CHECKED);
+            }
+            return switch (command.transactionType()) {
+                case EARNED -> balance.with(Math.addExact(balance.currentPoints(), points), balance.currentCoins());
+                case USED -> {
+                    if (balance.currentPoints() < points) {
+                        throw new WalletException(WalletErrorCode.POINT_INSUFFICIENT);
+                    }
+                    yield balance.with(balance.currentPoints() - points, balance.currentCoins());
+                }
+                case EXCHANGED -> {
+                    if (points < 100 || points % 100 != 0) {
+                        throw new WalletException(WalletErrorCode.EXCHANGE_MINIMUM_AMOUNT);
+                    }
+                    if (balance.currentPoints() < points) {
+                        throw new WalletException(WalletErrorCode.POINT_INSUFFICIENT);
+                    }
+                    yield balance.with(balance.currentPoints() - points, balance.currentCoins() + points / 100);
+                }
+                case MAINTAINED -> balance;
+                default -> throw new WalletException(WalletErrorCode.TRANSACTION_INVALID_TYPE);
+            };
+        }
+
+        // 실패하면 WAL 에 남아 있으므로 다음 주기에 다시 시도한다
+        private void flush() {
+            nextFlushNanos = System.nanoTime() + flushIntervalNanos;
+            LocalDate today = LocalDate.now();
+            attendance.values().removeIf(date -> !today.equals(date));
+            if (unflushed.isEmpty()) {
+                return;
+            }
+            try {
+                ledgerRepository.flush(id, unflushed);
+                unflushed.clear();
+                dirty.clear();
+                wal.truncate();
+            } catch (Exception e) {
+                log.error("지갑 원장 DB 반영 실패 - shard: {}, 대기: {}건", id, unflushed.size(), e);
+            }
+        }
+
+        private void closeWal() {
+            try {
+                wal.close();
+            } catch (IOException e) {
+                log.warn("지갑 원장 WAL 닫기 실패 - shard: {}", id, e);
+            }
+        }
+    }
+}
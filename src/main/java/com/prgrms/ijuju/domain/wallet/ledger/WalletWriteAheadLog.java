@@ -0,0 +1,65 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원장 shard 하나의 write-ahead log.
+ * 배치 단위로 기록 후 한 번만 fsync 하며(group commit), DB 반영이 끝나면 비운다. shard 스레드에서만 사용한다.
+ */
+class WalletWriteAheadLog implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+
+    WalletWriteAheadLog(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.channel.position(channel.size());
+    }
+
+    void append(List<LedgerEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder(entries.size() * 96);
+        for (LedgerEntry entry : entries) {
+            lines.append(entry.encode()).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    List<LedgerEntry> readAll() throws IOException {
+        List<LedgerEntry> entries = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            LedgerEntry entry = LedgerEntry.decode(line);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    void truncate() throws IOException {
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
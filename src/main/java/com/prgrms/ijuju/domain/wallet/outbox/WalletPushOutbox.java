@@ -0,0 +1,160 @@
+package com.prgrms.ijuju.domain.wallet.outbox;
+
+import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
+import com.prgrms.ijuju.domain.wallet.handler.WebSocketHandler;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지갑 잔액 실시간 알림 outbox.
+ * 트랜잭션 안에서는 알림을 적어두기만 하고, 커밋된 뒤에 전용 디스패처 스레드가 웹소켓으로 보낸다.
+ * 같은 회원의 알림이 밀려 있으면 가장 최근 잔액 하나로 합쳐 보내므로 느린 클라이언트가 있어도 쓰기 트랜잭션은 기다리지 않는다.
+ * 회원은 항상 같은 디스패처가 맡아 한 세션에 동시에 쓰지 않고, 늦게 도착한 이전 잔액은 버린다.
+ * 마지막으로 보낸 순번은 디스패처마다 최근 회원 wallet.push.max-tracked-members 명까지만 기억한다.
+ */
+@Slf4j
+@Component
+public class WalletPushOutbox {
+
+    private final WebSocketHandler webSocketHandler;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, PointUpdate> pending = new ConcurrentHashMap<>();
+    private final Dispatcher[] dispatchers;
+    private volatile boolean running = true;
+
+    public WalletPushOutbox(WebSocketHandler webSocketHandler,
+                            @Value("${wallet.push.dispatcher-threads:2}") int dispatcherThreads,
+                            @Value("${wallet.push.max-tracked-members:10000}") int maxTrackedMembers) {
+        this.webSocketHandler = webSocketHandler;
+        this.dispatchers = new Dispatcher[Math.max(1, dispatcherThreads)];
+        for (int i = 0; i < dispatchers.length; i++) {
+            dispatchers[i] = new Dispatcher(i, Math.max(1, maxTrackedMembers));
+            dispatchers[i].thread.start();
+        }
+    }
+
+    // 잔액 변경 알림 등록. 트랜잭션 중이면 커밋 후에 전송 대기열에 넣고 롤백되면 버린다
+    // 호출하는 쪽이 지갑 행 잠금(WalletRepository.findByMemberId, PESSIMISTIC_WRITE)을 잡은 뒤에 부르므로
+    // 순번은 같은 회원의 커밋 순서와 같다
+    public void stage(Long memberId, Long currentPoints, Long currentCoins) {
+        stage(memberId, sequence.incrementAndGet(), currentPoints, currentCoins);
+    }
+
+    // 원장 모드: 원장이 적용 순서대로 매긴 순번(LedgerBalance.version)을 그대로 쓴다
+    // 응답을 기다리던 요청 스레드가 깨어나는 순서와 상관없이 나중에 적용된 잔액이 이긴다
+    public void stage(Long memberId, long version, Long currentPoints, Long currentCoins) {
+        PointUpdate update = new PointUpdate(version, new WalletResponseDTO(memberId, currentPoints, currentCoins));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(memberId, update);
+                }
+            });
+        } else {
+            enqueue(memberId, update);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // 디스패처들이 마지막 전송 순번을 기억하고 있는 회원 수
+    int trackedCount() {
+        int count = 0;
+        for (Dispatcher dispatcher : dispatchers) {
+            count += dispatcher.lastSent.size();
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        for (Dispatcher dispatcher : dispatchers) {
+            dispatcher.thread.interrupt();
+        }
+    }
+
+    // 이미 대기 중인 회원이면 잔액만 최신으로 바꾸고 대기열에는 다시 넣지 않는다
+    private void enqueue(Long memberId, PointUpdate update) {
+        boolean[] added = {false};
+        pending.compute(memberId, (id, current) -> {
+            if (current == null) {
+                added[0] = true;
+                return update;
+            }
+            return update.sequence() > current.sequence() ? update : current;
+        });
+        if (added[0]) {
+            dispatchers[Math.floorMod(Long.hashCode(memberId), dispatchers.length)].ready.offer(memberId);
+        }
+    }
+
+    private record PointUpdate(long sequence, WalletResponseDTO response) {
+    }
+
+    private final class Dispatcher implements Runnable {
+        private final BlockingQueue<Long> ready = new LinkedBlockingQueue<>();
+        private final Map<Long, Long> lastSent;
+        private final Thread thread;
+
+        // lastSent 는 디스패처 스레드만 쓰므로 동기화 없이 접근 순서 LRU 로 크기를 제한한다
+        private Dispatcher(int id, int maxTrackedMembers) {
+            this.lastSent = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+                    return size() > maxTrackedMembers;
+                }
+            };
+            this.thread = new Thread(this, "wallet-push-" + id);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Long memberId;
+                try {
+                    memberId = ready.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    continue;
+                }
+                if (memberId == null) {
+                    continue;
+                }
+                PointUpdate update = pending.remove(memberId);
+                if (update != null) {
+                    deliver(memberId, update);
+                }
+            }
+        }
+
+        private void deliver(Long memberId, PointUpdate update) {
+            Long sent = lastSent.get(memberId);
+            if (sent != null && sent > update.sequence()) {
+                return;
+            }
+            lastSent.put(memberId, update.sequence());
+            try {
+                webSocketHandler.sendPointUpdate(memberId, update.response());
+            } catch (Exception e) {
+                log.error("실시간 포인트 업데이트 실패: memberId={}", memberId, e);
+            }
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.prgrms.ijuju.domain.wallet.repository;
 
+import com.prgrms.ijuju.domain.wallet.dto.response.ExchangeTransactionResponseDTO;
 import com.prgrms.ijuju.domain.wallet.entity.ExchangeTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface ExchangeTransactionRepository extends JpaRepository<ExchangeTransaction, Long> {
-    
-    List<ExchangeTransaction> findByMemberIdOrderByCreatedAtDesc(Long memberId);
+
+    // 환전 내역 응답 projection (Member 엔티티를 로딩하지 않음)
+    @Query("SELECT new com.prgrms.ijuju.domain.wallet.dto.response.ExchangeTransactionResponseDTO(" +
+            "e.id, e.member.id, e.pointsExchanged, e.coinsReceived, e.createdAt) " +
+            "FROM ExchangeTransaction e WHERE e.member.id = :memberId ORDER BY e.createdAt DESC, e.id DESC")
+    List<ExchangeTransactionResponseDTO> findResponsesByMemberId(@Param("memberId") Long memberId);
 } 
@@ -1,25 +1,62 @@
 package com.prgrms.ijuju.domain.wallet.repository;
 
+import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionResponseDTO;
 import com.prgrms.ijuju.domain.wallet.entity.PointTransaction;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.prgrms.ijuju.domain.wallet.entity.PointType;
 import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
 import java.time.LocalDateTime;
 
 public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
-    
-    List<PointTransaction> findByMemberIdOrderByCreatedAtDesc(Long memberId);
-    
-    List<PointTransaction> findByMemberIdAndTransactionTypeOrderByCreatedAtDesc(
-        Long memberId, TransactionType transactionType);
-    
-    List<PointTransaction> findByMemberIdAndPointTypeOrderByCreatedAtDesc(
-        Long memberId, PointType pointType);
-    
-    List<PointTransaction> findByMemberIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-        Long memberId, LocalDateTime startDate, LocalDateTime endDate);
+
+    String RESPONSE_PROJECTION = "SELECT new com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionResponseDTO(" +
+            "p.id, p.member.id, p.transactionType, p.points, p.pointType, p.subType, p.description, p.createdAt) " +
+            "FROM PointTransaction p ";
+
+    // (createdAt, id) 내림차순 keyset 조건. (member_id, created_at, id) 인덱스를 따라 읽는다
+    String BEFORE_CURSOR = "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC";
 
     boolean existsByMemberIdAndPointTypeAndCreatedAtBetween(
         Long memberId, PointType pointType, LocalDateTime startDate, LocalDateTime endDate);
-} 
+
+    // 거래 내역 응답 projection (Member 엔티티를 로딩하지 않음)
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointTransactionResponseDTO> findResponsesByMemberId(@Param("memberId") Long memberId);
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId AND p.transactionType = :transactionType " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointTransactionResponseDTO> findResponsesByMemberIdAndTransactionType(
+        @Param("memberId") Long memberId, @Param("transactionType") TransactionType transactionType);
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId AND p.pointType = :pointType " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointTransactionResponseDTO> findResponsesByMemberIdAndPointType(
+        @Param("memberId") Long memberId, @Param("pointType") PointType pointType);
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId AND p.createdAt BETWEEN :startDate AND :endDate " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PointTransactionResponseDTO> findResponsesByMemberIdAndCreatedAtBetween(
+        @Param("memberId") Long memberId, @Param("startDate") LocalDateTime startDate,
+        @Param("endDate") LocalDateTime endDate);
+
+    // 커서 페이지 조회. 다음 페이지 유무 확인을 위해 pageable 의 크기는 요청 크기 + 1 로 넘긴다
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId " + BEFORE_CURSOR)
+    List<PointTransactionResponseDTO> findPageBefore(
+        @Param("memberId") Long memberId, @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId AND p.transactionType = :transactionType " + BEFORE_CURSOR)
+    List<PointTransactionResponseDTO> findPageByTransactionTypeBefore(
+        @Param("memberId") Long memberId, @Param("transactionType") TransactionType transactionType,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.member.id = :memberId AND p.pointType = :pointType " + BEFORE_CURSOR)
+    List<PointTransactionResponseDTO> findPageByPointTypeBefore(
+        @Param("memberId") Long memberId, @Param("pointType") PointType pointType,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+}
@@ -0,0 +1,107 @@
+package com.prgrms.ijuju.domain.wallet.repository;
+
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+import com.prgrms.ijuju.domain.wallet.ledger.LedgerBalance;
+import com.prgrms.ijuju.domain.wallet.ledger.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지갑 원장의 DB 반영 전용 JDBC 저장소.
+ * 거래 내역 INSERT, 지갑 잔액 UPDATE, 체크포인트 갱신을 한 트랜잭션의 batch 로 처리한다.
+ * 잔액은 지갑별 증감을 더하므로 원장 밖에서 바뀐 잔액을 덮어쓰지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WalletLedgerJdbcRepository {
+
+    private static final String SELECT_BALANCE_SQL =
+            "SELECT w.id, w.current_points, w.current_coins, w.created_at, m.username " +
+            "FROM wallet w JOIN member m ON m.id = w.member_id WHERE w.member_id = ?";
+
+    private static final String INSERT_POINT_TRANSACTION_SQL =
+            "INSERT INTO point_transaction (member_id, transaction_type, points, point_type, sub_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EXCHANGE_TRANSACTION_SQL =
+            "INSERT INTO exchange_transaction (member_id, transaction_type, points_exchanged, coins_received, point_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_WALLET_SQL =
+            "UPDATE wallet SET current_points = current_points + ?, current_coins = current_coins + ?, updated_at = ? " +
+            "WHERE id = ?";
+
+    private static final String UPDATE_CHECKPOINT_SQL =
+            "UPDATE wallet_ledger_checkpoint SET last_seq = ? WHERE shard_id = ?";
+
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO wallet_ledger_checkpoint (shard_id, last_seq) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public Optional<LedgerBalance> findBalance(long memberId) {
+        return jdbcTemplate.query(SELECT_BALANCE_SQL, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            return new LedgerBalance(memberId, rs.getLong("id"), rs.getString("username"),
+                    createdAt == null ? null : createdAt.toLocalDateTime(),
+                    rs.getLong("current_points"), rs.getLong("current_coins"), 0L);
+        }, memberId).stream().findFirst();
+    }
+
+    public long findCheckpoint(int shardId) {
+        List<Long> seq = jdbcTemplate.queryForList(
+                "SELECT last_seq FROM wallet_ledger_checkpoint WHERE shard_id = ?", Long.class, shardId);
+        return seq.isEmpty() ? 0L : seq.get(0);
+    }
+
+    // entries 는 seq 오름차순
+    public void flush(int shardId, List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> transactions = new ArrayList<>(entries.size());
+        List<Object[]> exchanges = new ArrayList<>();
+        Map<Long, long[]> deltaByWallet = new LinkedHashMap<>();
+
+        for (LedgerEntry entry : entries) {
+            Timestamp createdAt = new Timestamp(entry.createdAtMillis());
+            transactions.add(new Object[]{entry.memberId(), entry.transactionType().name(), entry.points(),
+                    entry.pointType().name(), entry.subType(), createdAt});
+            if (entry.transactionType() == TransactionType.EXCHANGED) {
+                exchanges.add(new Object[]{entry.memberId(), entry.transactionType().name(), entry.points(),
+                        entry.points() / 100, entry.pointType().name(), createdAt});
+            }
+            long[] delta = deltaByWallet.computeIfAbsent(entry.walletId(), id -> new long[2]);
+            delta[0] += entry.pointsDelta();
+            delta[1] += entry.coinsDelta();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> wallets = deltaByWallet.entrySet().stream()
+                .map(e -> new Object[]{e.getValue()[0], e.getValue()[1], now, e.getKey()})
+                .toList();
+        long lastSeq = entries.get(entries.size() - 1).seq();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_POINT_TRANSACTION_SQL, transactions);
+            if (!exchanges.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_EXCHANGE_TRANSACTION_SQL, exchanges);
+            }
+            jdbcTemplate.batchUpdate(UPDATE_WALLET_SQL, wallets);
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, lastSeq, shardId) == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, shardId, lastSeq);
+            }
+        });
+    }
+}
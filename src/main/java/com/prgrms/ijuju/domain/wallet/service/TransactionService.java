@@ -1,17 +1,22 @@
 package com.prgrms.ijuju.domain.wallet.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.wallet.dto.request.TransactionCursor;
 import com.prgrms.ijuju.domain.wallet.dto.response.ExchangeTransactionResponseDTO;
+import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionPageResponseDTO;
 import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionResponseDTO;
-import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
-import com.prgrms.ijuju.domain.wallet.entity.ExchangeTransaction;
 import com.prgrms.ijuju.domain.wallet.entity.PointTransaction;
 import com.prgrms.ijuju.domain.wallet.repository.PointTransactionRepository;
 import com.prgrms.ijuju.domain.wallet.repository.ExchangeTransactionRepository;
@@ -20,7 +25,7 @@ import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
 import com.prgrms.ijuju.domain.wallet.exception.WalletException;
 import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
 import com.prgrms.ijuju.domain.wallet.entity.Wallet;
-import com.prgrms.ijuju.domain.wallet.handler.WebSocketHandler;
+import com.prgrms.ijuju.domain.wallet.outbox.WalletPushOutbox;
 import com.prgrms.ijuju.domain.member.entity.Member;
 
 import lombok.RequiredArgsConstructor;
@@ -34,7 +39,11 @@ public class TransactionService {
     private final PointTransactionRepository pointTransactionRepository;
     private final ExchangeTransactionRepository exchangeTransactionRepository;
     private final WalletRepository walletRepository;
-    private final WebSocketHandler webSocketHandler;
+    private final WalletPushOutbox walletPushOutbox;
+    private final ObjectMapper objectMapper;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    static final int EXPORT_PAGE_SIZE = 500;
 
     // 포인트 거래 내역 저장
     @Transactional
@@ -55,10 +64,11 @@ public class TransactionService {
             
         pointTransactionRepository.save(transaction);
         
+        // findByMemberId 는 PESSIMISTIC_WRITE 잠금 조회. 잠금을 잡은 뒤에 알림 순번을 매긴다
         Wallet wallet = walletRepository.findByMemberId(member.getId())
             .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
             
-        notifyPointUpdate(member.getId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
+        walletPushOutbox.stage(member.getId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
 
     private String generateDescription(TransactionType transactionType, 
@@ -71,87 +81,79 @@ public class TransactionService {
 
     // 포인트 거래 내역 조회
     public List<PointTransactionResponseDTO> showTransactionHistory(Long memberId) {
-        return pointTransactionRepository.findByMemberIdOrderByCreatedAtDesc(memberId)
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return pointTransactionRepository.findResponsesByMemberId(memberId);
     }
 
     // 거래 유형별(transactionType) 포인트 내역 조회
     public List<PointTransactionResponseDTO> showTransactionsByType(
             Long memberId, TransactionType transactionType) {
-        return pointTransactionRepository
-            .findByMemberIdAndTransactionTypeOrderByCreatedAtDesc(memberId, transactionType)
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return pointTransactionRepository.findResponsesByMemberIdAndTransactionType(memberId, transactionType);
     }
 
 
     // 포인트 유형별(pointType) 내역 조회
     public List<PointTransactionResponseDTO> showTransactionsByPointType(
             Long memberId, PointType pointType) {
-        return pointTransactionRepository
-            .findByMemberIdAndPointTypeOrderByCreatedAtDesc(memberId, pointType)
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return pointTransactionRepository.findResponsesByMemberIdAndPointType(memberId, pointType);
     }
 
     // 주간별 내역 조회
     public List<PointTransactionResponseDTO> showWeeklyTransactions(
             Long memberId, LocalDateTime startDate, LocalDateTime endDate) {
-        return pointTransactionRepository
-            .findByMemberIdAndCreatedAtBetweenOrderByCreatedAtDesc(
-                memberId, startDate, endDate)
-            .stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return pointTransactionRepository.findResponsesByMemberIdAndCreatedAtBetween(memberId, startDate, endDate);
     }
 
-    // 환전내역 조회
-    public List<ExchangeTransactionResponseDTO> showExchangeHistory(Long memberId) {
-        return exchangeTransactionRepository
-            .findByMemberIdOrderByCreatedAtDesc(memberId)
-            .stream()
-            .map(this::convertToExchangeDTO)
-            .collect(Collectors.toList());
-    }
+    // 거래 내역 커서 페이지 조회. transactionType / pointType 은 선택이며 둘 중 하나만 지정할 수 있다
+    public PointTransactionPageResponseDTO showTransactionPage(Long memberId, TransactionType transactionType,
+            PointType pointType, String cursor, int size) {
+        if (transactionType != null && pointType != null) {
+            throw new WalletException(WalletErrorCode.INVALID_REQUEST);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        TransactionCursor position = TransactionCursor.decode(cursor);
+        // 다음 페이지 유무 확인용으로 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<PointTransactionResponseDTO> rows;
+        if (transactionType != null) {
+            rows = pointTransactionRepository.findPageByTransactionTypeBefore(
+                memberId, transactionType, position.createdAt(), position.id(), limit);
+        } else if (pointType != null) {
+            rows = pointTransactionRepository.findPageByPointTypeBefore(
+                memberId, pointType, position.createdAt(), position.id(), limit);
+        } else {
+            rows = pointTransactionRepository.findPageBefore(memberId, position.createdAt(), position.id(), limit);
+        }
 
-    // 환전내역 DTO 변환
-    private ExchangeTransactionResponseDTO convertToExchangeDTO(ExchangeTransaction transaction) {
-        return new ExchangeTransactionResponseDTO(
-            transaction.getId(),
-            transaction.getMember().getId(),
-            transaction.getPointsExchanged(),
-            transaction.getCoinsReceived(),
-            transaction.getCreatedAt()
-        );
+        boolean hasNext = rows.size() > pageSize;
+        List<PointTransactionResponseDTO> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? TransactionCursor.of(page.get(page.size() - 1)).encode() : null;
+        return new PointTransactionPageResponseDTO(List.copyOf(page), nextCursor, hasNext);
     }
 
-    // 포인트 거래 내역 DTO 변환
-    private PointTransactionResponseDTO convertToDTO(PointTransaction transaction) {
-        return new PointTransactionResponseDTO(
-            transaction.getId(),
-            transaction.getMember().getId(),
-            transaction.getTransactionType().toString(),
-            transaction.getPoints(),
-            transaction.getPointType().toString(),
-            transaction.getSubType(),
-            transaction.getDescription(),
-            transaction.getCreatedAt()
-        );
-    }
-    
-
-    // 실시간 업데이트
-    private void notifyPointUpdate(Long memberId, Long currentPoints, Long currentCoins) {
-        try {
-            webSocketHandler.sendPointUpdate(memberId, new WalletResponseDTO(memberId, currentPoints, currentCoins));
-        } catch (Exception e) {
-            log.error("실시간 포인트 업데이트 실패: memberId={}, error={}", 
-                     memberId, e.getMessage());
-            throw new WalletException(WalletErrorCode.REALTIME_SYNC_FAILED);
+    // 전체 거래 내역을 NDJSON(한 줄에 거래 하나)으로 내보낸다
+    // 페이지마다 짧게 조회하고 바로 써 보내므로 전체 내역을 힙에 올리거나 커넥션을 오래 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportTransactionHistory(Long memberId, OutputStream out) throws IOException {
+        TransactionCursor position = TransactionCursor.first();
+        while (true) {
+            List<PointTransactionResponseDTO> rows = pointTransactionRepository.findPageBefore(
+                memberId, position.createdAt(), position.id(), PageRequest.of(0, EXPORT_PAGE_SIZE));
+            for (PointTransactionResponseDTO row : rows) {
+                out.write(objectMapper.writeValueAsBytes(row));
+                out.write('\n');
+            }
+            out.flush();
+
+            if (rows.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            position = TransactionCursor.of(rows.get(rows.size() - 1));
         }
     }
+
+    // 환전내역 조회
+    public List<ExchangeTransactionResponseDTO> showExchangeHistory(Long memberId) {
+        return exchangeTransactionRepository.findResponsesByMemberId(memberId);
+    }
 }
@@ -14,20 +14,28 @@ import com.prgrms.ijuju.domain.wallet.entity.PointTransaction;
 import com.prgrms.ijuju.domain.wallet.entity.PointType;
 import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
 import com.prgrms.ijuju.domain.wallet.entity.Wallet;
+import com.prgrms.ijuju.domain.wallet.event.WalletPointsChangedEvent;
 import com.prgrms.ijuju.domain.wallet.exception.WalletException;
 import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
 import com.prgrms.ijuju.domain.wallet.repository.PointTransactionRepository;
 import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
 import com.prgrms.ijuju.domain.wallet.repository.ExchangeTransactionRepository;
-import com.prgrms.ijuju.domain.wallet.handler.WebSocketHandler;
+import com.prgrms.ijuju.domain.wallet.outbox.WalletPushOutbox;
+import com.prgrms.ijuju.domain.wallet.ledger.LedgerBalance;
+import com.prgrms.ijuju.domain.wallet.ledger.LedgerCommand;
+import com.prgrms.ijuju.domain.wallet.ledger.WalletLedger;
 
 import jakarta.persistence.LockModeType;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Service
 @Transactional(readOnly = true)
@@ -36,8 +44,13 @@ import java.time.LocalDateTime;
 public class WalletService {
     private final WalletRepository walletRepository;
     private final PointTransactionRepository pointTransactionRepository;
-    private final WebSocketHandler webSocketHandler;
+    private final WalletPushOutbox walletPushOutbox;
     private final ExchangeTransactionRepository exchangeTransactionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WalletLedger walletLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final long ATTENDANCE_POINTS = 100L;
 
     // 게임 포인트 유효성 검사
     private void validateGamePoints(GamePointRequestDTO request) {
@@ -78,13 +91,19 @@ public class WalletService {
 
     // 현재 포인트 및 코인 조회
     public WalletResponseDTO showCurrentBalance(Long memberId) {
+        if (walletLedger.isEnabled()) {
+            Optional<LedgerBalance> balance = walletLedger.findBalance(memberId);
+            if (balance.isPresent()) {
+                return new WalletResponseDTO(memberId, balance.get().currentPoints(), balance.get().currentCoins());
+            }
+        }
         Wallet wallet = walletRepository.findByMemberId(memberId)
                 .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
         return new WalletResponseDTO(memberId, wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
 
     // 환전 처리
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     public WalletResponseDTO exchangePointsToCoin(ExchangeRequestDTO request) {
         // 최소 환전 포인트 검증
@@ -92,6 +111,14 @@ public class WalletService {
             throw new WalletException(WalletErrorCode.EXCHANGE_MINIMUM_AMOUNT);
         }
 
+        if (walletLedger.isEnabled()) {
+            return applyToLedger(new LedgerCommand(request.getMemberId(), TransactionType.EXCHANGED,
+                    request.getPointsExchanged(), PointType.EXCHANGE, "POINTS_TO_COINS"));
+        }
+        return transactionTemplate.execute(status -> exchangePointsToCoinInDatabase(request));
+    }
+
+    private WalletResponseDTO exchangePointsToCoinInDatabase(ExchangeRequestDTO request) {
         Wallet wallet = walletRepository.findByMemberId(request.getMemberId())
                 .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
         
@@ -117,52 +144,72 @@ public class WalletService {
                 .build();
         exchangeTransactionRepository.save(exchangeTransaction);
         
-        notifyPointUpdate(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
+        notifyPointUpdate(wallet);
 
         return new WalletResponseDTO(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
 
     // 출석 체크
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     public WalletResponseDTO processAttendancePoints(AttendanceRequestDTO request) {
+        if (walletLedger.isEnabled()) {
+            // 이미 DB 에 반영된 출석은 여기서, 아직 반영 전인 출석은 원장에서 걸러진다
+            if (isAlreadyCheckedIn(request.getMemberId())) {
+                throw new WalletException(WalletErrorCode.ATTENDANCE_ALREADY_CHECKED);
+            }
+            return applyToLedger(new LedgerCommand(request.getMemberId(), TransactionType.EARNED,
+                    ATTENDANCE_POINTS, PointType.ATTENDANCE, "CHECKIN"));
+        }
+        return transactionTemplate.execute(status -> processAttendancePointsInDatabase(request));
+    }
+
+    // 오늘 날짜의 시작(00:00:00)과 끝(23:59:59) 사이 출석체크 내역 확인
+    private boolean isAlreadyCheckedIn(Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        return pointTransactionRepository.existsByMemberIdAndPointTypeAndCreatedAtBetween(
+                memberId, PointType.ATTENDANCE, now.toLocalDate().atStartOfDay(), now.toLocalDate().atTime(23, 59, 59));
+    }
+
+    private WalletResponseDTO processAttendancePointsInDatabase(AttendanceRequestDTO request) {
         Wallet wallet = walletRepository.findByMemberId(request.getMemberId())
                 .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
         
-        // 오늘 날짜의 시작(00:00:00)과 끝(23:59:59) 설정
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime startOfDay = now.toLocalDate().atStartOfDay();
-        LocalDateTime endOfDay = now.toLocalDate().atTime(23, 59, 59);
-
         // 오늘의 출석체크 거래내역 확인
-        boolean alreadyCheckedIn = pointTransactionRepository.existsByMemberIdAndPointTypeAndCreatedAtBetween(
-                request.getMemberId(), 
-                PointType.ATTENDANCE, 
-                startOfDay, 
-                endOfDay
-        );
+        boolean alreadyCheckedIn = isAlreadyCheckedIn(request.getMemberId());
 
         if (alreadyCheckedIn) {
             throw new WalletException(WalletErrorCode.ATTENDANCE_ALREADY_CHECKED);
         }
 
-        Long attendancePoints = 100L;
+        Long attendancePoints = ATTENDANCE_POINTS;
         wallet.updatePointsAndCoins(attendancePoints, TransactionType.EARNED);
 
         savePointTransaction(wallet.getMember(), TransactionType.EARNED, 
                 attendancePoints, PointType.ATTENDANCE, "CHECKIN");
 
-        notifyPointUpdate(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
+        notifyPointUpdate(wallet);
 
         return new WalletResponseDTO(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
 
     // 미니 게임
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     public WalletResponseDTO processMiniGamePoints(GamePointRequestDTO request) {
         validateGamePoints(request);
 
+        if (walletLedger.isEnabled()) {
+            if (!request.isWin()) {
+                return transactionTemplate.execute(status -> showCurrentBalance(request.getMemberId()));
+            }
+            return applyToLedger(new LedgerCommand(request.getMemberId(), TransactionType.EARNED,
+                    request.getPoints(), PointType.GAME, request.getGameType().toString()));
+        }
+        return transactionTemplate.execute(status -> processMiniGamePointsInDatabase(request));
+    }
+
+    private WalletResponseDTO processMiniGamePointsInDatabase(GamePointRequestDTO request) {
         // 패배한 경우 현재 지갑 상태만 반환
         if (!request.isWin()) {
             Wallet wallet = walletRepository.findByMemberId(request.getMemberId())
@@ -179,15 +226,23 @@ public class WalletService {
         savePointTransaction(wallet.getMember(), TransactionType.EARNED, request.getPoints(), PointType.GAME, description);
 
         // 실시간 업데이트
-        notifyPointUpdate(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
+        notifyPointUpdate(wallet);
 
         return new WalletResponseDTO(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
     
     // 주식 투자
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     public WalletResponseDTO simulateStockInvestment(StockPointRequestDTO request) {
+        if (walletLedger.isEnabled()) {
+            return applyToLedger(new LedgerCommand(request.getMemberId(), request.getTransactionType(),
+                    request.getPoints(), PointType.STOCK, request.getStockType().toString()));
+        }
+        return transactionTemplate.execute(status -> simulateStockInvestmentInDatabase(request));
+    }
+
+    private WalletResponseDTO simulateStockInvestmentInDatabase(StockPointRequestDTO request) {
         Wallet wallet = walletRepository.findByMemberId(request.getMemberId())
                 .orElseThrow(() -> new WalletException(WalletErrorCode.WALLET_NOT_FOUND));
 
@@ -198,7 +253,7 @@ public class WalletService {
         savePointTransaction(wallet.getMember(), request.getTransactionType(), 
                 request.getPoints(), PointType.STOCK, request.getStockType().toString());
 
-        notifyPointUpdate(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
+        notifyPointUpdate(wallet);
 
         return new WalletResponseDTO(request.getMemberId(), wallet.getCurrentPoints(), wallet.getCurrentCoins());
     }
@@ -216,9 +271,22 @@ public class WalletService {
         pointTransactionRepository.save(transaction);
     }
 
-    // 실시간 업데이트
-    private void notifyPointUpdate(Long memberId, Long currentPoints, Long currentCoins) {
-        WalletResponseDTO response = new WalletResponseDTO(memberId, currentPoints, currentCoins);
-        webSocketHandler.sendPointUpdate(memberId, response);
+    // 원장 모드: 행 잠금과 트랜잭션 없이 원장에 적용하고, 거래 내역과 잔액은 원장이 모아서 DB 에 반영한다
+    private WalletResponseDTO applyToLedger(LedgerCommand command) {
+        LedgerBalance balance = walletLedger.apply(command);
+
+        walletPushOutbox.stage(balance.memberId(), balance.version(), balance.currentPoints(), balance.currentCoins());
+        eventPublisher.publishEvent(new WalletPointsChangedEvent(balance.memberId(), balance.username(),
+                balance.currentPoints(), balance.currentCoins(), balance.walletCreatedAt(), balance.version()));
+        return new WalletResponseDTO(balance.memberId(), balance.currentPoints(), balance.currentCoins());
+    }
+
+    // 실시간 업데이트. 웹소켓 전송은 커밋 후 outbox 디스패처가 하므로 행 잠금을 잡은 채 기다리지 않는다
+    private void notifyPointUpdate(Wallet wallet) {
+        Long memberId = wallet.getMember().getId();
+        walletPushOutbox.stage(memberId, wallet.getCurrentPoints(), wallet.getCurrentCoins());
+
+        eventPublisher.publishEvent(new WalletPointsChangedEvent(memberId, wallet.getMember().getUsername(),
+                wallet.getCurrentPoints(), wallet.getCurrentCoins(), wallet.getCreatedAt(), 0L));
     }
 }
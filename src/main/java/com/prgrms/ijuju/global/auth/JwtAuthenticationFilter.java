@@ -1,7 +1,5 @@
 package com.prgrms.ijuju.global.auth;
 
-import com.prgrms.ijuju.global.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -14,15 +12,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
@@ -30,6 +24,8 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     // 각 요청마다 JWT 토큰을 확인하고 인증 정보를 설정
 
+    private final TokenVerifier tokenVerifier;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
@@ -41,25 +37,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 String token = bearerToken.substring("Bearer ".length());
 
                 // 위변조 체크 및 디코드
-                // JwtUtil 클래스의 decode() 메서드를 사용해 JWT 토큰을 디코딩하고 서명 위변조가 없는지 검사
-                Claims claims = JwtUtil.decode(token);
-
-                //claim의 정보들 파싱
-                // JWT 토큰의 Claims에서 "data" 라는 키를 통해 데이터 맵을 얻어옴 => 여기에는 사용자의 상세 정보 포함
-                Map<String, Object> data = (Map<String, Object>) claims.get("data");
-
-                // 사용자 ID 추출 : 맵에서 "id"키에 해당하는 값을 추출 => 문자열 형태로 저장되어있기 때문에 Long 타입으로 변환해야함
-                long id = Long.parseLong((String) data.get("id"));
-                String loginId = (String) data.get("loginId");
-
-                // 사용자의 권한 정보(문자열)를 추출, GrantedAuthority 객체로 변환
-                List<? extends GrantedAuthority> authorities = ((List<String>) data.get("authorities"))
-                        .stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .toList();
-
-                // Jwt에서 추출한 사용자 정보로 SecurityUser 객체를 생성
-                SecurityUser user = new SecurityUser(id, loginId, "", authorities);
+                // 같은 토큰은 TokenVerifier 캐시에서 서명 검증과 권한 목록 생성 없이 SecurityUser 를 바로 얻는다
+                SecurityUser user = tokenVerifier.verify(token).user();
 
                 //SecurityContext에 넣을  Authenticiation 생성
                 Authentication auth = new UsernamePasswordAuthenticationToken(user, user.getPassword(), user.getAuthorities());
@@ -1,7 +1,7 @@
 package com.prgrms.ijuju.global.auth;
 
-import com.prgrms.ijuju.global.util.JwtUtil;
 import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
@@ -18,8 +18,11 @@ import java.util.stream.Collectors;
 
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class JwtHandshakeInterceptor implements HandshakeInterceptor {
 
+    private final TokenVerifier tokenVerifier;
+
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
                                    WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
@@ -61,7 +64,7 @@ public class JwtHandshakeInterceptor implements HandshakeInterceptor {
             }
 
             // JWT 검증
-            Claims claims = JwtUtil.decode(jwtToken);
+            Claims claims = tokenVerifier.verify(jwtToken).claims();
             attributes.put("userClaims", claims); // 검증된 클레임을 WebSocket 세션에 저장
             log.info("WebSocket 연결 성공: {}", claims);
             return true;
@@ -0,0 +1,75 @@
+package com.prgrms.ijuju.global.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.prgrms.ijuju.global.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * JWT 검증 서비스. HTTP 필터와 WebSocket 인터셉터가 함께 사용한다.
+ * JwtUtil 이 만든 스레드 안전한 파서 하나를 함께 쓰고, 검증에 성공한 토큰은 SHA-256 해시를 키로 토큰의 exp 까지 캐시한다.
+ * 같은 토큰이 다시 오면 서명 검증과 클레임 파싱, 권한 목록 생성을 건너뛴다. 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class TokenVerifier {
+
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> cache;
+
+    // JwtUtil 의 @PostConstruct 에서 파서가 준비된 뒤에 생성되도록 주입받는다
+    @Autowired
+    public TokenVerifier(JwtUtil jwtUtil, @Value("${auth.token-cache.maximum-size:10000}") long maximumSize) {
+        this(JwtUtil.getParser(), maximumSize);
+    }
+
+    TokenVerifier(JwtParser parser, long maximumSize) {
+        this.parser = parser;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.<String, VerifiedToken>creating((hash, token) ->
+                        Duration.ofMillis(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()))))
+                .build();
+    }
+
+    // 위변조나 만료 시 jjwt 예외(SignatureException, ExpiredJwtException 등)를 그대로 던진다
+    public VerifiedToken verify(String token) {
+        String hash = hash(token);
+        VerifiedToken cached = cache.getIfPresent(hash);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        VerifiedToken verified = VerifiedToken.from(decode(token));
+        cache.put(hash, verified);
+        return verified;
+    }
+
+    // 캐시를 거치지 않는 검증 (재발급처럼 매번 확인해야 하는 경우)
+    public Claims decode(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    public long cachedTokens() {
+        return cache.estimatedSize();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
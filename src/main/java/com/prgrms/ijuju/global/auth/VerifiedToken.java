@@ -0,0 +1,31 @@
+package com.prgrms.ijuju.global.auth;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.Map;
+
+// 서명과 만료를 검증한 토큰. 클레임에서 만든 SecurityUser 를 함께 보관해 요청마다 다시 만들지 않는다
+public record VerifiedToken(Claims claims, SecurityUser user, long expiresAtMillis) {
+
+    @SuppressWarnings("unchecked")
+    static VerifiedToken from(Claims claims) {
+        Map<String, Object> data = (Map<String, Object>) claims.get("data");
+        long id = Long.parseLong(data.get("id").toString());
+        String loginId = (String) data.get("loginId");
+
+        List<String> authorityNames = (List<String>) data.get("authorities");
+        List<? extends GrantedAuthority> authorities = authorityNames == null ? List.of() : authorityNames.stream()
+                .map(SimpleGrantedAuthority::new)
+                .toList();
+
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        return new VerifiedToken(claims, new SecurityUser(id, loginId, "", authorities), expiresAt);
+    }
+
+    public Long memberId() {
+        return user.getId();
+    }
+}
@@ -1,7 +1,5 @@
 package com.prgrms.ijuju.global.auth;
 
-import com.prgrms.ijuju.global.util.JwtUtil;
-import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -13,13 +11,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
-import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebsocketChannelInterceptor implements ChannelInterceptor {
-    private final JwtUtil jwtUtil;
+    private final TokenVerifier tokenVerifier;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -30,11 +27,11 @@ public class WebsocketChannelInterceptor implements ChannelInterceptor {
             if (token != null && token.startsWith("Bearer ")) {
                 token = token.substring(7); // "Bearer " 제거
                 try {
-                    // JwtUtil을 통해 JWT 토큰 검증 및 클레임 추출
-                    Claims claims = jwtUtil.decode(token);
-                    log.info("JWT 검증 성공: {}", claims);
+                    // TokenVerifier 를 통해 JWT 토큰 검증 및 클레임 추출
+                    VerifiedToken verified = tokenVerifier.verify(token);
+                    log.info("JWT 검증 성공: {}", verified.claims());
 
-                    Long memberId = Long.valueOf(claims.get("data", Map.class).get("id").toString());
+                    Long memberId = verified.memberId();
                     accessor.getSessionAttributes().put("AUTHENTICATED_MEMBER_ID", memberId);
 
                     UsernamePasswordAuthenticationToken authToken =
@@ -1,6 +1,7 @@
 package com.prgrms.ijuju.global.util;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -20,15 +21,23 @@ public class JwtUtil {
 
     private static SecretKey key;
 
+    // 파서는 불변이고 스레드 안전하므로 하나만 만들어 공유
+    private static JwtParser parser;
+
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(key).build();
     }
 
     public static SecretKey getKey() {
         return key;
     }
 
+    public static JwtParser getParser() {
+        return parser;
+    }
+
     // Access Token 생성
     public static String encodeAccessToken(long minute, Map<String, Object> data) {
 
@@ -55,11 +64,7 @@ public class JwtUtil {
 
     // 토큰에서 클레임 추출
     public static Claims decode(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     // 토큰 만료 시간 계산
@@ -0,0 +1,70 @@
+package com.prgrms.ijuju.global.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 토큰 버킷 요청 제한기.
+ * capacity 만큼 순간 요청을 허용하고, 이후에는 refillPeriod 마다 토큰 하나씩 채워진다.
+ * acquire 는 토큰이 생길 때까지 호출 스레드를 대기시키므로 외부 API 호출 직전에 사용한다.
+ */
+public class TokenBucket {
+
+    private final long capacity;
+    private final long refillNanos;
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacity, long refillPeriod, TimeUnit unit) {
+        if (capacity <= 0 || refillPeriod <= 0) {
+            throw new IllegalArgumentException("capacity and refillPeriod must be greater than 0");
+        }
+        this.capacity = capacity;
+        this.refillNanos = unit.toNanos(refillPeriod);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 분당 permitsPerMinute 회, 순간 최대 burst 회
+    public static TokenBucket perMinute(long permitsPerMinute, long burst) {
+        return new TokenBucket(burst, TimeUnit.MINUTES.toNanos(1) / permitsPerMinute, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean tryAcquire() {
+        return reserve() == 0;
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = reserve()) > 0) {
+            LockSupport.parkNanos(this, waitNanos);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    public synchronized double availableTokens() {
+        refill(System.nanoTime());
+        return tokens;
+    }
+
+    // 토큰을 하나 가져가면 0, 없으면 다음 토큰까지 남은 시간(ns)
+    private synchronized long reserve() {
+        long now = System.nanoTime();
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) ((1 - tokens) * refillNanos));
+    }
+
+    private void refill(long now) {
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed / refillNanos);
+            lastRefillNanos = now;
+        }
+    }
+}
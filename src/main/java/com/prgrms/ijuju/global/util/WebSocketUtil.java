@@ -1,9 +1,11 @@
 package com.prgrms.ijuju.global.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+@Slf4j
 public class WebSocketUtil {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
@@ -18,11 +20,34 @@ public class WebSocketUtil {
 
                 session.sendMessage(new TextMessage(jsonData));
             } else {
-                System.out.println("WebSocket 세션 없음");
+                log.debug("WebSocket 세션 없음 - sessionId: {}", session.getId());
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("WebSocket 메시지 전송 실패 - sessionId: {}", session.getId(), e);
             throw new RuntimeException("메시지 전송 실패", e);
         }
     }
+
+    // 미리 직렬화해 둔 JSON 을 그대로 전송. 같은 프레임을 여러 세션에 보낼 때 매번 직렬화하지 않도록 사용
+    public static void sendJson(WebSocketSession session, String jsonData) {
+        try {
+            if (session.isOpen()) {
+                session.sendMessage(new TextMessage(jsonData));
+            } else {
+                log.debug("WebSocket 세션 없음 - sessionId: {}", session.getId());
+            }
+        } catch (Exception e) {
+            log.warn("WebSocket 메시지 전송 실패 - sessionId: {}", session.getId(), e);
+            throw new RuntimeException("메시지 전송 실패", e);
+        }
+    }
+
+    // send 와 같은 ObjectMapper 로 직렬화
+    public static String toJson(Object data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (Exception e) {
+            throw new RuntimeException("JSON 변환 실패", e);
+        }
+    }
 }
\ No newline at end of file
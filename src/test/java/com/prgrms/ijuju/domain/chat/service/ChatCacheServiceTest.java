@@ -0,0 +1,66 @@
+package com.prgrms.ijuju.domain.chat.service;
+
+import com.prgrms.ijuju.domain.chat.dto.response.ChatMessageResponseDTO;
+import com.prgrms.ijuju.domain.chat.service.ChatCacheService.CachedMessage;
+import com.prgrms.ijuju.domain.chat.service.ChatCacheService.MessageWindow;
+import com.prgrms.ijuju.domain.chat.service.ChatCacheService.RecentMessages;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatCacheServiceTest {
+
+    // 최신순으로 id 가 count-1 ... 0 인 메시지
+    private static RecentMessages ring(int count, int capacity) {
+        LocalDateTime now = LocalDateTime.now();
+        List<CachedMessage> messages = IntStream.range(0, count)
+                .map(i -> count - 1 - i)
+                .mapToObj(i -> new CachedMessage(String.valueOf(i), "login", "user", "profile.png",
+                        "message " + i, null, now.minusMinutes(count - i), false, false))
+                .toList();
+        return new RecentMessages("1", messages, capacity);
+    }
+
+    private static List<String> ids(MessageWindow window) {
+        return window.messages().stream().map(ChatMessageResponseDTO::getId).toList();
+    }
+
+    @Test
+    @DisplayName("첫 페이지와 이전 메시지 구간을 링에서 바로 읽는다")
+    void windowFromRing() {
+        RecentMessages recent = ring(10, 10);
+
+        MessageWindow first = recent.windowBefore(null, 3);
+        assertThat(ids(first)).containsExactly("9", "8", "7");
+        assertThat(first.hasNext()).isTrue();
+
+        MessageWindow before = recent.windowBefore("7", 3);
+        assertThat(ids(before)).containsExactly("6", "5", "4");
+    }
+
+    @Test
+    @DisplayName("가득 찬 링의 끝을 넘는 구간은 DB 조회가 필요하다")
+    void fullRingCannotAnswerBeyondEnd() {
+        RecentMessages recent = ring(10, 10);
+
+        assertThat(recent.windowBefore("2", 3)).isNull();
+        assertThat(recent.windowBefore("3", 3).hasNext()).isTrue();
+        assertThat(recent.windowBefore("unknown", 3)).isNull();
+    }
+
+    @Test
+    @DisplayName("링이 가득 차지 않았다면 방 전체 메시지이므로 끝까지 링에서 답한다")
+    void partialRingIsComplete() {
+        RecentMessages recent = ring(5, 10);
+
+        MessageWindow last = recent.windowBefore("2", 3);
+        assertThat(ids(last)).containsExactly("1", "0");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(recent.window(20, 3).messages()).isEmpty();
+    }
+}
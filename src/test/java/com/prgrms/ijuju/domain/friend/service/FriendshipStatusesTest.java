@@ -0,0 +1,60 @@
+package com.prgrms.ijuju.domain.friend.service;
+
+import com.prgrms.ijuju.domain.friend.entity.FriendshipStatus;
+import com.prgrms.ijuju.domain.friend.entity.RequestStatus;
+import com.prgrms.ijuju.domain.friend.repository.FriendListRepository;
+import com.prgrms.ijuju.domain.friend.repository.FriendRequestRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FriendshipStatusesTest {
+
+    @Mock
+    private FriendListRepository friendListRepository;
+
+    @Mock
+    private FriendRequestRepository friendRequestRepository;
+
+    @InjectMocks
+    private FriendService friendService;
+
+    @Test
+    @DisplayName("한 페이지의 친구 상태를 친구 목록과 요청 조회 두 번으로 결정한다")
+    void resolvesPage() {
+        when(friendListRepository.findFriendIdsAmong(1L, List.of(2L, 3L, 4L))).thenReturn(List.of(2L));
+        when(friendRequestRepository.findCounterpartIdsAmong(1L, List.of(3L, 4L), RequestStatus.PENDING))
+                .thenReturn(List.of(3L));
+
+        Map<Long, FriendshipStatus> statuses = friendService.showFriendshipStatuses(1L, List.of(2L, 3L, 4L));
+
+        assertThat(statuses).containsExactlyInAnyOrderEntriesOf(Map.of(
+                2L, FriendshipStatus.FRIEND,
+                3L, FriendshipStatus.PENDING,
+                4L, FriendshipStatus.NOT_FRIEND));
+        verifyNoMoreInteractions(friendListRepository, friendRequestRepository);
+    }
+
+    @Test
+    @DisplayName("모두 친구이면 요청은 조회하지 않는다")
+    void skipsRequestsWhenAllFriends() {
+        when(friendListRepository.findFriendIdsAmong(1L, List.of(2L))).thenReturn(List.of(2L));
+
+        assertThat(friendService.showFriendshipStatuses(1L, List.of(2L))).containsEntry(2L, FriendshipStatus.FRIEND);
+        verify(friendRequestRepository, never()).findCounterpartIdsAmong(any(), any(), any());
+    }
+}
@@ -0,0 +1,66 @@
+package com.prgrms.ijuju.domain.member.component;
+
+import com.prgrms.ijuju.domain.member.event.MemberProfileChangedEvent;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberProfileCacheTest {
+
+    private MemberRepository memberRepository;
+    private MemberProfileCache memberProfileCache;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        memberProfileCache = new MemberProfileCache(memberRepository, 100, 60);
+    }
+
+    private static MemberProfile profile(long id) {
+        return new MemberProfile(id, "login" + id, "user" + id, null, false);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 회원만 IN 쿼리 한 번으로 조회한다")
+    void loadsMissingInOneQuery() {
+        when(memberRepository.findProfilesByIdIn(anyCollection()))
+                .thenReturn(List.of(profile(1L), profile(2L)))
+                .thenReturn(List.of(profile(3L)));
+
+        memberProfileCache.getAll(List.of(1L, 2L));
+        Map<Long, MemberProfile> profiles = memberProfileCache.getAll(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(profiles).containsOnlyKeys(1L, 2L, 3L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(memberRepository, times(2)).findProfilesByIdIn(ids.capture());
+        assertThat(Set.copyOf(ids.getAllValues().get(1))).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("프로필 변경 이벤트를 받으면 다음 조회에서 다시 읽는다")
+    void invalidateOnProfileChanged() {
+        when(memberRepository.findProfilesByIdIn(anyCollection())).thenReturn(List.of(profile(1L)));
+
+        memberProfileCache.getAll(List.of(1L));
+        memberProfileCache.onProfileChanged(new MemberProfileChangedEvent(1L));
+        memberProfileCache.getAll(List.of(1L));
+
+        verify(memberRepository, times(2)).findProfilesByIdIn(anyCollection());
+    }
+}
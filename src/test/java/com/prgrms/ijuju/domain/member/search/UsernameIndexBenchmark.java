@@ -0,0 +1,62 @@
+package com.prgrms.ijuju.domain.member.search;
+
+import java.util.Random;
+
+/**
+ * 합성 별명 백만 개로 색인 구성 시간과 검색 지연을 측정한다.
+ * 빌드에 JMH 플러그인이 없어 main 으로 직접 실행하며 테스트 실행에는 포함되지 않는다.
+ */
+public class UsernameIndexBenchmark {
+
+    private static final int MEMBERS = 1_000_000;
+    private static final int QUERIES = 100_000;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하민준서지우현수영은호";
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] names = new String[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            names[i] = randomName(random);
+        }
+
+        long startedAt = System.nanoTime();
+        UsernameIndex index = new UsernameIndex();
+        for (int i = 0; i < MEMBERS; i++) {
+            index.put((long) i + 1, names[i]);
+        }
+        System.out.printf("build: %,d members in %d ms%n", MEMBERS, (System.nanoTime() - startedAt) / 1_000_000);
+
+        for (int length = 2; length <= 4; length++) {
+            String[] queries = new String[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                String name = names[random.nextInt(MEMBERS)];
+                int start = random.nextInt(Math.max(1, name.length() - length + 1));
+                queries[i] = name.substring(start, Math.min(name.length(), start + length));
+            }
+            run("query length " + length, index, queries);
+        }
+    }
+
+    private static void run(String name, UsernameIndex index, String[] queries) {
+        long hits = 0;
+        for (String query : queries) {
+            hits += index.search(query, 1L, 0, 21).size();
+        }
+        long startedAt = System.nanoTime();
+        for (String query : queries) {
+            hits += index.search(query, 1L, 0, 21).size();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        System.out.printf("%-16s %8.2f us/query (first page of 20, hits %d)%n",
+                name, elapsed / 1_000.0 / queries.length, hits);
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(7);
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            name.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return name.toString();
+    }
+}
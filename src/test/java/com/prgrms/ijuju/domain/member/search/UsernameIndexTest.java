@@ -0,0 +1,56 @@
+package com.prgrms.ijuju.domain.member.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsernameIndexTest {
+
+    private UsernameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UsernameIndex();
+        index.put(1L, "민준이");
+        index.put(2L, "김민준");
+        index.put(3L, "민서");
+        index.put(4L, "Apple");
+        index.put(5L, "파인애플");
+    }
+
+    @Test
+    @DisplayName("접두 일치가 부분 일치보다 먼저 나온다")
+    void prefixFirst() {
+        assertThat(index.search("민준", null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.search("민", null, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하지 않고 본인은 제외한다")
+    void ignoreCaseAndExclude() {
+        assertThat(index.search("APP", null, 0, 10)).containsExactly(4L);
+        assertThat(index.search("app", 4L, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("offset 과 limit 으로 나눠 읽는다")
+    void paging() {
+        index.put(6L, "민준짱");
+        assertThat(index.search("민준", null, 0, 2)).containsExactly(1L, 6L);
+        assertThat(index.search("민준", null, 2, 2)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("별명을 바꾸거나 삭제하면 이전 별명으로는 찾을 수 없다")
+    void renameAndRemove() {
+        index.put(1L, "하늘");
+        index.remove(3L);
+
+        assertThat(index.search("민준", null, 0, 10)).containsExactly(2L);
+        assertThat(index.search("하늘", null, 0, 10)).containsExactly(1L);
+        assertThat(index.search("민서", null, 0, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,195 @@
+package com.prgrms.ijuju.domain.member.service;
+
+import com.prgrms.ijuju.domain.avatar.service.FileStorageService;
+import com.prgrms.ijuju.domain.friend.service.FriendService;
+import com.prgrms.ijuju.domain.member.component.MemberProfileCache;
+import com.prgrms.ijuju.domain.member.dto.request.MemberRequestDTO;
+import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
+import com.prgrms.ijuju.domain.member.exception.MemberException;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.member.search.MemberSearchIndex;
+import com.prgrms.ijuju.domain.member.token.RefreshTokenService;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+// 한 반이 동시에 가입하는 상황에서 저장 결과와 중복 오류 구분을 확인한다
+// 회원 저장 경로만 띄우는 슬라이스라 비밀번호 인코더와 외부 저장소(Redis, Mongo)는 목으로 대신한다
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(MemberService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberSignupConcurrencyTest {
+
+    private static final int CLASSROOM_SIZE = 40;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private FriendService friendService;
+
+    @MockBean
+    private FileStorageService fileStorageService;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @MockBean
+    private MemberProfileCache memberProfileCache;
+
+    @MockBean
+    private MemberSearchIndex memberSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(passwordEncoder.encode(anyString())).thenReturn("encoded");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM avatar");
+        jdbcTemplate.update("DELETE FROM wallet");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    @DisplayName("동시에 몰린 가입 요청이 모두 회원과 지갑, 아바타까지 저장된다")
+    void classroomBurst() throws InterruptedException {
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        burst(CLASSROOM_SIZE, i -> {
+            memberService.create(request("burst" + i, "burst" + i + "@test.com", "반" + i));
+            succeeded.incrementAndGet();
+        }, failures);
+
+        assertThat(failures).isEmpty();
+        assertThat(succeeded).hasValue(CLASSROOM_SIZE);
+        for (int i = 0; i < CLASSROOM_SIZE; i++) {
+            Long memberId = memberRepository.findByLoginId("burst" + i).orElseThrow().getId();
+            assertThat(walletRepository.findByMemberId(memberId)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 별명으로 동시에 가입하면 하나만 성공하고 나머지는 별명 중복 오류를 받는다")
+    void concurrentDuplicateUsername() throws InterruptedException {
+        int requests = 10;
+        AtomicInteger succeeded = new AtomicInteger();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        burst(requests, i -> {
+            memberService.create(request("race" + i, "race" + i + "@test.com", "같은별명"));
+            succeeded.incrementAndGet();
+        }, failures);
+
+        assertThat(succeeded).hasValue(1);
+        assertThat(failures).hasSize(requests - 1)
+                .allSatisfy(e -> assertThat(e).isInstanceOf(MemberException.class)
+                        .hasMessage(MemberErrorCode.USERNAME_IS_DUPLICATED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("이름 없는 예전 인덱스로 위반이 보고되어도 중복된 값으로 어느 항목인지 알아낸다")
+    void mapLegacyIndexViolation() {
+        MemberRequestDTO.CreateRequestDTO dto = request("kim12", "kim@test.com", "김별명");
+
+        assertThat(MemberService.toSignupError(violation(
+                "Duplicate entry 'kim@test.com' for key 'member.UK_mbmcqelty0fbrvxp1q58dn57t'"), dto))
+                .isEqualTo(MemberErrorCode.EMAIL_IS_DUPLICATED);
+        assertThat(MemberService.toSignupError(violation(
+                "Duplicate entry '김별명' for key 'member.UK_r43af9ap4edm43mmtq01oddj6'"), dto))
+                .isEqualTo(MemberErrorCode.USERNAME_IS_DUPLICATED);
+        assertThat(MemberService.toSignupError(violation(
+                "Duplicate entry 'kim12' for key 'member.uk_member_login_id'"), dto))
+                .isEqualTo(MemberErrorCode.LOGINID_IS_DUPLICATED);
+        assertThat(MemberService.toSignupError(violation("unknown"), dto))
+                .isEqualTo(MemberErrorCode.MEMBER_NOT_REGISTERED);
+    }
+
+    private static DataIntegrityViolationException violation(String message) {
+        return new DataIntegrityViolationException("could not execute statement", new SQLException(message));
+    }
+
+    private void burst(int count, Signup signup, Queue<Throwable> failures) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        CountDownLatch ready = new CountDownLatch(count);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(count);
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    signup.run(index);
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    private static MemberRequestDTO.CreateRequestDTO request(String loginId, String email, String username) {
+        return MemberRequestDTO.CreateRequestDTO.builder()
+                .loginId(loginId)
+                .pw("password1!")
+                .email(email)
+                .username(username)
+                .birth(LocalDate.of(2015, 3, 1))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Signup {
+        void run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,71 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
+import com.prgrms.ijuju.domain.member.exception.MemberException;
+import com.prgrms.ijuju.global.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 실제 트랜잭션에서 재사용 감지 후 묶음 폐기가 커밋되는지 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import({JpaRefreshTokenStore.class, RefreshTokenService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RefreshTokenReuseTest {
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void initKey() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", "test-secret-key-for-refresh-token-0123456789");
+        jwtUtil.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("호출 측 트랜잭션 안에서 재사용이 감지되어도 묶음 폐기는 롤백되지 않는다")
+    void reuseRevokesFamilyInsideOuterTransaction() {
+        String first = refreshTokenService.issue(1L, "user1", null);
+        String second = refreshTokenService.rotate(first).refreshToken();
+        String other = refreshTokenService.issue(1L, "user1", "other device");
+
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        assertThatThrownBy(() -> outer.executeWithoutResult(status -> refreshTokenService.rotate(first)))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(MemberErrorCode.MEMBER_REFRESHTOKEN_REUSED.getMessage());
+
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(first))).isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(second))).isEmpty();
+        assertThat(refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(other))).isPresent();
+        assertThatThrownBy(() -> refreshTokenService.rotate(second))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(MemberErrorCode.MEMBER_LOGIN_DENIED.getMessage());
+    }
+}
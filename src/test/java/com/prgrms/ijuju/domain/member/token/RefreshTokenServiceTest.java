@@ -0,0 +1,103 @@
+package com.prgrms.ijuju.domain.member.token;
+
+import com.prgrms.ijuju.domain.member.exception.MemberErrorCode;
+import com.prgrms.ijuju.domain.member.exception.MemberException;
+import com.prgrms.ijuju.global.util.JwtUtil;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeAll
+    static void initKey() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", "test-secret-key-for-refresh-token-0123456789");
+        jwtUtil.init();
+    }
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenStore, 60);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰은 원문이 아닌 64자 해시로 저장된다")
+    void issueStoresHash() {
+        String token = refreshTokenService.issue(1L, "user1", "Mozilla/5.0");
+
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<RefreshTokenRecord> record = ArgumentCaptor.forClass(RefreshTokenRecord.class);
+        verify(refreshTokenStore).save(hash.capture(), record.capture());
+
+        assertThat(hash.getValue()).hasSize(64).isEqualTo(RefreshTokenService.hash(token));
+        assertThat(record.getValue().memberId()).isEqualTo(1L);
+        assertThat(record.getValue().device()).isEqualTo("Mozilla/5.0");
+    }
+
+    @Test
+    @DisplayName("교체하면 같은 묶음으로 새 토큰을 발급한다")
+    void rotate() {
+        String token = refreshTokenService.issue(1L, "user1", null);
+        RefreshTokenRecord record = new RefreshTokenRecord(1L, "family", null, LocalDateTime.now().plusMinutes(10));
+        when(refreshTokenStore.consume(eq(RefreshTokenService.hash(token)), any()))
+                .thenReturn(new RefreshTokenStore.Consumed(RefreshTokenStore.Status.ROTATED, record));
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(token);
+
+        assertThat(rotation.memberId()).isEqualTo(1L);
+        assertThat(rotation.loginId()).isEqualTo("user1");
+        assertThat(rotation.refreshToken()).isNotEqualTo(token);
+        ArgumentCaptor<RefreshTokenRecord> saved = ArgumentCaptor.forClass(RefreshTokenRecord.class);
+        verify(refreshTokenStore).save(eq(RefreshTokenService.hash(rotation.refreshToken())), saved.capture());
+        assertThat(saved.getValue().familyId()).isEqualTo("family");
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 오면 묶음 전체를 폐기한다")
+    void reuseRevokesFamily() {
+        String token = refreshTokenService.issue(1L, "user1", null);
+        RefreshTokenRecord record = new RefreshTokenRecord(1L, "family", null, LocalDateTime.now().plusMinutes(10));
+        when(refreshTokenStore.consume(eq(RefreshTokenService.hash(token)), any()))
+                .thenReturn(new RefreshTokenStore.Consumed(RefreshTokenStore.Status.REUSED, record));
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(MemberErrorCode.MEMBER_REFRESHTOKEN_REUSED.getMessage());
+        verify(refreshTokenStore).revokeFamily("family");
+    }
+
+    @Test
+    @DisplayName("저장소에 없는 토큰은 거부한다")
+    void unknownToken() {
+        String token = refreshTokenService.issue(1L, "user1", null);
+        when(refreshTokenStore.consume(any(), any())).thenReturn(RefreshTokenStore.Consumed.NOT_FOUND);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(token))
+                .isInstanceOf(MemberException.class)
+                .hasMessage(MemberErrorCode.MEMBER_LOGIN_DENIED.getMessage());
+        verify(refreshTokenStore, never()).revokeFamily(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.prgrms.ijuju.domain.notification.fanout;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.notification.repository.CachedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 프로세스 내부에 띄운 Redis 를 두 노드가 공유하는 구성. 노드마다 리스너 컨테이너를 따로 둔다
+class RedisNotificationBrokerTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static RedisMessageListenerContainer containerA;
+    private static RedisMessageListenerContainer containerB;
+    private static RedisNotificationBroker nodeA;
+    private static RedisNotificationBroker nodeB;
+    private static final List<NotificationEvent> receivedByB = new CopyOnWriteArrayList<>();
+    private static volatile CountDownLatch latch = new CountDownLatch(0);
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        containerA = container();
+        containerB = container();
+        nodeA = new RedisNotificationBroker(redisTemplate, objectMapper, containerA);
+        nodeB = new RedisNotificationBroker(redisTemplate, objectMapper, containerB);
+        nodeB.subscribe(event -> {
+            receivedByB.add(event);
+            latch.countDown();
+        });
+        // 리스너를 등록한 뒤 시작해야 구독이 끝난 상태로 테스트가 시작된다
+        containerA.start();
+        containerB.start();
+    }
+
+    private static RedisMessageListenerContainer container() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        return container;
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        containerA.destroy();
+        containerB.destroy();
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        receivedByB.clear();
+    }
+
+    @Test
+    @DisplayName("한 노드에서 발행한 알림이 다른 노드의 구독자에게 전달된다")
+    void fanOutAcrossNodes() throws InterruptedException {
+        latch = new CountDownLatch(1);
+
+        String eventId = nodeA.publish("kim", Map.of("type", "READ", "notificationId", 7));
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        NotificationEvent event = receivedByB.get(0);
+        assertThat(event.username()).isEqualTo("kim");
+        assertThat(event.eventId()).isEqualTo(eventId).startsWith("kim_");
+        assertThat(event.data().toString()).contains("READ");
+    }
+
+    @Test
+    @DisplayName("마지막 이벤트 id 이후의 알림만 순서대로 재전송하고, 알 수 없는 id 면 전부 돌려준다")
+    void findAfterLastEventId() {
+        String first = nodeA.publish("kim", "first");
+        nodeB.publish("kim", "second");
+        nodeA.publish("kim", "third");
+
+        assertThat(nodeB.findAfter("kim", first, 10))
+                .extracting(event -> event.data().toString())
+                .containsExactly("\"second\"", "\"third\"");
+        assertThat(nodeB.findAfter("kim", "kim_1700000000000", 10)).hasSize(3);
+        assertThat(nodeB.findAfter("kim", "garbage", 2)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("회원별 stream 은 최근 이벤트만 남기고 만료 시간이 걸린다")
+    void streamIsBounded() {
+        // 근사 trim 이라 노드 단위(100개)로 잘리므로 충분히 많이 넣는다
+        for (int i = 0; i < 300; i++) {
+            nodeA.publish("kim", i);
+        }
+
+        Long length = redisTemplate.opsForStream().size("notification:stream:kim");
+        assertThat(length).isBetween(50L, 299L);
+        assertThat(redisTemplate.getExpire("notification:stream:kim")).isPositive();
+    }
+
+    @Test
+    @DisplayName("clear 하면 재전송할 이벤트가 남지 않는다")
+    void clear() {
+        nodeA.publish("kim", "first");
+
+        nodeB.clear("kim");
+
+        List<CachedEvent> events = nodeA.findAfter("kim", "", 10);
+        assertThat(events).isEmpty();
+    }
+}
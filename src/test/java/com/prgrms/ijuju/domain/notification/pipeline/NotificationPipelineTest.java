@@ -0,0 +1,96 @@
+package com.prgrms.ijuju.domain.notification.pipeline;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.notification.entity.Notification;
+import com.prgrms.ijuju.domain.notification.entity.NotificationType;
+import com.prgrms.ijuju.domain.notification.exception.NotificationException;
+import com.prgrms.ijuju.domain.notification.repository.NotificationJdbcRepository;
+import com.prgrms.ijuju.domain.notification.service.SseNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationPipelineTest {
+
+    private MemberRepository memberRepository;
+    private NotificationJdbcRepository notificationJdbcRepository;
+    private SseNotificationService sseNotificationService;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        memberRepository = mock(MemberRepository.class);
+        notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+        sseNotificationService = mock(SseNotificationService.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private NotificationPipeline pipeline(int queueCapacity) {
+        return new NotificationPipeline(memberRepository, notificationJdbcRepository, sseNotificationService,
+                transactionTemplate, queueCapacity, 100, 10, 1);
+    }
+
+    private static Member member(long id, String loginId, String username) {
+        return Member.builder().id(id).loginId(loginId).username(username).build();
+    }
+
+    @Test
+    @DisplayName("모인 요청은 회원 조회 2번과 batch insert 한 번으로 저장되고, 전달 실패는 다른 알림에 영향을 주지 않는다")
+    void processBatch() {
+        when(memberRepository.findAllByLoginIdIn(anyCollection()))
+                .thenReturn(List.of(member(1L, "sender", "보낸이")));
+        when(memberRepository.findAllByUsernameIn(anyCollection()))
+                .thenReturn(List.of(member(2L, "a", "kim"), member(3L, "b", "lee")));
+        when(notificationJdbcRepository.batchInsert(any(), any())).thenReturn(List.of(10L, 11L));
+        when(sseNotificationService.sendToMember(eq("kim"), any())).thenReturn(false);
+        when(sseNotificationService.sendToMember(eq("lee"), any())).thenReturn(true);
+
+        NotificationPipeline pipeline = pipeline(10);
+        pipeline.process(List.of(
+                new NotificationCommand("sender", "kim", NotificationType.FRIEND_REQUEST),
+                new NotificationCommand("sender", "lee", NotificationType.FRIEND_ACCEPT),
+                new NotificationCommand("sender", "unknown", NotificationType.FRIEND_REQUEST)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationJdbcRepository, times(1)).batchInsert(saved.capture(), any());
+        assertThat(saved.getValue()).extracting(Notification::getContent)
+                .containsExactly("보낸이님이 친구 요청을 보냈습니다.", "보낸이님이 친구 요청을 수락했습니다.");
+        verify(memberRepository, times(1)).findAllByUsernameIn(anyCollection());
+
+        verify(sseNotificationService).sendToMember(eq("lee"), any());
+        assertThat(pipeline.stats().persisted()).isEqualTo(2);
+        assertThat(pipeline.stats().delivered()).isEqualTo(1);
+        assertThat(pipeline.stats().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 요청을 거절한다")
+    void rejectWhenQueueFull() {
+        NotificationPipeline pipeline = pipeline(1);
+        pipeline.submit(new NotificationCommand("sender", "kim", NotificationType.FRIEND_REQUEST));
+
+        assertThatThrownBy(() -> pipeline.submit(new NotificationCommand("sender", "lee", NotificationType.FRIEND_REQUEST)))
+                .isInstanceOf(NotificationException.class);
+        assertThat(pipeline.stats().queueDepth()).isEqualTo(1);
+        assertThat(pipeline.stats().rejected()).isEqualTo(1);
+    }
+}
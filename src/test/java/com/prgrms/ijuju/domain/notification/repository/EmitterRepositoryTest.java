@@ -0,0 +1,67 @@
+package com.prgrms.ijuju.domain.notification.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmitterRepositoryTest {
+
+    private EmitterRepository emitterRepository;
+
+    @BeforeEach
+    void setUp() {
+        emitterRepository = new EmitterRepository();
+    }
+
+    @Test
+    @DisplayName("username 이 다른 회원의 접두사여도 emitter 와 이벤트가 섞이지 않는다")
+    void noPrefixCollision() {
+        emitterRepository.save("kim", "kim_1", new SseEmitter());
+        emitterRepository.save("kim2", "kim2_1", new SseEmitter());
+        emitterRepository.saveEventCache("kim2", "for kim2");
+
+        assertThat(emitterRepository.findAllEmitterByUsername("kim")).containsOnlyKeys("kim_1");
+        assertThat(emitterRepository.findEventCacheAfter("kim", "kim_0", 10)).isEmpty();
+
+        emitterRepository.deleteAllEmitterByUsername("kim");
+        assertThat(emitterRepository.findAllEmitterByUsername("kim2")).containsOnlyKeys("kim2_1");
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 이후의 이벤트만 오래된 순으로 재전송 대상이 된다")
+    void findAfterLastEventId() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(emitterRepository.saveEventCache("kim", "event-" + i));
+        }
+
+        assertThat(emitterRepository.findEventCacheAfter("kim", ids.get(1), 10))
+                .extracting(CachedEvent::data)
+                .containsExactly("event-2", "event-3", "event-4");
+        assertThat(emitterRepository.findEventCacheAfter("kim", ids.get(1), 2))
+                .extracting(CachedEvent::id)
+                .containsExactly(ids.get(2), ids.get(3));
+        assertThat(emitterRepository.findEventCacheAfter("kim", ids.get(4), 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 가득 차면 가장 오래된 이벤트부터 덮어쓴다")
+    void ringBufferOverwritesOldest() {
+        MemberEventBuffer buffer = new MemberEventBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, "kim_" + i, i, 0L);
+        }
+
+        assertThat(buffer.findAfter(0, 10)).extracting(CachedEvent::id)
+                .containsExactly("kim_3", "kim_4", "kim_5");
+        assertThat(buffer.findAfter(3, 10)).extracting(CachedEvent::id)
+                .containsExactly("kim_4", "kim_5");
+        assertThat(buffer.expireBefore(1L)).isZero();
+    }
+}
@@ -0,0 +1,151 @@
+package com.prgrms.ijuju.domain.notification.service;
+
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.notification.fanout.LocalNotificationBroker;
+import com.prgrms.ijuju.domain.notification.fanout.NotificationBroker;
+import com.prgrms.ijuju.domain.notification.repository.CachedEvent;
+import com.prgrms.ijuju.domain.notification.repository.EmitterRepository;
+import com.prgrms.ijuju.domain.notification.repository.NotificationRepository;
+import com.prgrms.ijuju.domain.notification.sse.SseConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 두 노드가 하나의 프로세스 내부 broker(Redis 대역)를 공유하는 구성
+class SseNotificationServiceTest {
+
+    private NotificationBroker broker;
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        broker = new LocalNotificationBroker(new EmitterRepository());
+        nodeA = new Node(broker);
+        nodeB = new Node(broker);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.connectionManager.shutdown();
+        nodeB.connectionManager.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드에 연결된 회원에게도 알림이 전달된다")
+    void deliverAcrossNodes() throws InterruptedException {
+        CountingEmitter emitter = nodeB.connect("kim", "kim_1");
+
+        nodeA.service.sendToMember("kim", "friend request");
+
+        assertThat(emitter.received.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재연결한 노드와 상관없이 공유 로그에서 놓친 이벤트를 이어서 받는다")
+    void replayFromSharedLog() {
+        nodeA.service.sendToMember("kim", "first");
+        nodeA.service.sendToMember("kim", "second");
+        nodeB.service.sendToMember("kim", "third");
+
+        List<CachedEvent> all = broker.findAfter("kim", "", 10);
+        assertThat(all).extracting(CachedEvent::data).containsExactly("first", "second", "third");
+        assertThat(broker.findAfter("kim", all.get(0).id(), 10))
+                .extracting(CachedEvent::data)
+                .containsExactly("second", "third");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 보낸 알림은 커밋 이후에만 발행된다")
+    void publishAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.service.sendToMember("kim", "read");
+            assertThat(broker.findAfter("kim", "", 10)).isEmpty();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(broker.findAfter("kim", "", 10)).extracting(CachedEvent::data).containsExactly("read");
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 알림은 발행되지 않는다")
+    void skipOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            nodeA.service.sendToMember("kim", "read");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(broker.findAfter("kim", "", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("broker 장애는 예외로 전파되지 않고 실패로만 보고된다")
+    void brokerFailureIsLogged() {
+        NotificationBroker failing = mock(NotificationBroker.class);
+        when(failing.publish(any(), any())).thenThrow(new IllegalStateException("redis down"));
+        Node node = new Node(failing);
+        try {
+            assertThat(node.service.sendToMember("kim", "read")).isFalse();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                assertThat(node.service.sendToMember("kim", "read")).isTrue();
+                TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        } finally {
+            node.connectionManager.shutdown();
+        }
+    }
+
+    private static class Node {
+        private final EmitterRepository emitterRepository = new EmitterRepository();
+        private final SseConnectionManager connectionManager = new SseConnectionManager(30_000, 16, 1);
+        private final SseNotificationService service;
+
+        private Node(NotificationBroker broker) {
+            service = new SseNotificationService(mock(NotificationRepository.class), mock(MemberRepository.class),
+                    emitterRepository, connectionManager, broker);
+            service.subscribeFanout();
+        }
+
+        private CountingEmitter connect(String username, String emitterId) {
+            CountingEmitter emitter = new CountingEmitter();
+            connectionManager.register(emitterId, emitter, () -> emitterRepository.deleteById(username, emitterId));
+            emitterRepository.save(username, emitterId, emitter);
+            return emitter;
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+        private final CountDownLatch received = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            received.countDown();
+        }
+    }
+}
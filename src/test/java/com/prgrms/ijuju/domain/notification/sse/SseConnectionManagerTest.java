@@ -0,0 +1,94 @@
+package com.prgrms.ijuju.domain.notification.sse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseConnectionManagerTest {
+
+    private SseConnectionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new SseConnectionManager(1000, 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+    }
+
+    @Test
+    @DisplayName("이벤트를 보내지 않은 연결에는 주기마다 하트비트가 전송된다")
+    void heartbeat() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        manager.register("user_1", emitter, () -> { });
+
+        assertThat(emitter.sent.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(manager.stats().sentEvents()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 대기열이 가득 찬 느린 연결은 끊기고 다른 연결은 계속 전송된다")
+    void dropSlowConnection() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        AtomicInteger closed = new AtomicInteger();
+        manager.register("slow_1", slow, closed::incrementAndGet);
+        manager.register("fast_1", fast, () -> { });
+
+        // 첫 이벤트가 전송 중에 막힌 동안 대기열(4)을 넘겨서 쌓는다
+        manager.send(slow, SseEmitter.event().data("first"));
+        assertThat(slow.sending.await(2, TimeUnit.SECONDS)).isTrue();
+        boolean accepted = true;
+        for (int i = 0; i < 5 && accepted; i++) {
+            accepted = manager.send(slow, SseEmitter.event().data(i));
+        }
+        assertThat(accepted).isFalse();
+        assertThat(manager.send(fast, SseEmitter.event().data("hello"))).isTrue();
+        assertThat(fast.sent.await(2, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(manager.send(slow, SseEmitter.event().data("after"))).isFalse();
+        assertThat(manager.stats().droppedConnections()).isEqualTo(1);
+        assertThat(manager.stats().connections()).isEqualTo(1);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch sent = new CountDownLatch(1);
+        private final List<SseEventBuilder> events = new CopyOnWriteArrayList<>();
+
+        private RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.add(builder);
+            sent.countDown();
+        }
+    }
+}
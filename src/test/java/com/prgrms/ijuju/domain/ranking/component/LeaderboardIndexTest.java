@@ -0,0 +1,116 @@
+package com.prgrms.ijuju.domain.ranking.component;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaderboardIndexTest {
+
+    private LeaderboardIndex leaderboardIndex;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardIndex = new LeaderboardIndex();
+        leaderboardIndex.rebuild(List.of(
+                new LeaderboardEntry(1L, "user1", 1000L),
+                new LeaderboardEntry(2L, "user2", 3000L),
+                new LeaderboardEntry(3L, "user3", 2000L),
+                new LeaderboardEntry(4L, "user4", 2000L),
+                new LeaderboardEntry(5L, "user5", null)
+        ));
+    }
+
+    @Test
+    @DisplayName("동점자는 같은 순위를 가진다")
+    void rankOf() {
+        assertThat(leaderboardIndex.rankOf(2L)).isEqualTo(1L);
+        assertThat(leaderboardIndex.rankOf(3L)).isEqualTo(2L);
+        assertThat(leaderboardIndex.rankOf(4L)).isEqualTo(2L);
+        assertThat(leaderboardIndex.rankOf(1L)).isEqualTo(4L);
+        assertThat(leaderboardIndex.rankOf(5L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 점수 내림차순, 회원 id 오름차순")
+    void page() {
+        List<LeaderboardIndex.RankedEntry> page = leaderboardIndex.page(1, 3);
+
+        assertThat(page).extracting(LeaderboardIndex.RankedEntry::memberId).containsExactly(3L, 4L, 1L);
+        assertThat(page).extracting(LeaderboardIndex.RankedEntry::rank).containsExactly(2L, 2L, 4L);
+        assertThat(leaderboardIndex.page(5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("포인트 변경 시 순위가 증분 갱신되고, 랭킹에 없는 회원은 건너뛴다")
+    void update() {
+        assertThat(leaderboardIndex.update(1L, "user1", 5000L)).isTrue();
+        assertThat(leaderboardIndex.update(6L, "user6", 2500L)).isFalse();
+
+        assertThat(leaderboardIndex.size()).isEqualTo(5);
+        assertThat(leaderboardIndex.rankOf(1L)).isEqualTo(1L);
+        assertThat(leaderboardIndex.find(6L)).isEmpty();
+        assertThat(leaderboardIndex.page(0, 2))
+                .extracting(LeaderboardIndex.RankedEntry::username)
+                .containsExactly("user1", "user2");
+    }
+
+    @Test
+    @DisplayName("랭킹에 없는 회원의 순위는 기존 쿼리처럼 1 이다")
+    void rankOfAbsentMember() {
+        assertThat(leaderboardIndex.rankOf(99L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재구성 중 들어온 변경은 새 인덱스로 교체한 뒤 다시 적용된다")
+    void replayChangesDuringRebuild() {
+        leaderboardIndex.rebuild(() -> {
+            // 적재 쿼리가 끝난 뒤 커밋된 변경
+            List<LeaderboardEntry> loaded = List.of(
+                    new LeaderboardEntry(1L, "user1", 1000L),
+                    new LeaderboardEntry(2L, "user2", 3000L));
+            leaderboardIndex.update(1L, "user1", 9000L);
+            return loaded;
+        });
+
+        assertThat(leaderboardIndex.find(1L)).get()
+                .extracting(LeaderboardEntry::weeklyPoints).isEqualTo(9000L);
+        assertThat(leaderboardIndex.rankOf(1L)).isEqualTo(1L);
+        assertThat(leaderboardIndex.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("내 주변 순위 조회")
+    void around() {
+        List<LeaderboardIndex.RankedEntry> around = leaderboardIndex.around(3L, 1);
+
+        assertThat(around).extracting(LeaderboardIndex.RankedEntry::memberId).containsExactly(2L, 3L, 4L);
+        assertThat(leaderboardIndex.around(99L, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("친구 랭킹은 전역 순위를 유지한 채 친구만 정렬한다")
+    void rankedSubset() {
+        List<LeaderboardIndex.RankedEntry> friends = leaderboardIndex.rankedSubset(new long[]{1L, 4L, 99L});
+
+        assertThat(friends).extracting(LeaderboardIndex.RankedEntry::memberId).containsExactly(4L, 1L);
+        assertThat(friends).extracting(LeaderboardIndex.RankedEntry::rank).containsExactly(2L, 4L);
+    }
+
+    @Test
+    @DisplayName("원장 순번이 이미 반영한 것보다 오래된 변경은 버린다")
+    void ignoreOlderVersion() {
+        assertThat(leaderboardIndex.update(1L, "user1", 5000L, 8L)).isTrue();
+        assertThat(leaderboardIndex.update(1L, "user1", 4000L, 7L)).isFalse();
+
+        assertThat(leaderboardIndex.find(1L)).get()
+                .extracting(LeaderboardEntry::weeklyPoints).isEqualTo(5000L);
+
+        assertThat(leaderboardIndex.update(1L, "user1", 6000L, 9L)).isTrue();
+        assertThat(leaderboardIndex.find(1L)).get()
+                .extracting(LeaderboardEntry::weeklyPoints).isEqualTo(6000L);
+    }
+}
@@ -0,0 +1,138 @@
+package com.prgrms.ijuju.domain.ranking.service;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.entity.Role;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.ranking.entity.Ranking;
+import com.prgrms.ijuju.domain.ranking.repository.RankingRepository;
+import com.prgrms.ijuju.domain.wallet.entity.Wallet;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 페이지 크기를 2로 줄여 여러 페이지에 걸친 재계산을 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(RankingRecomputeEngine.class)
+@TestPropertySource(properties = "ranking.recompute.page-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RankingRecomputeEngineTest {
+
+    @Autowired
+    private RankingRecomputeEngine engine;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private WalletRepository walletRepository;
+
+    @Autowired
+    private RankingRepository rankingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM ranking");
+        jdbcTemplate.update("DELETE FROM wallet");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    private Member member(String name) {
+        return memberRepository.save(Member.builder()
+                .loginId(name)
+                .pw("password")
+                .username(name)
+                .email(name + "@test.com")
+                .birth(LocalDate.of(2015, 3, 1))
+                .role(Role.USER)
+                .build());
+    }
+
+    private void wallet(Member member, long points) {
+        walletRepository.save(Wallet.builder()
+                .member(member)
+                .currentPoints(points)
+                .currentCoins(0L)
+                .build());
+    }
+
+    private void ranking(Member member, long weeklyPoints, LocalDateTime weekStart) {
+        rankingRepository.save(Ranking.builder()
+                .member(member)
+                .weekStart(weekStart)
+                .weekEnd(weekStart.plusDays(7))
+                .weeklyPoints(weeklyPoints)
+                .build());
+    }
+
+    private Long weeklyPoints(Member member) {
+        return jdbcTemplate.queryForObject("SELECT weekly_points FROM ranking WHERE member_id = ?",
+                Long.class, member.getId());
+    }
+
+    @Test
+    @DisplayName("이번 주에 만든 지갑의 포인트로 랭킹을 갱신·생성하고, 바뀐 행만 쓴다")
+    void recomputeAcrossPages() {
+        LocalDateTime weekStart = LocalDateTime.now().minusDays(1);
+        LocalDateTime weekEnd = weekStart.plusDays(7);
+
+        Member changed = member("changed");
+        wallet(changed, 100L);
+        ranking(changed, 50L, weekStart);
+
+        Member fresh = member("fresh");
+        wallet(fresh, 30L);
+
+        Member oldWallet = member("oldwallet");
+        wallet(oldWallet, 999L);
+        jdbcTemplate.update("UPDATE wallet SET created_at = ? WHERE member_id = ?",
+                Timestamp.valueOf(weekStart.minusDays(14)), oldWallet.getId());
+
+        Member unchanged = member("unchanged");
+        ranking(unchanged, 0L, weekStart);
+
+        RankingRecomputeEngine.RecomputeResult result = engine.recompute(weekStart, weekEnd);
+
+        assertThat(result.scanned()).isEqualTo(4);
+        assertThat(result.pages()).isEqualTo(2);
+        assertThat(result.updated()).isEqualTo(1);
+        assertThat(result.inserted()).isEqualTo(2);
+        assertThat(weeklyPoints(changed)).isEqualTo(100L);
+        assertThat(weeklyPoints(fresh)).isEqualTo(30L);
+        assertThat(weeklyPoints(oldWallet)).isZero();
+        assertThat(weeklyPoints(unchanged)).isZero();
+
+        // 다시 돌리면 바뀐 행이 없다
+        RankingRecomputeEngine.RecomputeResult again = engine.recompute(weekStart, weekEnd);
+        assertThat(again.updated()).isZero();
+        assertThat(again.inserted()).isZero();
+    }
+
+    @Test
+    @DisplayName("주 시작은 호출 시점이 속한 주의 월요일 09:00 이다")
+    void weekStartOfCallTime() {
+        assertThat(RankingService.weekStartOf(LocalDateTime.of(2024, 1, 3, 15, 30)))
+                .isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+        assertThat(RankingService.weekStartOf(LocalDateTime.of(2024, 1, 10, 8, 0)))
+                .isEqualTo(LocalDateTime.of(2024, 1, 8, 9, 0));
+    }
+}
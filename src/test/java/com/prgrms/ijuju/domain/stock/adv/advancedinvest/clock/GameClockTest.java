@@ -0,0 +1,78 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.clock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameClockTest {
+
+    private GameClock gameClock;
+
+    @BeforeEach
+    void setUp() {
+        gameClock = new GameClock(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameClock.shutdown();
+    }
+
+    @Test
+    @DisplayName("시작 초부터 1초마다 순서대로 틱이 발생하고 지연이 기록된다")
+    void ticksInOrder() throws InterruptedException {
+        List<Integer> seconds = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        gameClock.start(1L, 10, (gameId, second) -> {
+            seconds.add(second);
+            latch.countDown();
+        });
+
+        assertThat(latch.await(4, TimeUnit.SECONDS)).isTrue();
+        assertThat(seconds.subList(0, 3)).containsExactly(10, 11, 12);
+        assertThat(gameClock.lagOf(1L)).hasValueSatisfying(lag -> assertThat(lag.ticks()).isGreaterThanOrEqualTo(3));
+    }
+
+    @Test
+    @DisplayName("느린 게임이 다른 게임의 틱을 막지 않는다")
+    void slowGameDoesNotBlockOthers() throws InterruptedException {
+        CountDownLatch fastTicks = new CountDownLatch(2);
+
+        gameClock.start(1L, 0, (gameId, second) -> sleep(3000));
+        gameClock.start(2L, 0, (gameId, second) -> fastTicks.countDown());
+
+        assertThat(fastTicks.await(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("정지한 게임은 더 이상 틱이 발생하지 않는다")
+    void stop() throws InterruptedException {
+        List<Integer> seconds = new CopyOnWriteArrayList<>();
+        gameClock.start(1L, 0, (gameId, second) -> seconds.add(second));
+
+        Thread.sleep(300);
+        assertThat(gameClock.stop(1L)).isTrue();
+        int ticked = seconds.size();
+        Thread.sleep(1500);
+
+        assertThat(seconds).hasSize(ticked);
+        assertThat(gameClock.isRunning(1L)).isFalse();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
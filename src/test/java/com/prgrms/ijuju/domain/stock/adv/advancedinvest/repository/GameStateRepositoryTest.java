@@ -0,0 +1,127 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// RedisConfig 와 같은 직렬화 설정으로 프로세스 내부 Redis 에 붙여 스크립트를 검증한다
+class GameStateRepositoryTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private GameStateRepository repository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().serverCommands().flushAll();
+        repository = new GameStateRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("이미 상태가 있는 게임은 다시 만들지 않고, 만든 게임은 진행 중 목록에 공유된다")
+    void createOnce() {
+        assertThat(repository.create(1L, 10L, 0, "node-a")).isTrue();
+        assertThat(repository.create(1L, 10L, 30, "node-b")).isFalse();
+
+        assertThat(repository.find(1L)).get()
+                .extracting(GameStateRepository.GameState::node, GameStateRepository.GameState::second)
+                .containsExactly("node-a", 0);
+        assertThat(repository.findGameIdByMemberId(10L)).contains(1L);
+        assertThat(repository.findActiveGameIds()).containsExactly(1L);
+
+        repository.delete(1L, 10L);
+        assertThat(repository.findActiveGameIds()).isEmpty();
+        assertThat(repository.findGameIdByMemberId(10L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 상태를 읽은 두 노드 중 먼저 가져간 노드만 소유권을 얻는다")
+    void claimOnlyOnce() {
+        repository.create(1L, 10L, 42, "node-dead");
+        GameStateRepository.GameState seenByB = repository.find(1L).orElseThrow();
+        GameStateRepository.GameState seenByC = repository.find(1L).orElseThrow();
+
+        assertThat(repository.claim(seenByB, "node-b")).isTrue();
+        assertThat(repository.claim(seenByC, "node-c")).isFalse();
+        assertThat(repository.find(1L)).get()
+                .extracting(GameStateRepository.GameState::node).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("틱은 소유 노드에서만 기록되고, 일시정지·이전·종료된 게임은 구분해 알려준다")
+    void saveTick() {
+        repository.create(1L, 10L, 0, "node-a");
+
+        assertThat(repository.saveTick(1L, 1, "node-a", 3L)).isEqualTo(GameStateRepository.TickResult.OWNED);
+        assertThat(repository.find(1L)).get()
+                .extracting(GameStateRepository.GameState::second, GameStateRepository.GameState::lagMaxMillis)
+                .containsExactly(1, 3L);
+
+        assertThat(repository.saveTick(1L, 2, "node-b", 0L)).isEqualTo(GameStateRepository.TickResult.LOST);
+
+        repository.updatePaused(1L, true, "node-a");
+        assertThat(repository.saveTick(1L, 2, "node-a", 0L)).isEqualTo(GameStateRepository.TickResult.LOST);
+
+        repository.delete(1L, 10L);
+        assertThat(repository.saveTick(1L, 2, "node-a", 0L)).isEqualTo(GameStateRepository.TickResult.GONE);
+        assertThat(repository.find(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일시정지는 상태가 있는 게임에만 기록되고 기존 TTL 을 유지한다")
+    void pauseOnlyExistingGame() {
+        assertThat(repository.updatePaused(1L, true, "node-a")).isFalse();
+        assertThat(redisTemplate.hasKey("adv:game:1")).isFalse();
+
+        repository.create(1L, 10L, 0, "node-a");
+        assertThat(repository.updatePaused(1L, true, "node-b")).isTrue();
+
+        assertThat(repository.find(1L)).get()
+                .extracting(GameStateRepository.GameState::paused, GameStateRepository.GameState::node)
+                .containsExactly(true, "node-b");
+        assertThat(redisTemplate.getExpire("adv:game:1")).isPositive();
+    }
+}
@@ -0,0 +1,132 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.config;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 예전 @ElementCollection 테이블을 직접 만들어 두고 이전 결과를 확인한다
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import({LegacyCandleMigration.class, AdvCandleJdbcRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LegacyCandleMigrationTest {
+
+    private static final String[][] LEGACY = {
+            {"adv_stock_open_prices", "open_prices", "DOUBLE"},
+            {"adv_stock_high_prices", "high_prices", "DOUBLE"},
+            {"adv_stock_low_prices", "low_prices", "DOUBLE"},
+            {"adv_stock_close_prices", "close_prices", "DOUBLE"},
+            {"adv_stock_volumes", "volumes", "BIGINT"},
+            {"adv_stock_timestamps", "timestamps", "BIGINT"}
+    };
+
+    @Autowired
+    private LegacyCandleMigration migration;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        for (String[] legacy : LEGACY) {
+            jdbcTemplate.execute("CREATE TABLE " + legacy[0] + " (adv_stock_id BIGINT NOT NULL, "
+                    + legacy[1] + " " + legacy[2] + ")");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (String[] legacy : LEGACY) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + legacy[0]);
+        }
+        jdbcTemplate.update("DELETE FROM adv_candle");
+        jdbcTemplate.update("DELETE FROM adv_stock");
+    }
+
+    private void insertStock(long id, String symbol) {
+        jdbcTemplate.update("INSERT INTO adv_stock (id, symbol, name, data_type) VALUES (?, ?, ?, 'REFERENCE')",
+                id, symbol, symbol);
+    }
+
+    // 예전 매핑처럼 봉마다 6개 테이블에 한 행씩 넣는다
+    private void insertBar(long stockId, double close, long volume, long timestamp) {
+        Object[] values = {close - 1, close + 1, close - 2, close, volume, timestamp};
+        for (int i = 0; i < LEGACY.length; i++) {
+            jdbcTemplate.update("INSERT INTO " + LEGACY[i][0] + " (adv_stock_id, " + LEGACY[i][1] + ") VALUES (?, ?)",
+                    stockId, values[i]);
+        }
+    }
+
+    private Integer barCount(long stockId) {
+        return jdbcTemplate.queryForObject("SELECT bar_count FROM adv_stock WHERE id = ?", Integer.class, stockId);
+    }
+
+    private long legacyRows(long stockId) {
+        long rows = 0;
+        for (String[] legacy : LEGACY) {
+            rows += jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + legacy[0] + " WHERE adv_stock_id = ?", Long.class, stockId);
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("시간순으로 쌓인 예전 봉 데이터는 bar_index 순서대로 adv_candle 로 옮겨진다")
+    void migrateChronologicalBars() {
+        insertStock(1L, "AAPL");
+        insertBar(1L, 10, 100, 1_000);
+        insertBar(1L, 11, 110, 2_000);
+        insertBar(1L, 12, 120, 3_000);
+
+        migration.migrate();
+
+        List<Long> timestamps = jdbcTemplate.queryForList(
+                "SELECT bar_timestamp FROM adv_candle WHERE adv_stock_id = 1 ORDER BY bar_index", Long.class);
+        List<Double> closes = jdbcTemplate.queryForList(
+                "SELECT close_price FROM adv_candle WHERE adv_stock_id = 1 ORDER BY bar_index", Double.class);
+        assertThat(timestamps).containsExactly(1_000L, 2_000L, 3_000L);
+        assertThat(closes).containsExactly(10.0, 11.0, 12.0);
+        assertThat(barCount(1L)).isEqualTo(3);
+        assertThat(legacyRows(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("크기가 맞지 않거나 시간순이 아닌 종목은 건너뛴 것으로 표시되어 다음 실행에서 다시 다루지 않는다")
+    void markSkippedStocks() {
+        insertStock(2L, "MSFT");
+        insertBar(2L, 10, 100, 1_000);
+        jdbcTemplate.update("INSERT INTO adv_stock_volumes (adv_stock_id, volumes) VALUES (2, 999)");
+
+        insertStock(3L, "TSLA");
+        insertBar(3L, 10, 100, 2_000);
+        insertBar(3L, 11, 110, 1_000);
+
+        migration.migrate();
+
+        assertThat(barCount(2L)).isZero();
+        assertThat(barCount(3L)).isZero();
+        assertThat(legacyRows(2L)).isZero();
+        assertThat(legacyRows(3L)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM adv_candle", Long.class)).isZero();
+
+        // 다시 실행해도 대상이 없다
+        insertBar(3L, 12, 120, 3_000);
+        migration.migrate();
+        assertThat(legacyRows(3L)).isEqualTo(6);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM adv_candle", Long.class)).isZero();
+    }
+}
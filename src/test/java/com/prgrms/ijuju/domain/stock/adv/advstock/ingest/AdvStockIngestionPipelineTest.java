@@ -0,0 +1,115 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdvStockIngestionPipelineTest {
+
+    private static final String RESPONSE_JSON = """
+            {"adjusted":true,"queryCount":2,"status":"OK","ticker":"AAPL","results":[
+              {"c":10.5,"h":11.0,"l":9.5,"o":10.0,"t":1700000000000,"v":1000,"vw":10.2},
+              {"c":11.5,"h":12.0,"l":10.5,"o":10.5,"t":1700003600000,"v":1200,"vw":11.1}
+            ]}
+            """;
+
+    @TempDir
+    Path replayDir;
+
+    private AdvStockService advStockService;
+
+    @BeforeEach
+    void setUp() {
+        advStockService = mock(AdvStockService.class);
+        when(advStockService.openGeneration()).thenReturn(7L);
+    }
+
+    @Test
+    @DisplayName("replay 파일로 여러 종목을 동시에 수집하고 새 세대로 전환한다")
+    void ingestFromReplay() throws Exception {
+        Files.writeString(replayDir.resolve("default.json"), RESPONSE_JSON);
+        CandleSource source = new ReplayCandleSource(replayDir, new ObjectMapper());
+        AdvStockIngestionPipeline pipeline = new AdvStockIngestionPipeline(advStockService, source, null, 8, 3, 1);
+
+        IngestionReport report = pipeline.ingest(requests(50));
+
+        assertThat(report.activated()).isTrue();
+        assertThat(report.saved()).isEqualTo(150);
+        assertThat(report.failures()).isEmpty();
+        verify(advStockService, times(150))
+                .saveStockData(anyString(), anyString(), any(PolygonCandleResponse.class), any(DataType.class), eq(7L));
+        verify(advStockService).activateGeneration(7L);
+        verify(advStockService).purgeInactiveGenerations();
+    }
+
+    @Test
+    @DisplayName("429 응답은 백오프 후 재시도한다")
+    void retryOnTooManyRequests() throws Exception {
+        Files.writeString(replayDir.resolve("default.json"), RESPONSE_JSON);
+        CandleSource replay = new ReplayCandleSource(replayDir, new ObjectMapper());
+        AtomicInteger calls = new AtomicInteger();
+        CandleSource flaky = request -> {
+            if (calls.incrementAndGet() == 1) {
+                throw HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "rate limited", null, null, null);
+            }
+            return replay.fetch(request);
+        };
+        AdvStockIngestionPipeline pipeline = new AdvStockIngestionPipeline(advStockService, flaky, null, 1, 3, 1);
+
+        IngestionReport report = pipeline.ingest(requests(1));
+
+        assertThat(report.activated()).isTrue();
+        assertThat(calls.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Live 데이터 수집에 실패하면 세대를 전환하지 않고 폐기한다")
+    void discardWhenLiveFails() throws Exception {
+        Files.writeString(replayDir.resolve("default-REFERENCE.json"), RESPONSE_JSON);
+        Files.writeString(replayDir.resolve("default-FORECAST.json"), RESPONSE_JSON);
+        CandleSource source = new ReplayCandleSource(replayDir, new ObjectMapper());
+        AdvStockIngestionPipeline pipeline = new AdvStockIngestionPipeline(advStockService, source, null, 2, 3, 1);
+
+        IngestionReport report = pipeline.ingest(requests(2));
+
+        assertThat(report.activated()).isFalse();
+        assertThat(report.failures()).hasSize(2);
+        verify(advStockService, never()).activateGeneration(any());
+        verify(advStockService).discardGeneration(7L);
+        verify(advStockService).purgeInactiveGenerations();
+    }
+
+    private static List<CandleRequest> requests(int symbols) {
+        List<CandleRequest> requests = new ArrayList<>();
+        for (int i = 0; i < symbols; i++) {
+            String symbol = "SYM" + i;
+            requests.add(new CandleRequest(symbol, DataType.REFERENCE, 1, "hour", "2024-01-01", "2024-01-05"));
+            requests.add(new CandleRequest(symbol, DataType.LIVE, 1, "hour", "2024-01-08", "2024-01-08"));
+            requests.add(new CandleRequest(symbol, DataType.FORECAST, 1, "hour", "2024-01-09", "2024-01-26"));
+        }
+        return requests;
+    }
+}
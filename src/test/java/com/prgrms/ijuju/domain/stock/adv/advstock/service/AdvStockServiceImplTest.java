@@ -0,0 +1,72 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.service;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.GenerationStatus;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStockGeneration;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleJdbcRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvCandleRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockGenerationRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdvStockServiceImplTest {
+
+    private AdvStockRepository advStockRepository;
+    private AdvCandleRepository advCandleRepository;
+    private AdvStockGenerationRepository advStockGenerationRepository;
+    private AdvStockServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        advStockRepository = mock(AdvStockRepository.class);
+        advCandleRepository = mock(AdvCandleRepository.class);
+        advStockGenerationRepository = mock(AdvStockGenerationRepository.class);
+        service = new AdvStockServiceImpl(advStockRepository, advCandleRepository, mock(AdvCandleJdbcRepository.class),
+                advStockGenerationRepository, mock(ApplicationEventPublisher.class));
+    }
+
+    private static AdvStockGeneration generation(long id, GenerationStatus status) {
+        return AdvStockGeneration.builder().id(id).status(status).build();
+    }
+
+    @Test
+    @DisplayName("활성 세대가 있으면 비활성 세대와 함께 세대가 없는 예전 데이터도 지운다")
+    void purgeLegacyRowsOnceActivated() {
+        when(advStockGenerationRepository.findByStatusIn(any()))
+                .thenReturn(List.of(generation(1L, GenerationStatus.RETIRED)));
+        when(advStockGenerationRepository.findTopByStatusOrderByIdDesc(GenerationStatus.ACTIVE))
+                .thenReturn(Optional.of(generation(2L, GenerationStatus.ACTIVE)));
+        when(advStockRepository.deleteByGeneration(1L)).thenReturn(3);
+        when(advStockRepository.deleteLegacyGeneration()).thenReturn(4);
+
+        assertThat(service.purgeInactiveGenerations()).isEqualTo(7);
+        verify(advCandleRepository).deleteByStockGeneration(1L);
+        verify(advCandleRepository).deleteByStockLegacyGeneration();
+    }
+
+    @Test
+    @DisplayName("아직 전환된 적이 없으면 예전 데이터가 현재 데이터이므로 남겨 둔다")
+    void keepLegacyRowsBeforeFirstActivation() {
+        when(advStockGenerationRepository.findByStatusIn(any()))
+                .thenReturn(List.of(generation(1L, GenerationStatus.FAILED)));
+        when(advStockGenerationRepository.findTopByStatusOrderByIdDesc(GenerationStatus.ACTIVE))
+                .thenReturn(Optional.empty());
+
+        service.purgeInactiveGenerations();
+
+        verify(advCandleRepository, never()).deleteByStockLegacyGeneration();
+        verify(advStockRepository, never()).deleteLegacyGeneration();
+    }
+}
@@ -0,0 +1,50 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.service;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.exception.stockexception.DataNotFoundException;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.data.CandleSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MarketDataSnapshotServiceTest {
+
+    private static CandleSeries series(String symbol, DataType dataType) {
+        return new CandleSeries(symbol, symbol, dataType,
+                new double[]{1}, new double[]{1}, new double[]{1}, new double[]{1}, new long[]{1}, new long[]{1});
+    }
+
+    @Test
+    @DisplayName("빈 스냅샷은 간격을 두고 다시 읽고, 데이터가 들어오면 그 스냅샷을 쓴다")
+    void reloadEmptySnapshotWithInterval() {
+        AdvStockService advStockService = mock(AdvStockService.class);
+        when(advStockService.findSeriesByDataType(DataType.REFERENCE)).thenReturn(List.of());
+        when(advStockService.findSeriesByDataType(DataType.LIVE)).thenReturn(List.of());
+        MarketDataSnapshotService service = new MarketDataSnapshotService(advStockService);
+        service.initialize();
+
+        // 기동 직후 비어 있던 스냅샷은 첫 요청에서 한 번 다시 읽고, 간격 안의 요청은 DB 를 읽지 않는다
+        assertThatThrownBy(service::current).isInstanceOf(DataNotFoundException.class);
+        assertThatThrownBy(service::current).isInstanceOf(DataNotFoundException.class);
+        verify(advStockService, times(2)).findSeriesByDataType(DataType.REFERENCE);
+
+        when(advStockService.findSeriesByDataType(DataType.REFERENCE))
+                .thenReturn(List.of(series("AAPL", DataType.REFERENCE)));
+        AtomicLong lastReload = (AtomicLong) ReflectionTestUtils.getField(service, "lastReloadNanos");
+        lastReload.set(System.nanoTime() - MarketDataSnapshotService.EMPTY_RELOAD_INTERVAL_NANOS);
+
+        assertThat(service.current().find("AAPL", DataType.REFERENCE)).isPresent();
+        assertThat(service.current().find("AAPL", DataType.REFERENCE)).isPresent();
+        verify(advStockService, times(3)).findSeriesByDataType(DataType.REFERENCE);
+    }
+}
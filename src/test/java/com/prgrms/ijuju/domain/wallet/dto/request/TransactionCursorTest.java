@@ -0,0 +1,42 @@
+package com.prgrms.ijuju.domain.wallet.dto.request;
+
+import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
+import com.prgrms.ijuju.domain.wallet.exception.WalletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TransactionCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (createdAt, id) 가 나온다")
+    void roundTrip() {
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2024, 1, 1, 10, 0, 0, 123_456_000), 42L);
+
+        assertThat(cursor.encode()).isEqualTo("2024-01-01T10:00:00.123456_42");
+        assertThat(TransactionCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 위치로 본다")
+    void blankIsFirst() {
+        assertThat(TransactionCursor.decode(null)).isEqualTo(TransactionCursor.first());
+        assertThat(TransactionCursor.decode(" ")).isEqualTo(TransactionCursor.first());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"garbage", "2024-01-01T10:00:00_abc", "2024-13-01T10:00:00_1", "_1", "2024-01-01T10:00:00_"})
+    @DisplayName("형식이 잘못된 커서는 잘못된 요청으로 거절한다")
+    void rejectMalformed(String cursor) {
+        assertThatThrownBy(() -> TransactionCursor.decode(cursor))
+                .isInstanceOf(WalletException.class)
+                .extracting(e -> ((WalletException) e).getErrorCode())
+                .isEqualTo(WalletErrorCode.INVALID_REQUEST);
+    }
+}
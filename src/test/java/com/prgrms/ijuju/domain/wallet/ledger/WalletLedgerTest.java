@@ -0,0 +1,186 @@
+package com.prgrms.ijuju.domain.wallet.ledger;
+
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+import com.prgrms.ijuju.domain.wallet.exception.WalletErrorCode;
+import com.prgrms.ijuju.domain.wallet.exception.WalletException;
+import com.prgrms.ijuju.domain.wallet.repository.WalletLedgerJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class WalletLedgerTest {
+
+    @TempDir
+    Path walDir;
+
+    private WalletLedgerJdbcRepository repository;
+    private List<LedgerEntry> flushed;
+    private WalletLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(WalletLedgerJdbcRepository.class);
+        flushed = new CopyOnWriteArrayList<>();
+        when(repository.findCheckpoint(anyInt())).thenReturn(0L);
+        when(repository.findBalance(anyLong())).thenAnswer(invocation -> {
+            long memberId = invocation.getArgument(0);
+            return Optional.of(new LedgerBalance(memberId, memberId + 1000, "user" + memberId,
+                    LocalDateTime.now(), 1_000L, 0L, 0L));
+        });
+        doAnswer(invocation -> flushed.addAll(invocation.getArgument(1)))
+                .when(repository).flush(anyInt(), anyList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (ledger != null) {
+            ledger.stop();
+        }
+    }
+
+    private WalletLedger startLedger(int shards) throws Exception {
+        return startLedger(shards, 100_000);
+    }
+
+    private WalletLedger startLedger(int shards, long maxCachedBalances) throws Exception {
+        WalletLedger started = new WalletLedger(repository, true, shards, walDir.toString(), 20, 100, 1_000, 5_000,
+                maxCachedBalances);
+        started.start();
+        return started;
+    }
+
+    @Test
+    @DisplayName("여러 스레드의 동시 적립 / 사용이 회원별로 유실 없이 반영된다")
+    void concurrentUpdates() throws Exception {
+        ledger = startLedger(4);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < 8; t++) {
+            futures.add(clients.submit(() -> {
+                for (int i = 0; i < 250; i++) {
+                    long memberId = i % 10;
+                    ledger.apply(new LedgerCommand(memberId, TransactionType.EARNED, 3, PointType.GAME, "OX_QUIZ"));
+                    ledger.apply(new LedgerCommand(memberId, TransactionType.USED, 1, PointType.STOCK, "ADVANCED"));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        clients.shutdown();
+
+        // 회원당 8 * 25 번씩 +3, -1
+        for (long memberId = 0; memberId < 10; memberId++) {
+            assertThat(ledger.findBalance(memberId)).get()
+                    .extracting(LedgerBalance::currentPoints)
+                    .isEqualTo(1_000L + 8 * 25 * 2);
+        }
+
+        ledger.stop();
+        ledger = null;
+        assertThat(flushed).hasSize(8 * 250 * 2);
+    }
+
+    @Test
+    @DisplayName("돌려받은 잔액의 version 은 적용 순서대로 증가하므로 가장 큰 version 이 최종 잔액이다")
+    void versionFollowsApplyOrder() throws Exception {
+        ledger = startLedger(1);
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<Future<LedgerBalance>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            futures.add(clients.submit(() ->
+                    ledger.apply(new LedgerCommand(1L, TransactionType.EARNED, 1, PointType.GAME, "OX_QUIZ"))));
+        }
+        List<LedgerBalance> results = new ArrayList<>();
+        for (Future<LedgerBalance> future : futures) {
+            results.add(future.get());
+        }
+        clients.shutdown();
+
+        results.sort(Comparator.comparingLong(LedgerBalance::version));
+        assertThat(results).extracting(LedgerBalance::currentPoints).isSorted().doesNotHaveDuplicates();
+        assertThat(results.get(results.size() - 1).currentPoints())
+                .isEqualTo(ledger.findBalance(1L).orElseThrow().currentPoints())
+                .isEqualTo(1_200L);
+    }
+
+    @Test
+    @DisplayName("잔액보다 많이 사용하면 거절되고 잔액은 그대로다")
+    void rejectInsufficientPoints() throws Exception {
+        ledger = startLedger(2);
+
+        assertThatThrownBy(() -> ledger.apply(
+                new LedgerCommand(1L, TransactionType.USED, 5_000, PointType.STOCK, "ADVANCED")))
+                .isInstanceOf(WalletException.class)
+                .extracting("errorCode")
+                .isEqualTo(WalletErrorCode.POINT_INSUFFICIENT);
+
+        LedgerBalance balance = ledger.apply(
+                new LedgerCommand(1L, TransactionType.EXCHANGED, 500, PointType.EXCHANGE, "POINTS_TO_COINS"));
+        assertThat(balance.currentPoints()).isEqualTo(500L);
+        assertThat(balance.currentCoins()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("캐시에서 밀려나도 DB 에 반영되지 않은 잔액은 유지된다")
+    void keepUnflushedBalancesOverCacheLimit() throws Exception {
+        doThrow(new IllegalStateException("db down")).when(repository).flush(anyInt(), anyList());
+        ledger = startLedger(1, 1);
+
+        for (long memberId = 0; memberId < 50; memberId++) {
+            ledger.apply(new LedgerCommand(memberId, TransactionType.EARNED, 10, PointType.GAME, "OX_QUIZ"));
+        }
+        for (long memberId = 0; memberId < 50; memberId++) {
+            LedgerBalance balance = ledger.apply(
+                    new LedgerCommand(memberId, TransactionType.EARNED, 10, PointType.GAME, "OX_QUIZ"));
+            assertThat(balance.currentPoints()).isEqualTo(1_020L);
+        }
+    }
+
+    @Test
+    @DisplayName("DB 반영 전에 종료되면 재기동 시 WAL 로 다시 반영한다")
+    void recoverFromWal() throws Exception {
+        doThrow(new IllegalStateException("db down")).when(repository).flush(anyInt(), anyList());
+        ledger = startLedger(1);
+        ledger.apply(new LedgerCommand(7L, TransactionType.EARNED, 100, PointType.ATTENDANCE, "CHECKIN"));
+        ledger.stop();
+        ledger = null;
+
+        List<LedgerEntry> recovered = new ArrayList<>();
+        doAnswer(invocation -> recovered.addAll(invocation.getArgument(1)))
+                .when(repository).flush(anyInt(), anyList());
+        ledger = startLedger(1);
+
+        assertThat(recovered).singleElement()
+                .satisfies(entry -> {
+                    assertThat(entry.memberId()).isEqualTo(7L);
+                    assertThat(entry.pointsAfter()).isEqualTo(1_100L);
+                });
+    }
+}
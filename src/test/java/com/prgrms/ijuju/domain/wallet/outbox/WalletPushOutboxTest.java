@@ -0,0 +1,136 @@
+package com.prgrms.ijuju.domain.wallet.outbox;
+
+import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
+import com.prgrms.ijuju.domain.wallet.handler.WebSocketHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class WalletPushOutboxTest {
+
+    private WebSocketHandler webSocketHandler;
+    private List<WalletResponseDTO> sent;
+    private WalletPushOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        webSocketHandler = mock(WebSocketHandler.class);
+        sent = new CopyOnWriteArrayList<>();
+        outbox = new WalletPushOutbox(webSocketHandler, 1, 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outbox.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("전송이 밀리는 동안 쌓인 같은 회원의 알림은 최신 잔액 하나로 합쳐진다")
+    void coalescePendingUpdates() throws InterruptedException {
+        CountDownLatch firstSending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            if (sent.size() == 1) {
+                firstSending.countDown();
+                release.await(2, TimeUnit.SECONDS);
+            }
+            done.countDown();
+            return null;
+        }).when(webSocketHandler).sendPointUpdate(anyLong(), any());
+
+        outbox.stage(1L, 100L, 0L);
+        assertThat(firstSending.await(2, TimeUnit.SECONDS)).isTrue();
+        outbox.stage(1L, 200L, 0L);
+        outbox.stage(1L, 300L, 0L);
+        outbox.stage(1L, 400L, 1L);
+        release.countDown();
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(sent).extracting(WalletResponseDTO::getCurrentPoints).containsExactly(100L, 400L);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 중에 등록한 알림은 커밋 후에만, 롤백되면 보내지 않는다")
+    void deliverOnlyAfterCommit() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            delivered.countDown();
+            return null;
+        }).when(webSocketHandler).sendPointUpdate(anyLong(), any());
+
+        TransactionSynchronizationManager.initSynchronization();
+        outbox.stage(1L, 100L, 0L);
+        outbox.stage(2L, 500L, 0L);
+        Thread.sleep(100);
+        assertThat(sent).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        synchronizations.get(1).afterCommit();
+
+        assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(sent).extracting(WalletResponseDTO::getMemberId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("원장 순번이 더 낮은 잔액은 늦게 등록되어도 보내지 않는다")
+    void dropOlderLedgerVersion() throws InterruptedException {
+        CountDownLatch delivered = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            sent.add(invocation.getArgument(1));
+            delivered.countDown();
+            return null;
+        }).when(webSocketHandler).sendPointUpdate(anyLong(), any());
+
+        outbox.stage(1L, 7L, 300L, 0L);
+        assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+        outbox.stage(1L, 6L, 200L, 0L);
+        Thread.sleep(200);
+
+        assertThat(sent).extracting(WalletResponseDTO::getCurrentPoints).containsExactly(300L);
+    }
+
+    @Test
+    @DisplayName("마지막 전송 순번은 최근 회원 수만큼만 기억한다")
+    void boundTrackedMembers() throws InterruptedException {
+        WalletPushOutbox bounded = new WalletPushOutbox(webSocketHandler, 1, 2);
+        CountDownLatch delivered = new CountDownLatch(3);
+        doAnswer(invocation -> {
+            delivered.countDown();
+            return null;
+        }).when(webSocketHandler).sendPointUpdate(anyLong(), any());
+
+        try {
+            bounded.stage(1L, 100L, 0L);
+            bounded.stage(2L, 200L, 0L);
+            bounded.stage(3L, 300L, 0L);
+
+            assertThat(delivered.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(bounded.trackedCount()).isEqualTo(2);
+        } finally {
+            bounded.shutdown();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.prgrms.ijuju.domain.wallet.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.wallet.dto.request.TransactionCursor;
+import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionPageResponseDTO;
+import com.prgrms.ijuju.domain.wallet.dto.response.PointTransactionResponseDTO;
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+import com.prgrms.ijuju.domain.wallet.exception.WalletException;
+import com.prgrms.ijuju.domain.wallet.outbox.WalletPushOutbox;
+import com.prgrms.ijuju.domain.wallet.repository.ExchangeTransactionRepository;
+import com.prgrms.ijuju.domain.wallet.repository.PointTransactionRepository;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// /history/page, /history/export 가 쓰는 커서 페이지 조회와 NDJSON 내보내기
+class TransactionHistoryPageTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+
+    private PointTransactionRepository pointTransactionRepository;
+    private TransactionService transactionService;
+
+    @BeforeEach
+    void setUp() {
+        pointTransactionRepository = mock(PointTransactionRepository.class);
+        transactionService = new TransactionService(pointTransactionRepository, mock(ExchangeTransactionRepository.class),
+                mock(WalletRepository.class), mock(WalletPushOutbox.class), new ObjectMapper().findAndRegisterModules());
+    }
+
+    // 최신순(id 내림차순)으로 from 부터 count 건
+    private static List<PointTransactionResponseDTO> rows(long from, int count) {
+        List<PointTransactionResponseDTO> rows = new ArrayList<>(count);
+        for (long id = from; id > from - count; id--) {
+            rows.add(new PointTransactionResponseDTO(id, MEMBER_ID, TransactionType.EARNED, 10L,
+                    PointType.ATTENDANCE, null, "출석", BASE.plusSeconds(id)));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("요청 크기보다 한 건 더 조회되면 다음 페이지가 있고, 마지막 거래 위치가 다음 커서가 된다")
+    void pageWithNext() {
+        when(pointTransactionRepository.findPageBefore(eq(MEMBER_ID), any(), any(), eq(PageRequest.of(0, 3))))
+                .thenReturn(rows(10, 3));
+
+        PointTransactionPageResponseDTO page = transactionService.showTransactionPage(MEMBER_ID, null, null, null, 2);
+
+        assertThat(page.getTransactions()).extracting(PointTransactionResponseDTO::getId).containsExactly(10L, 9L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(TransactionCursor.decode(page.getNextCursor())).isEqualTo(new TransactionCursor(BASE.plusSeconds(9), 9L));
+    }
+
+    @Test
+    @DisplayName("받은 커서 위치부터 조회하고, 남은 거래가 요청 크기 이하이면 마지막 페이지다")
+    void lastPage() {
+        TransactionCursor cursor = new TransactionCursor(BASE.plusSeconds(9), 9L);
+        when(pointTransactionRepository.findPageByPointTypeBefore(
+                MEMBER_ID, PointType.ATTENDANCE, cursor.createdAt(), cursor.id(), PageRequest.of(0, 3)))
+                .thenReturn(rows(8, 2));
+
+        PointTransactionPageResponseDTO page = transactionService.showTransactionPage(
+                MEMBER_ID, null, PointType.ATTENDANCE, cursor.encode(), 2);
+
+        assertThat(page.getTransactions()).extracting(PointTransactionResponseDTO::getId).containsExactly(8L, 7L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("거래 유형과 포인트 유형을 함께 지정하거나 커서가 잘못되면 거절한다")
+    void rejectInvalidRequest() {
+        assertThatThrownBy(() -> transactionService.showTransactionPage(
+                MEMBER_ID, TransactionType.EARNED, PointType.ATTENDANCE, null, 20))
+                .isInstanceOf(WalletException.class);
+        assertThatThrownBy(() -> transactionService.showTransactionPage(MEMBER_ID, null, null, "garbage", 20))
+                .isInstanceOf(WalletException.class);
+    }
+
+    @Test
+    @DisplayName("내보내기는 페이지 단위로 이어 읽으며 거래마다 한 줄씩 쓴다")
+    void exportAllPages() throws IOException {
+        int pageSize = TransactionService.EXPORT_PAGE_SIZE;
+        List<PointTransactionResponseDTO> firstPage = rows(pageSize + 1, pageSize);
+        PointTransactionResponseDTO last = firstPage.get(pageSize - 1);
+        TransactionCursor first = TransactionCursor.first();
+        when(pointTransactionRepository.findPageBefore(
+                MEMBER_ID, first.createdAt(), first.id(), PageRequest.of(0, pageSize)))
+                .thenReturn(firstPage);
+        when(pointTransactionRepository.findPageBefore(
+                MEMBER_ID, last.getCreatedAt(), last.getId(), PageRequest.of(0, pageSize)))
+                .thenReturn(rows(1, 1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        transactionService.exportTransactionHistory(MEMBER_ID, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(pageSize + 1);
+        assertThat(lines[0]).contains("\"id\":" + (pageSize + 1));
+        assertThat(lines[pageSize]).contains("\"id\":1");
+        verify(pointTransactionRepository).findPageBefore(
+                MEMBER_ID, last.getCreatedAt(), last.getId(), PageRequest.of(0, pageSize));
+    }
+}
@@ -0,0 +1,76 @@
+package com.prgrms.ijuju.global.auth;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenVerifierTest {
+
+    private static final SecretKey KEY =
+            Keys.hmacShaKeyFor("test-secret-key-for-token-verifier-0123456789".getBytes(StandardCharsets.UTF_8));
+
+    private TokenVerifier tokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        tokenVerifier = new TokenVerifier(Jwts.parser().verifyWith(KEY).build(), 100);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰은 SecurityUser 와 함께 캐시되어 같은 결과를 돌려준다")
+    void cachesVerifiedToken() {
+        String token = token(1L, System.currentTimeMillis() + 60_000);
+
+        VerifiedToken first = tokenVerifier.verify(token);
+        VerifiedToken second = tokenVerifier.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.memberId()).isEqualTo(1L);
+        assertThat(first.user().getUsername()).isEqualTo("user1");
+        assertThat(first.user().getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        assertThat(tokenVerifier.cachedTokens()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서명이 바뀐 토큰은 캐시하지 않고 예외를 던진다")
+    void rejectsTamperedToken() {
+        String token = token(1L, System.currentTimeMillis() + 60_000);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThatThrownBy(() -> tokenVerifier.verify(tampered)).isInstanceOf(SignatureException.class);
+        assertThat(tokenVerifier.cachedTokens()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시에 있었더라도 다시 검증해 거부한다")
+    void doesNotServeExpiredToken() throws InterruptedException {
+        String token = token(1L, System.currentTimeMillis() + 1_500);
+        tokenVerifier.verify(token);
+
+        Thread.sleep(2_000);
+
+        assertThatThrownBy(() -> tokenVerifier.verify(token)).isInstanceOf(ExpiredJwtException.class);
+    }
+
+    static String token(long id, long expiresAtMillis) {
+        return Jwts.builder()
+                .claim("data", Map.of("id", String.valueOf(id), "loginId", "user" + id, "authorities", List.of("ROLE_USER")))
+                .issuedAt(new Date())
+                .expiration(new Date(expiresAtMillis))
+                .signWith(KEY)
+                .compact();
+    }
+}
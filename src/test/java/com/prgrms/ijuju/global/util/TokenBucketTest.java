@@ -0,0 +1,36 @@
+package com.prgrms.ijuju.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("capacity 만큼은 바로 허용하고 이후에는 거절한다")
+    void burstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, TimeUnit.HOURS);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("acquire 는 토큰이 채워질 때까지 대기한다")
+    void acquireWaitsForRefill() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1, 50, TimeUnit.MILLISECONDS);
+        bucket.acquire();
+
+        long startedAt = System.nanoTime();
+        bucket.acquire();
+        bucket.acquire();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(90);
+    }
+}